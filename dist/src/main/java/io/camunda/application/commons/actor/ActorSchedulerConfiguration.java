@@ -9,8 +9,11 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.TimerQueueType;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +55,9 @@ public final class ActorSchedulerConfiguration {
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
+            .setPartitionAffinityEnabled(schedulerConfiguration.partitionAffinityEnabled())
+            .setAffinityStealDelay(schedulerConfiguration.affinityStealDelay())
+            .setTimerQueueType(schedulerConfiguration.timerQueueType())
             .build();
     scheduler.start();
 
@@ -63,5 +69,26 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      boolean partitionAffinityEnabled,
+      Duration affinityStealDelay,
+      TimerQueueType timerQueueType) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          schedulerPrefix,
+          nodeId,
+          false,
+          ActorSchedulerBuilder.DEFAULT_AFFINITY_STEAL_DELAY,
+          TimerQueueType.DEADLINE_WHEEL);
+    }
+  }
 }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,12 +58,22 @@ public class JobHandlerConfiguration {
   public ActivateJobsHandler<JobActivationResult> activateJobsHandler() {
     final var handler = buildActivateJobsHandler(brokerClient);
     final var future = new CompletableFuture<ActivateJobsHandler<JobActivationResult>>();
-    final var actor =
-        Actor.newActor()
-            .name(config.actorName())
-            .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
-            .build();
-    scheduler.submitActor(actor);
+    final var actorCount = handler.getActorCount();
+    final var pendingActors = new AtomicInteger(actorCount);
+    for (int i = 0; i < actorCount; i++) {
+      final var actor =
+          Actor.newActor()
+              .name(actorCount == 1 ? config.actorName() : config.actorName() + "-" + i)
+              .actorStartedHandler(
+                  handler.andThen(
+                      t -> {
+                        if (pendingActors.decrementAndGet() == 0) {
+                          future.complete(handler);
+                        }
+                      }))
+              .build();
+      scheduler.submitActor(actor);
+    }
     return handler;
   }
 
@@ -93,6 +104,7 @@ public class JobHandlerConfiguration {
         .setLongPollingTimeout(config.longPolling().getTimeout())
         .setProbeTimeoutMillis(config.longPolling().getProbeTimeout())
         .setMinEmptyResponses(config.longPolling().getMinEmptyResponses())
+        .setShards(config.longPolling().getShards())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
@@ -311,6 +311,12 @@ public class MessagingConfig implements Config {
   public enum CompressionAlgorithm {
     GZIP,
     NONE,
-    SNAPPY
+    SNAPPY,
+    /**
+     * Compresses each connection as a single zstd stream, such that content repeated across
+     * messages is only sent once. Negotiated during the handshake: if the other side is not
+     * configured with it, the connection is not compressed.
+     */
+    ZSTD
   }
 }
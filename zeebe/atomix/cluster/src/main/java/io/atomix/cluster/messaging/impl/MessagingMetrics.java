@@ -26,4 +26,6 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void countCompressedBytes(int rawBytes, int compressedBytes);
 }
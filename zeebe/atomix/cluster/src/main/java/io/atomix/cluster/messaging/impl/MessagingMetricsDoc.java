@@ -142,6 +142,50 @@ public enum MessagingMetricsDoc implements ExtendedMeterDocumentation {
     public String getDescription() {
       return "The count of inflight requests";
     }
+  },
+  /** Number of bytes written to compressed connections, before compression */
+  COMPRESSION_RAW_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.compression.raw.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of bytes written to compressed connections, before compression";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+  },
+  /** Number of bytes written to compressed connections, after compression */
+  COMPRESSION_COMPRESSED_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.compression.compressed.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of bytes written to compressed connections, after compression";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
   };
 
   enum MessagingKeyNames implements KeyName {
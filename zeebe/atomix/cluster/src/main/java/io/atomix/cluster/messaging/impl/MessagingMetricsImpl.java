@@ -39,6 +39,8 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private final Table<String, String, Counter> requestRespCounter;
   private final Map3D<String, String, String, Counter> responseCounter;
   private final Table<String, String, Counter> inFlightCounter;
+  private final Counter compressionRawBytes;
+  private final Counter compressionCompressedBytes;
 
   MessagingMetricsImpl(final MeterRegistry registry) {
     this.registry = registry;
@@ -48,6 +50,8 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     requestRespCounter = Table.concurrent();
     responseCounter = Map3D.concurrent();
     inFlightCounter = Table.concurrent();
+    compressionRawBytes = registerCounter(COMPRESSION_RAW_BYTES);
+    compressionCompressedBytes = registerCounter(COMPRESSION_COMPRESSED_BYTES);
   }
 
   @Override
@@ -99,6 +103,12 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     inFlightCounter.computeIfAbsent(address, topic, this::registerInFlightCounter).increment(-1.0D);
   }
 
+  @Override
+  public void countCompressedBytes(final int rawBytes, final int compressedBytes) {
+    compressionRawBytes.increment(rawBytes);
+    compressionCompressedBytes.increment(compressedBytes);
+  }
+
   private DistributionSummary getRequestSizeSummary(final String to, final String name) {
     return requestSize.computeIfAbsent(
         to,
@@ -154,6 +164,13 @@ final class MessagingMetricsImpl implements MessagingMetrics {
         .register(registry);
   }
 
+  private Counter registerCounter(final MessagingMetricsDoc meterDoc) {
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .baseUnit(meterDoc.getBaseUnit())
+        .register(registry);
+  }
+
   private Counter registerInFlightCounter(final String address, final String topic) {
     return Counter.builder(IN_FLIGHT_REQUESTS.getName())
         .description(IN_FLIGHT_REQUESTS.getDescription())
@@ -24,6 +24,7 @@ import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.utils.concurrent.OrderedFuture;
@@ -174,8 +175,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final MeterRegistry registry) {
     preamble = cluster.hashCode();
     this.advertisedAddress = advertisedAddress;
-    this.protocolVersion = protocolVersion;
     this.config = verifyHeartbeatConfig(config);
+    this.protocolVersion = supportedVersion(protocolVersion);
     // pool of client connections
     channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
     this.actorSchedulerName = actorSchedulerName;
@@ -935,6 +936,19 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  /**
+   * Stream compression is only used when both sides are configured with it; when it is not
+   * configured here, the latest version without it is used instead.
+   */
+  private ProtocolVersion supportedVersion(final ProtocolVersion version) {
+    if (version.isStreamCompressed()
+        && config.getCompressionAlgorithm() != CompressionAlgorithm.ZSTD) {
+      return ProtocolVersion.V2;
+    }
+
+    return version;
+  }
+
   @VisibleForTesting
   void enableHeartbeatsForwarding() {
     forwardHeartbeats = true;
@@ -972,6 +986,9 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(new SnappyFrameEncoder());
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
+        case ZSTD:
+          // negotiated during the handshake, see ProtocolVersion#isStreamCompressed
+          break;
         case NONE:
           break;
         default:
@@ -1008,6 +1025,9 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(new SnappyFrameEncoder());
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
+        case ZSTD:
+          // negotiated during the handshake, see ProtocolVersion#isStreamCompressed
+          break;
         case NONE:
           break;
         default:
@@ -1068,6 +1088,10 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final boolean isClient) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
       context.pipeline().remove(this);
+      if (protocolVersion.isStreamCompressed()) {
+        context.pipeline().addLast("compression-encoder", new ZstdStreamEncoder(messagingMetrics));
+        context.pipeline().addLast("compression-decoder", new ZstdStreamDecoder());
+      }
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
 
@@ -1170,6 +1194,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
                 if (protocolVersion == null) {
                   protocolVersion = ProtocolVersion.latest();
                 }
+                protocolVersion = supportedVersion(protocolVersion);
                 writeProtocolVersion(context, protocolVersion);
                 activateProtocolVersion(
                     context,
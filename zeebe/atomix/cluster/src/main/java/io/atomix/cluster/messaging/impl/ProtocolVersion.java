@@ -32,12 +32,29 @@ public enum ProtocolVersion {
     public MessagingProtocol createProtocol(final Address address) {
       return new MessagingProtocolV2(address);
     }
+  },
+  /**
+   * The V2 messaging protocol over a zstd compressed stream. Only used if both sides are configured
+   * with {@link io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm#ZSTD}, otherwise
+   * the connection falls back to V2.
+   */
+  V3(3, true) {
+    @Override
+    public MessagingProtocol createProtocol(final Address address) {
+      return new MessagingProtocolV2(address);
+    }
   };
 
   private final short version;
+  private final boolean streamCompressed;
 
   ProtocolVersion(final int version) {
+    this(version, false);
+  }
+
+  ProtocolVersion(final int version, final boolean streamCompressed) {
     this.version = (short) version;
+    this.streamCompressed = streamCompressed;
   }
 
   /**
@@ -68,6 +85,15 @@ public enum ProtocolVersion {
     return version;
   }
 
+  /**
+   * Returns whether all bytes sent over the connection are compressed as a single stream.
+   *
+   * @return true if the connection is stream compressed, false otherwise
+   */
+  public boolean isStreamCompressed() {
+    return streamCompressed;
+  }
+
   /**
    * Creates a new protocol instance.
    *
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.github.luben.zstd.ZstdDecompressCtx;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.util.List;
+
+/**
+ * Decompresses the zstd stream written by a {@link ZstdStreamEncoder} on the other side of the
+ * connection. The decompression context is kept for the lifetime of the connection, as later blocks
+ * reference the content of earlier ones. The decompressed bytes are passed on as they come; framing
+ * them into messages is left to the message decoder.
+ */
+final class ZstdStreamDecoder extends ByteToMessageDecoder {
+  private static final int MIN_CHUNK_SIZE = 4 * 1024;
+  private static final int MAX_CHUNK_SIZE = 128 * 1024;
+
+  private final ZstdDecompressCtx context = new ZstdDecompressCtx();
+
+  @Override
+  protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+    final int compressedBytes = in.readableBytes();
+    // zstd works on direct memory only, and nioBuffer() copies buffers with multiple components
+    final var source =
+        in.isDirect() && in.nioBufferCount() == 1
+            ? in
+            : ctx.alloc()
+                .directBuffer(compressedBytes)
+                .writeBytes(in, in.readerIndex(), compressedBytes);
+    final int chunkSize = Math.clamp(compressedBytes * 4L, MIN_CHUNK_SIZE, MAX_CHUNK_SIZE);
+
+    try {
+      final var src = source.nioBuffer();
+      boolean outputFull;
+      do {
+        final var chunk = ctx.alloc().directBuffer(chunkSize);
+        final var dst = chunk.nioBuffer(0, chunkSize);
+        try {
+          context.decompressDirectByteBufferStream(dst, src);
+        } catch (final RuntimeException e) {
+          chunk.release();
+          throw e;
+        }
+        outputFull = !dst.hasRemaining();
+
+        if (dst.position() > 0) {
+          out.add(chunk.writerIndex(dst.position()));
+        } else {
+          chunk.release();
+        }
+      } while (src.hasRemaining() || outputFull);
+
+      in.skipBytes(compressedBytes);
+    } finally {
+      if (source != in) {
+        source.release();
+      }
+    }
+  }
+
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext ctx) throws Exception {
+    context.close();
+    super.handlerRemoved0(ctx);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.github.luben.zstd.EndDirective;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Compresses all bytes written to a connection as a single zstd stream. Unlike a per-message codec,
+ * the compression context is kept for the lifetime of the connection, so repeated content of
+ * previous messages - e.g. MessagePack keys, BPMN element ids, topic names - is referenced instead
+ * of being sent again. The stream is flushed after each message, such that the receiver can
+ * decompress it right away.
+ */
+final class ZstdStreamEncoder extends MessageToByteEncoder<ByteBuf> {
+  static final int COMPRESSION_LEVEL = 3;
+
+  private final ZstdCompressCtx context = new ZstdCompressCtx().setLevel(COMPRESSION_LEVEL);
+  private final MessagingMetrics metrics;
+
+  ZstdStreamEncoder(final MessagingMetrics metrics) {
+    super(ByteBuf.class, true);
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected void encode(final ChannelHandlerContext ctx, final ByteBuf msg, final ByteBuf out) {
+    final int rawBytes = msg.readableBytes();
+    final int startIndex = out.writerIndex();
+    // zstd works on direct memory only, and nioBuffer() copies buffers with multiple components
+    final var source =
+        msg.isDirect() && msg.nioBufferCount() == 1
+            ? msg
+            : ctx.alloc().directBuffer(rawBytes).writeBytes(msg, msg.readerIndex(), rawBytes);
+
+    try {
+      final var src = source.nioBuffer();
+      boolean flushed;
+      do {
+        out.ensureWritable(Math.max(64, (int) Zstd.compressBound(src.remaining())));
+        final var dst = out.nioBuffer(out.writerIndex(), out.writableBytes());
+        flushed = context.compressDirectByteBufferStream(dst, src, EndDirective.FLUSH);
+        out.writerIndex(out.writerIndex() + dst.position());
+      } while (!flushed);
+
+      msg.skipBytes(msg.readableBytes());
+      metrics.countCompressedBytes(rawBytes, out.writerIndex() - startIndex);
+    } finally {
+      if (source != msg) {
+        source.release();
+      }
+    }
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+    context.close();
+    super.handlerRemoved(ctx);
+  }
+}
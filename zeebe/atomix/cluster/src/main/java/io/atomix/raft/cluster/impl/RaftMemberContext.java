@@ -20,11 +20,15 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +39,9 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
+  // chunk ids of the install requests sent to the member, in the order they were sent
+  private final Deque<ByteBuffer> inFlightSnapshotChunks = new ArrayDeque<>();
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,19 +55,23 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private boolean exclusiveInstallInFlight;
+  private InstallRequest deferredInstallRequest;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Map<String, Long> reusedSnapshotChunks;
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +85,7 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    abortInstalls();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -231,17 +242,83 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && !exclusiveInstallInFlight
+        && inFlightSnapshotChunks.size() < maxInstallsPerMember;
+  }
+
+  /**
+   * Returns a boolean indicating whether any install request to the member is awaiting a response.
+   *
+   * @return Indicates whether any install request to the member is in flight.
+   */
+  public boolean hasInstallsInFlight() {
+    return !inFlightSnapshotChunks.isEmpty();
+  }
+
+  /**
+   * Starts an install request to the member.
+   *
+   * @param chunkId The ID of the snapshot chunk sent with the request.
+   * @param exclusive Whether no other install request may be sent until this one is completed.
+   */
+  public void startInstall(final ByteBuffer chunkId, final boolean exclusive) {
+    inFlightSnapshotChunks.addLast(chunkId);
+    exclusiveInstallInFlight |= exclusive;
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Completes an install request to the member.
+   *
+   * @param chunkId The ID of the snapshot chunk sent with the request.
+   * @return false if the request was aborted before, i.e. it is not in flight anymore
+   */
+  public boolean completeInstall(final ByteBuffer chunkId) {
+    final boolean completed = inFlightSnapshotChunks.remove(chunkId);
+    if (inFlightSnapshotChunks.isEmpty()) {
+      exclusiveInstallInFlight = false;
+    }
+    return completed;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /**
+   * Returns the ID of the oldest snapshot chunk which was sent to the member but not acknowledged
+   * yet, or null if there is none. Chunks are sent in order, so every chunk before it was received
+   * by the member.
+   *
+   * @return The ID of the oldest snapshot chunk in flight.
+   */
+  public ByteBuffer getOldestSnapshotChunkInFlight() {
+    return inFlightSnapshotChunks.peekFirst();
+  }
+
+  /**
+   * Aborts all install requests to the member. Responses to aborted requests are ignored, and a
+   * deferred install request is discarded.
+   */
+  public void abortInstalls() {
+    inFlightSnapshotChunks.clear();
+    exclusiveInstallInFlight = false;
+    deferredInstallRequest = null;
+  }
+
+  /**
+   * Returns the install request which was deferred until all other install requests to the member
+   * are completed, or null if there is none.
+   *
+   * @return The deferred install request.
+   */
+  public InstallRequest getDeferredInstallRequest() {
+    return deferredInstallRequest;
+  }
+
+  /**
+   * Defers the given install request until all other install requests to the member are completed.
+   *
+   * @param deferredInstallRequest The install request to defer, or null to clear it.
+   */
+  public void setDeferredInstallRequest(final InstallRequest deferredInstallRequest) {
+    this.deferredInstallRequest = deferredInstallRequest;
   }
 
   /**
@@ -277,7 +354,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightSnapshotChunks.size())
         .add("failures", failures)
         .toString();
   }
@@ -460,6 +537,21 @@ public final class RaftMemberContext {
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
     this.snapshotChunkReader = snapshotChunkReader;
+    reusedSnapshotChunks = null;
+  }
+
+  /**
+   * Returns the chunks of the snapshot being sent which the member reuses from its latest snapshot,
+   * and are thus not read by the {@link #getSnapshotChunkReader() snapshot chunk reader}.
+   *
+   * @return the checksums of the reused chunks by name, or null if not determined yet
+   */
+  public Map<String, Long> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  public void setReusedSnapshotChunks(final Map<String, Long> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
   }
 
   public boolean hasNextEntry() {
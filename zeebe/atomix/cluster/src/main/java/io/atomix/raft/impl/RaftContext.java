@@ -94,6 +94,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -430,6 +431,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -551,24 +556,82 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
    */
   public long setCommitIndex(final long commitIndex) {
     checkArgument(commitIndex >= 0, "commitIndex must be positive");
+    if (commitIndex > this.commitIndex && isLeader()) {
+      // leader counts itself in quorum, so in order to commit the leader must persist
+      try {
+        raftLog.flush();
+      } catch (final FlushException e) {
+        throw onLeaderFlushFailed(commitIndex, e);
+      }
+    }
+
+    return updateCommitIndex(commitIndex);
+  }
+
+  /**
+   * Sets the commit index as leader, once the log was flushed. The leader counts itself in the
+   * quorum, so it must persist the entries before committing them. Depending on the flush strategy,
+   * e.g. with group commit, the flush may complete asynchronously. In that case the Raft thread
+   * keeps processing requests in the meantime, and the commit index is set on it once the flush is
+   * done, unless this node is no longer the leader of the same term by then.
+   *
+   * @param commitIndex the commit index
+   * @return a future completed on the Raft thread with the commit index once it was set, or
+   *     completed exceptionally with a {@link CommitFailedException}
+   */
+  public CompletableFuture<Long> setCommitIndexAfterFlush(final long commitIndex) {
+    checkThread();
+    checkArgument(commitIndex >= 0, "commitIndex must be positive");
+    if (raftLog.flushesDirectly() || commitIndex <= this.commitIndex) {
+      try {
+        setCommitIndex(commitIndex);
+        return CompletableFuture.completedFuture(commitIndex);
+      } catch (final CommitFailedException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    final var term = getTerm();
+    final var committed = new CompletableFuture<Long>();
+    final var flushed = raftLog.flushAsync();
+    final BiConsumer<Void, Throwable> onFlushed =
+        (ignored, error) -> {
+          if (!isLeader() || getTerm() != term) {
+            committed.completeExceptionally(
+                new CommitFailedException(
+                    "Failed to commit index %s, no longer the leader of term %s",
+                    commitIndex, term));
+          } else if (error != null) {
+            committed.completeExceptionally(onLeaderFlushFailed(commitIndex, error));
+          } else {
+            updateCommitIndex(commitIndex);
+            committed.complete(commitIndex);
+          }
+        };
+    if (flushed.isDone()) {
+      flushed.whenComplete(onFlushed);
+    } else {
+      flushed.whenCompleteAsync(onFlushed, threadContext);
+    }
+
+    return committed;
+  }
+
+  private CommitFailedException onLeaderFlushFailed(final long commitIndex, final Throwable error) {
+    if (log.isWarnEnabled()) {
+      log.warn(
+          "Failed to flush commit at index %s, resetting journal to %s and stepping down"
+              .formatted(commitIndex, this.commitIndex),
+          error);
+    }
+    transition(Role.FOLLOWER);
+    return new CommitFailedException(
+        "Failed to commit index %s because of a flush error: %s", commitIndex, error);
+  }
+
+  private long updateCommitIndex(final long commitIndex) {
     final long previousCommitIndex = this.commitIndex;
     if (commitIndex > previousCommitIndex) {
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
-        try {
-          raftLog.flush();
-        } catch (final FlushException e) {
-          if (log.isWarnEnabled()) {
-            log.warn(
-                "Failed to flush commit at index %s, resetting journal to %s and stepping down"
-                    .formatted(commitIndex, previousCommitIndex),
-                e);
-          }
-          transition(Role.FOLLOWER);
-          throw new CommitFailedException(
-              "Failed to commit index %s because of a flush error: %s", commitIndex, e);
-        }
-      }
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
       this.commitIndex = commitIndex;
       meta.storeCommitIndex(commitIndex);
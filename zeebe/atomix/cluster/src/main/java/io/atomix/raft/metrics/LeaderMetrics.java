@@ -30,6 +30,7 @@ public class LeaderMetrics extends RaftMetrics {
   private final Map<String, Timer> appendLatency;
   private final Map<String, Counter> appendDataRate;
   private final Map<String, Counter> appendRate;
+  private final Map<String, Counter> snapshotDataRate;
   private final Counter commitRate;
   private final AtomicLong nonCommittedEntriesValue;
   private final Map<String, AtomicLong> nonReplicatedEntries;
@@ -40,6 +41,7 @@ public class LeaderMetrics extends RaftMetrics {
     appendLatency = new HashMap<>();
     appendDataRate = new HashMap<>();
     appendRate = new HashMap<>();
+    snapshotDataRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
 
     commitRate =
@@ -65,6 +67,10 @@ public class LeaderMetrics extends RaftMetrics {
     getAppendDataRate(memberId).increment(appendedBytes / 1024f);
   }
 
+  public void observeSnapshotChunk(final String memberId, final int chunkBytes) {
+    getSnapshotDataRate(memberId).increment(chunkBytes / 1024f);
+  }
+
   public void observeCommit() {
     commitRate.increment();
   }
@@ -120,6 +126,21 @@ public class LeaderMetrics extends RaftMetrics {
                 .register(meterRegistry));
   }
 
+  private Counter getSnapshotDataRate(final String memberId) {
+    return snapshotDataRate.computeIfAbsent(
+        memberId,
+        id ->
+            Counter.builder(LeaderMetricsDoc.SNAPSHOT_DATA_RATE.getName())
+                .description(LeaderMetricsDoc.SNAPSHOT_DATA_RATE.getDescription())
+                .baseUnit(LeaderMetricsDoc.SNAPSHOT_DATA_RATE.getBaseUnit())
+                .tags(
+                    RaftKeyNames.FOLLOWER.asString(),
+                    id,
+                    PARTITION_GROUP_NAME_LABEL,
+                    partitionGroupName)
+                .register(meterRegistry));
+  }
+
   private AtomicLong getNonReplicatedEntries(final String memberId) {
     var inMap = nonReplicatedEntries.get(memberId);
     if (inMap == null) {
@@ -157,5 +157,34 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {RaftKeyNames.PARTITION_GROUP, PartitionKeyNames.PARTITION};
     }
+  },
+  /** The amount of snapshot data received by a follower, in KiB */
+  SNAPSHOT_DATA_RATE {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.data.rate";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "KiB";
+    }
+
+    @Override
+    public String getDescription() {
+      return "The amount of snapshot data acknowledged by a follower, in KiB; its rate is the snapshot transfer throughput";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
   }
 }
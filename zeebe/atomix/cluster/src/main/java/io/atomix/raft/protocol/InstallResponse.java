@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -31,22 +33,41 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the files of the member's latest snapshot, by name; only set when responding
+  // to the first chunk of a snapshot, and null if sent by an older version
+  protected HashMap<String, Long> latestSnapshotChunks;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> latestSnapshotChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.latestSnapshotChunks = latestSnapshotChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the chunks of the member's latest snapshot, which the leader does not have to send
+   * again if they are part of the snapshot being installed.
+   *
+   * @return the checksums of the chunks of the latest snapshot, by chunk name
+   */
+  public Map<String, Long> latestSnapshotChunks() {
+    return latestSnapshotChunks == null ? Map.of() : latestSnapshotChunks;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("latestSnapshotChunks", latestSnapshotChunks().size())
         .toString();
   }
 
@@ -62,17 +83,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> latestSnapshotChunks;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, latestSnapshotChunks);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withLatestSnapshotChunks(final Map<String, Long> latestSnapshotChunks) {
+      this.latestSnapshotChunks = new HashMap<>(latestSnapshotChunks);
+      return this;
+    }
   }
 }
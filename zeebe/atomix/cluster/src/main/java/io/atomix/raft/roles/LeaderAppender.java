@@ -19,7 +19,6 @@ package io.atomix.raft.roles;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.raft.RaftException;
-import io.atomix.raft.RaftException.CommitFailedException;
 import io.atomix.raft.RaftException.NoLeader;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.cluster.RaftMember;
@@ -48,8 +47,11 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -69,6 +71,8 @@ final class LeaderAppender {
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
+  // the highest index which is committed, or will be once the leader's log was flushed
+  private long committingIndex;
 
   private final LeaderMetrics metrics;
   private final long leaderTime;
@@ -394,6 +398,8 @@ final class LeaderAppender {
             e);
         return Optional.empty();
       }
+      // responses to chunks of a previous snapshot which are still in flight are ignored
+      member.abortInstalls();
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
     }
@@ -433,6 +439,10 @@ final class LeaderAppender {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(
+                  reader.hasNext() || member.getReusedSnapshotChunks() == null
+                      ? Map.of()
+                      : member.getReusedSnapshotChunks())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -442,16 +452,41 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      resetSnapshotReplication(member);
       return Optional.empty();
     }
   }
 
+  /**
+   * Returns the next install request for the member: either a request which was deferred until all
+   * other requests are completed, or one for the next chunk of the given snapshot.
+   */
+  private Optional<InstallRequest> nextInstallRequest(
+      final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
+    final var deferredRequest = member.getDeferredInstallRequest();
+    if (deferredRequest != null) {
+      if (member.hasInstallsInFlight()) {
+        return Optional.empty();
+      }
+
+      member.setDeferredInstallRequest(null);
+      if (deferredRequest.index() == persistedSnapshot.getIndex()) {
+        return Optional.of(deferredRequest);
+      }
+    }
+
+    return buildInstallRequest(member, persistedSnapshot);
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
-    // Start the install to the member.
-    member.startInstall();
+    // Start the install to the member, and already advance to the next chunk, such that it can be
+    // sent without waiting for this response. The member only starts receiving a snapshot with the
+    // first chunk, and completes it with the last one, so these are sent on their own.
+    member.startInstall(request.chunkId(), request.isInitial() || request.complete());
+    if (!request.complete()) {
+      member.setNextSnapshotChunkId(request.nextChunkId());
+    }
 
     final long timestamp = System.currentTimeMillis();
 
@@ -461,9 +496,6 @@ final class LeaderAppender {
         .whenCompleteAsync(
             (response, error) -> {
               if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
-
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
@@ -479,15 +511,24 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
     final boolean isTimeout =
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
-
-    if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+    final var retryFromChunk = member.getOldestSnapshotChunkInFlight();
+
+    if (!member.completeInstall(request.chunkId())) {
+      // the request was aborted already, and the chunk will be or was resent
+      log.trace("Ignoring failure of aborted {}", request);
+    } else if (isTimeout) {
+      // The member may have received the chunk, but we can't know. Resend all chunks in flight,
+      // starting with the oldest one, as every chunk before it was received. The member
+      // acknowledges chunks it received already without applying them again.
+      member.abortInstalls();
+      member.setNextSnapshotChunkId(request.isInitial() ? null : retryFromChunk);
+    } else {
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
+      resetSnapshotReplication(member);
     }
 
     // Log the failed attempt to contact the member.
@@ -502,27 +543,79 @@ final class LeaderAppender {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    if (!member.completeInstall(request.chunkId())) {
+      // the request was aborted, e.g. because an earlier one timed out and all chunks after it are
+      // resent anyway
+      log.trace("Ignoring response to aborted {}", request);
+      appendEntries(member);
+      return;
+    }
+
+    metrics.observeSnapshotChunk(member.getMember().memberId().id(), request.data().capacity());
+
     //    if not given in response defaults to 0
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    if (request.isInitial() && !request.complete() && member.getReusedSnapshotChunks() == null) {
+      excludeReusableSnapshotChunks(member, request, response);
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
-    // the next snapshot index/offset.
+    // the next snapshot index/offset. Otherwise, the offset was already advanced when sending it.
     if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      resetSnapshotReplication(member);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
-    }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Excludes the chunks of the snapshot being sent which the member has already in its latest
+   * snapshot, i.e. which have the same name and checksum, such that they are not sent again. The
+   * member reuses them once it receives the last chunk, which carries the excluded chunks.
+   */
+  private void excludeReusableSnapshotChunks(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var memberChunks = response.latestSnapshotChunks();
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (memberChunks.isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || persistedSnapshot.getChecksums() == null) {
+      member.setReusedSnapshotChunks(Map.of());
+      return;
+    }
+
+    final var snapshotChunks = persistedSnapshot.getChecksums().getChecksums();
+    final var reusableChunks = new HashSet<String>();
+    memberChunks.forEach(
+        (chunkName, checksum) -> {
+          if (checksum.equals(snapshotChunks.get(chunkName))) {
+            reusableChunks.add(chunkName);
+          }
+        });
+
+    final var reusedChunks = new HashMap<String, Long>();
+    for (final var chunkName : member.getSnapshotChunkReader().exclude(reusableChunks)) {
+      reusedChunks.put(chunkName, snapshotChunks.get(chunkName));
+    }
+    member.setReusedSnapshotChunks(reusedChunks);
+
+    if (!reusedChunks.isEmpty()) {
+      log.debug(
+          "Skipping {} of {} chunks of snapshot {} when sending it to {}, as it has them already",
+          reusedChunks.size(),
+          snapshotChunks.size(),
+          persistedSnapshot.getId(),
+          member.getMember().memberId());
+    }
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -535,6 +628,17 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    if (member.completeInstall(request.chunkId())) {
+      resetSnapshotReplication(member);
+    }
+  }
+
+  /**
+   * Resets the snapshot replication to the member, such that the current snapshot is sent again
+   * from the first chunk. Responses to install requests which are still in flight are ignored.
+   */
+  private void resetSnapshotReplication(final RaftMemberContext member) {
+    member.abortInstalls();
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
   }
@@ -561,13 +665,12 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
-      try {
-        raft.setCommitIndex(index);
-        completeCommits(index);
-        return CompletableFuture.completedFuture(index);
-      } catch (final CommitFailedException e) {
-        return CompletableFuture.failedFuture(e);
-      }
+      return raft.setCommitIndexAfterFlush(index)
+          .thenApply(
+              committedIndex -> {
+                completeCommits(committedIndex);
+                return committedIndex;
+              });
     }
 
     if (!open) {
@@ -913,8 +1016,22 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    while (member.canInstall()) {
+      final var nextRequest = nextInstallRequest(member, persistedSnapshot);
+      if (nextRequest.isEmpty()) {
+        return;
+      }
+
+      final var request = nextRequest.get();
+      if (request.complete() && member.hasInstallsInFlight()) {
+        // the last chunk completes the snapshot on the member, so all other chunks must have been
+        // received before it is sent
+        member.setDeferredInstallRequest(request);
+        return;
+      }
+
+      sendInstallRequest(member, request);
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1024,9 +1141,28 @@ final class LeaderAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
-      log.trace("Committed entries up to {}", commitIndex);
-      raft.setCommitIndex(commitIndex);
-      completeCommits(commitIndex);
+      if (commitIndex <= committingIndex) {
+        // a commit up to this index is already waiting for the leader's log to be flushed
+        return;
+      }
+
+      committingIndex = commitIndex;
+      raft.setCommitIndexAfterFlush(commitIndex)
+          .whenComplete(
+              (committedIndex, error) -> {
+                if (error != null) {
+                  log.warn("Failed to commit entries up to {}", commitIndex, error);
+                  // allow the next quorum update to retry the commit, unless a higher one is
+                  // already in progress
+                  if (committingIndex == commitIndex) {
+                    committingIndex = raft.getCommitIndex();
+                  }
+                  return;
+                }
+
+                log.trace("Committed entries up to {}", committedIndex);
+                completeCommits(committedIndex);
+              });
     }
   }
 
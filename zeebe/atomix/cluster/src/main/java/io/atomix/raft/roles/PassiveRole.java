@@ -60,10 +60,14 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Passive state. */
@@ -73,9 +77,14 @@ public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
-  private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the leader may send several chunks at once, and resend them after a timeout, so chunks can
+  // arrive out of order or more than once
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
   private final int snapshotChunkSize;
+  // append responses which wait for a flush, in the order of their requests
+  private final Deque<PendingAppend> pendingAppends = new ArrayDeque<>();
+  // the last flush which was started, which appends without new entries wait for as well
+  private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -96,6 +105,7 @@ public class PassiveRole extends InactiveRole {
   @Override
   public CompletableFuture<Void> stop() {
     abortPendingSnapshots();
+    failPendingAppends();
 
     // as a safeguard, we clean up any orphaned pending snapshots
     try {
@@ -235,6 +245,9 @@ public class PassiveRole extends InactiveRole {
       final PersistedSnapshot persistedSnapshot;
       log.debug("Committing snapshot {}", pendingSnapshot);
       try {
+        // the chunks which were not sent are taken from our latest snapshot
+        pendingSnapshot.reuse(request.reusedChunks()).join();
+
         // Reset before committing to prevent the edge case where the system crashes after
         // committing the snapshot, and restart with a snapshot and invalid log.
         resetLogOnReceivingSnapshot(pendingSnapshot.index());
@@ -255,23 +268,36 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
-      setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.add(request.chunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    return CompletableFuture.completedFuture(logResponse(installResponseOk(request)));
+  }
+
+  /**
+   * Builds an OK response to the given install request. The response to the first chunk of a
+   * snapshot carries the chunks of our latest snapshot, such that the leader can skip sending those
+   * which are part of the new snapshot too.
+   */
+  private InstallResponse installResponseOk(final InstallRequest request) {
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (request.isInitial()
+        && !request.complete()
+        && currentSnapshot != null
+        && currentSnapshot.getChecksums() != null) {
+      response.withLatestSnapshotChunks(currentSnapshot.getChecksums().getChecksums());
+    }
+    return response.build();
   }
 
   @Override
@@ -428,23 +454,18 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.OK)
-                  .withPreferredChunkSize(snapshotChunkSize)
-                  .build()));
+    if (pendingSnapshot != null && receivedSnapshotChunkIds.contains(request.chunkId())) {
+      // Duplicate request for a chunk that was previously processed
+      return Either.left(logResponse(installResponseOk(request)));
     }
 
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+    // any chunk but the first belongs to the pending snapshot; the first one starts a new snapshot,
+    // so it is unexpected while receiving one
+    if (pendingSnapshot != null && request.isInitial()) {
       final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
+          "Expected a chunk of pending snapshot "
+              + pendingSnapshot.snapshotId().getSnapshotIdAsString()
+              + ", but got first chunk ["
               + new SnapshotChunkId(request.chunkId())
               + "].";
       abortPendingSnapshots();
@@ -541,14 +562,9 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
-  private void setNextExpected(final ByteBuffer nextChunkId) {
-    nextPendingSnapshotChunkId = nextChunkId;
-  }
-
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
-      setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -738,14 +754,20 @@ public class PassiveRole extends InactiveRole {
 
         final boolean failedToAppend = tryToAppend(future, entry, index, lastEntry);
         if (failedToAppend) {
-          try {
-            flush(lastLogIndex - 1, request.prevLogIndex());
-          } catch (final Exception e) {
-            log.warn(
-                "Failed to flush when append failed: lastFlushedIndex={}, prevEntryIndex={}",
-                lastLogIndex - 1,
-                request.prevLogIndex());
-          }
+          // the rejection doesn't acknowledge the entries appended before, so it doesn't wait for
+          // their flush, but later acknowledgements which cover them do
+          final long lastFlushedIndex = lastLogIndex - 1;
+          flushAsync(lastFlushedIndex, request.prevLogIndex())
+              .whenComplete(
+                  (ignored, error) -> {
+                    if (error != null) {
+                      log.warn(
+                          "Failed to flush when append failed: lastFlushedIndex={}, prevEntryIndex={}",
+                          lastFlushedIndex,
+                          request.prevLogIndex(),
+                          error);
+                    }
+                  });
           return;
         }
 
@@ -766,28 +788,83 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
-    try {
-      //     Make sure all entries are flushed before ack to ensure we have persisted what we
-      //     acknowledge
-      flush(lastLogIndex, request.prevLogIndex());
-    } catch (final Exception e) {
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge.
+    // Depending on the flush strategy, the flush may complete asynchronously, in which case we keep
+    // processing requests in the meantime, and acknowledge once it's done. All responses, including
+    // rejections, are sent in the order of their requests, and an acknowledgement which doesn't
+    // flush new entries still waits for the last flush, as its last log index covers its entries.
+    final var flushed = flushAsync(lastLogIndex, request.prevLogIndex());
+    if (pendingAppends.isEmpty() && flushed.isDone()) {
+      future.complete(createResponseAfterFlush(request, lastLogIndex, flushError(flushed)));
+    } else {
+      pendingAppends.add(
+          new PendingAppend(
+              flushed,
+              future,
+              error -> createResponseAfterFlush(request, lastLogIndex, error)));
+      flushed.whenCompleteAsync(
+          (ignored, error) -> completePendingAppends(), raft.getThreadContext());
+    }
+  }
+
+  private void completePendingAppends() {
+    PendingAppend pendingAppend;
+    while ((pendingAppend = pendingAppends.peek()) != null && pendingAppend.flushed().isDone()) {
+      pendingAppends.remove();
+      pendingAppend
+          .future()
+          .complete(pendingAppend.response().apply(flushError(pendingAppend.flushed())));
+    }
+  }
+
+  /**
+   * Answers all appends which still wait for a flush as unavailable, the same way an inactive role
+   * would, such that they are not completed by a role which is not active anymore.
+   */
+  private void failPendingAppends() {
+    PendingAppend pendingAppend;
+    while ((pendingAppend = pendingAppends.poll()) != null) {
+      pendingAppend
+          .future()
+          .complete(
+              logResponse(
+                  AppendResponse.builder()
+                      .withStatus(RaftResponse.Status.ERROR)
+                      .withError(RaftError.Type.UNAVAILABLE)
+                      .build()));
+    }
+  }
+
+  private static Throwable flushError(final CompletableFuture<Void> flushed) {
+    return flushed.isCompletedExceptionally() ? flushed.exceptionNow() : null;
+  }
+
+  private AppendResponse createResponseAfterFlush(
+      final InternalAppendRequest request, final long lastLogIndex, final Throwable flushError) {
+    if (flushError != null) {
       log.warn(
           "Failed to flush appended entries to the log, cannot guarantee durability; leader will retry the append operation",
-          e);
+          flushError);
       // Flush failed, return error to the leader so we can retry.
-      failAppend(request.prevLogIndex(), future);
-      return;
+      return createAppendResponse(false, request.prevLogIndex());
     }
 
     // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    return createAppendResponse(true, lastLogIndex);
   }
 
-  private void flush(final long lastFlushedIndex, final long previousEntryIndex)
-      throws FlushException {
-    if (lastFlushedIndex > previousEntryIndex) {
-      raft.getLog().flush();
+  private CompletableFuture<Void> flushAsync(
+      final long lastFlushedIndex, final long previousEntryIndex) {
+    if (lastFlushedIndex <= previousEntryIndex) {
+      return lastFlush.isDone() ? CompletableFuture.completedFuture(null) : lastFlush;
     }
+
+    try {
+      lastFlush = raft.getLog().flushAsync();
+    } catch (final Exception e) {
+      lastFlush = CompletableFuture.failedFuture(e);
+    }
+    return lastFlush;
   }
 
   private boolean tryToAppend(
@@ -952,7 +1029,8 @@ public class PassiveRole extends InactiveRole {
   }
 
   /**
-   * Returns a successful append response.
+   * Returns an append response. If responses of earlier appends still wait for a flush, it is
+   * queued behind them, such that responses are always sent in the order of their requests.
    *
    * @param succeeded whether the append succeeded
    * @param lastLogIndex the last log index
@@ -963,19 +1041,30 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
-    future.complete(
-        logResponse(
-            AppendResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withTerm(raft.getTerm())
-                .withSucceeded(succeeded)
-                .withLastLogIndex(lastLogIndex)
-                .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
-                .withConfigurationIndex(raft.getCurrentConfigurationIndex())
-                .build()));
+    final var response = createAppendResponse(succeeded, lastLogIndex);
+    final var lastPendingAppend = pendingAppends.peekLast();
+    if (lastPendingAppend == null) {
+      future.complete(response);
+    } else {
+      // completed once the pending append before it was completed
+      pendingAppends.add(
+          new PendingAppend(lastPendingAppend.flushed(), future, ignored -> response));
+    }
     return succeeded;
   }
 
+  private AppendResponse createAppendResponse(final boolean succeeded, final long lastLogIndex) {
+    return logResponse(
+        AppendResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withTerm(raft.getTerm())
+            .withSucceeded(succeeded)
+            .withLastLogIndex(lastLogIndex)
+            .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
+            .withConfigurationIndex(raft.getCurrentConfigurationIndex())
+            .build());
+  }
+
   private void resetLogOnReceivingSnapshot(final long snapshotIndex) {
     final var raftLog = raft.getLog();
 
@@ -986,4 +1075,9 @@ public class PassiveRole extends InactiveRole {
         snapshotIndex + 1);
     raftLog.reset(snapshotIndex + 1);
   }
+
+  private record PendingAppend(
+      CompletableFuture<Void> flushed,
+      CompletableFuture<AppendResponse> future,
+      Function<Throwable, AppendResponse> response) {}
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which offers the same guarantees as {@link
+ * DirectFlusher}, but coalesces flush requests: requests which arrive while a flush is in progress
+ * are all served by the next flush. A request is only completed once everything appended before it
+ * was flushed, and pending requests are completed in the order they were made, i.e. in index order.
+ *
+ * <p>The next flush starts once the oldest pending request waited for the given max latency, or
+ * with the first request made after the data appended since the last flush reached the given max
+ * batch size, whichever comes first. With a max latency of zero, the next flush starts as soon as
+ * the previous one is done.
+ *
+ * <p>Flushes are performed asynchronously on the given scheduler. {@link #flush(Journal)} blocks
+ * until the data is flushed; callers which should not block, e.g. the Raft thread when
+ * acknowledging appended entries as follower or committing them as leader, use {@link
+ * #flushAsync(Journal)} instead.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration maxLatency;
+  private final long maxBatchBytes;
+
+  // only counts appends, so it doesn't need to be guarded by the monitor
+  private final AtomicLong pendingBytes = new AtomicLong();
+
+  private final Object monitor = new Object();
+  private final Queue<FlushRequest> pendingRequests = new ArrayDeque<>();
+  private Scheduled scheduledFlush;
+  private boolean scheduledImmediately;
+  private boolean flushInProgress;
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler, final Duration maxLatency, final long maxBatchBytes) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxLatency = Objects.requireNonNull(maxLatency, "must specify a valid max latency");
+
+    if (maxLatency.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected max latency to be zero or positive, but was " + maxLatency);
+    }
+
+    if (maxBatchBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max batch size to be positive, but was " + maxBatchBytes);
+    }
+
+    this.maxBatchBytes = maxBatchBytes;
+  }
+
+  @Override
+  public void flush(final Journal journal) throws FlushException {
+    try {
+      flushAsync(journal).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final FlushException flushException) {
+        throw flushException;
+      } else if (e.getCause() instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> flushAsync(final Journal journal) {
+    synchronized (monitor) {
+      if (closed) {
+        LOGGER.debug("Rejected flush request due to flusher being closed");
+        return CompletableFuture.failedFuture(closedException());
+      }
+
+      final var request =
+          new FlushRequest(journal.getLastIndex(), System.nanoTime(), new CompletableFuture<>());
+      pendingRequests.add(request);
+
+      // a flush in progress will schedule the next one once it's done
+      if (!flushInProgress) {
+        scheduleFlush(journal);
+      }
+
+      return request.future();
+    }
+  }
+
+  @Override
+  public void onAppend(final int size) {
+    pendingBytes.addAndGet(size);
+  }
+
+  @Override
+  public void close() {
+    final List<FlushRequest> rejectedRequests;
+    synchronized (monitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+
+      // requests which are part of an in-progress flush are completed by it
+      rejectedRequests = new ArrayList<>(pendingRequests);
+      pendingRequests.clear();
+    }
+
+    rejectedRequests.forEach(request -> request.future().completeExceptionally(closedException()));
+    scheduler.close();
+  }
+
+  /** Must be called while holding the monitor. */
+  private void scheduleFlush(final Journal journal) {
+    final var oldestRequest = pendingRequests.peek();
+    if (oldestRequest == null || (scheduledFlush != null && scheduledImmediately)) {
+      return;
+    }
+
+    final Duration delay;
+    if (pendingBytes.get() >= maxBatchBytes) {
+      delay = Duration.ZERO;
+    } else {
+      final var waitedFor = Duration.ofNanos(System.nanoTime() - oldestRequest.requestedAt());
+      delay = maxLatency.minus(waitedFor);
+    }
+
+    if (!delay.isPositive()) {
+      // a delayed flush is scheduled, but the batch is full now, so flush right away instead
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+      }
+
+      LOGGER.trace("Scheduling flush up to index {}", journal.getLastIndex());
+      scheduledFlush = scheduler.schedule(Duration.ZERO, () -> asyncFlush(journal));
+      scheduledImmediately = true;
+    } else if (scheduledFlush == null) {
+      LOGGER.trace("Scheduling flush in {} up to index {}", delay, journal.getLastIndex());
+      scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+      scheduledImmediately = false;
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final List<FlushRequest> batch;
+    synchronized (monitor) {
+      scheduledFlush = null;
+      // the requests may have been served already if a cancelled flush was still executed
+      if (closed || pendingRequests.isEmpty()) {
+        return;
+      }
+
+      // anything requested from now on is coalesced into the next flush
+      flushInProgress = true;
+      batch = new ArrayList<>(pendingRequests);
+      pendingRequests.clear();
+      pendingBytes.set(0);
+    }
+
+    LOGGER.trace(
+        "Flushing journal up to index {} for {} request(s)", batch.getLast().index(), batch.size());
+    final var error = tryFlush(journal);
+    for (final var request : batch) {
+      if (error == null) {
+        request.future().complete(null);
+      } else {
+        request.future().completeExceptionally(error);
+      }
+    }
+
+    synchronized (monitor) {
+      flushInProgress = false;
+      if (!closed) {
+        scheduleFlush(journal);
+      }
+    }
+  }
+
+  private Exception tryFlush(final Journal journal) {
+    try {
+      journal.flush();
+      return null;
+    } catch (final FlushException | JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, failing all pending flush requests", e);
+      return e;
+    }
+  }
+
+  private static FlushException closedException() {
+    return new FlushException(new IOException("Flusher was closed before flushing the journal"));
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxLatency="
+        + maxLatency
+        + ", maxBatchBytes="
+        + maxBatchBytes
+        + '}';
+  }
+
+  private record FlushRequest(long index, long requestedAt, CompletableFuture<Void> future) {}
+}
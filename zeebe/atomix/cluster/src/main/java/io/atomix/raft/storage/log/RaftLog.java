@@ -31,6 +31,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -149,6 +150,7 @@ public final class RaftLog implements Closeable {
         journal.append(
             entry.getLowestAsqn().orElse(ASQN_IGNORE),
             entry.entry().toSerializable(entry.term(), serializer));
+    flusher.onAppend(journalRecord.data().capacity());
 
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
     return lastAppendedEntry;
@@ -156,6 +158,7 @@ public final class RaftLog implements Closeable {
 
   public IndexedRaftLogEntry append(final PersistedRaftRecord entry) {
     journal.append(entry);
+    flusher.onAppend(entry.data().capacity());
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(entry.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), entry);
@@ -164,6 +167,7 @@ public final class RaftLog implements Closeable {
 
   public IndexedRaftLogEntry append(final ReplicatableJournalRecord entry) {
     final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+    flusher.onAppend(entry.serializedJournalRecord().length);
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
@@ -211,6 +215,16 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, without necessarily
+   * blocking until it's done. For guarantees, refer to the configured {@link RaftLogFlusher}.
+   *
+   * @return a future completed once the guarantees of the configured strategy hold
+   */
+  public CompletableFuture<Void> flushAsync() {
+    return flusher.flushAsync(journal);
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
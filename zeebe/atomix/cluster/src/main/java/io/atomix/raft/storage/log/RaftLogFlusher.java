@@ -11,6 +11,7 @@ import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -28,6 +29,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} offers the same guarantees as {@link DirectFlusher}, but coalesces
+ * concurrent flush requests into a single flush. It pays off when callers use {@link
+ * #flushAsync(Journal)} to wait for the flush without blocking, such that more data can be appended
+ * while a flush is in progress.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -40,6 +46,34 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal) throws FlushException;
 
+  /**
+   * Signals that there is data to be flushed in the journal, and returns a future which is
+   * completed once the guarantees offered by the implementation hold for any data appended before
+   * this call. This lets callers wait for the flush without blocking, e.g. to only acknowledge
+   * appended entries once they are flushed.
+   *
+   * <p>The default implementation calls {@link #flush(Journal)}, and returns a completed future.
+   *
+   * @param journal the journal to flush
+   * @return a future completed once the data is flushed, or completed exceptionally if it failed
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    try {
+      flush(journal);
+      return CompletableFuture.completedFuture(null);
+    } catch (final FlushException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Signals that a record of the given size was appended to the journal. Implementations which
+   * batch flushes by size can use this to keep track of the amount of data to be flushed.
+   *
+   * @param size the size of the appended record in bytes
+   */
+  default void onAppend(final int size) {}
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
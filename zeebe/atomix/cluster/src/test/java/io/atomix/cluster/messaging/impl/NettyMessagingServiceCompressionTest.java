@@ -26,7 +26,9 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -78,4 +80,71 @@ class NettyMessagingServiceCompressionTest {
     senderNetty.stop();
     receiverNetty.stop();
   }
+
+  @Test
+  void shouldNotCompressWhenOnlyOneSideUsesZstd() {
+    // given
+    final var sender = startService(CompressionAlgorithm.ZSTD);
+    final var receiver = startService(CompressionAlgorithm.NONE);
+    receiver
+        .service()
+        .registerHandler("subject", (m, payload) -> CompletableFuture.completedFuture(payload));
+
+    // when
+    final var response =
+        sender.service().sendAndReceive(receiver.address(), "subject", "message".getBytes());
+
+    // then
+    assertThat(new String(response.join())).isEqualTo("message");
+    assertThat(registry.get(MessagingMetricsDoc.COMPRESSION_RAW_BYTES.getName()).counter().count())
+        .isZero();
+
+    // teardown
+    sender.service().stop();
+    receiver.service().stop();
+  }
+
+  @Test
+  void shouldCompressContentRepeatedAcrossMessages() {
+    // given
+    final var sender = startService(CompressionAlgorithm.ZSTD);
+    final var receiver = startService(CompressionAlgorithm.ZSTD);
+    final var payload = new byte[4096];
+    ThreadLocalRandom.current().nextBytes(payload);
+    receiver
+        .service()
+        .registerHandler("subject", (m, p) -> CompletableFuture.completedFuture(new byte[0]));
+
+    // when - random bytes do not compress on their own, only by referencing previous messages
+    for (int i = 0; i < 10; i++) {
+      sender.service().sendAndReceive(receiver.address(), "subject", payload).join();
+    }
+
+    // then
+    final var rawBytes =
+        registry.get(MessagingMetricsDoc.COMPRESSION_RAW_BYTES.getName()).counter().count();
+    final var compressedBytes =
+        registry.get(MessagingMetricsDoc.COMPRESSION_COMPRESSED_BYTES.getName()).counter().count();
+    assertThat(rawBytes).isGreaterThan(10 * payload.length);
+    assertThat(compressedBytes).isLessThan(rawBytes / 4);
+
+    // teardown
+    sender.service().stop();
+    receiver.service().stop();
+  }
+
+  private StartedService startService(final CompressionAlgorithm algorithm) {
+    final var nextAddress = SocketUtil.getNextAddress();
+    final var address = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setCompressionAlgorithm(algorithm);
+    final var service =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", address, config, registry).start().join();
+    return new StartedService(address, service);
+  }
+
+  private record StartedService(Address address, ManagedMessagingService service) {}
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftLeaderAsyncFlushTest {
+
+  private final HoldingFlusher flusher = new HoldingFlusher();
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          1,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              final var storage = builder.storage;
+              builder.withStorage(
+                  RaftStorage.builder(builder.meterRegistry)
+                      .withDirectory(storage.directory())
+                      .withSnapshotStore(storage.getPersistedSnapshotStore())
+                      .withFlusherFactory(ignored -> flusher)
+                      .build());
+            }
+          });
+
+  @Test
+  public void shouldNotBlockRaftThreadWhileWaitingForFlushToCommit() throws Exception {
+    // given
+    final var context = raftRule.getLeader().orElseThrow().getContext();
+    final var commitIndex = context.getCommitIndex();
+    flusher.hold();
+
+    // when
+    final var appendListener = raftRule.appendEntryAsync();
+    assertThatThrownBy(() -> appendListener.awaitCommit(Duration.ofMillis(500)))
+        .isExactlyInstanceOf(TimeoutException.class);
+
+    // then -- the Raft thread keeps processing, but only commits once the flush is done
+    final var commitIndexWhileFlushing =
+        CompletableFuture.supplyAsync(context::getCommitIndex, context.getThreadContext())
+            .get(5, TimeUnit.SECONDS);
+    assertThat(commitIndexWhileFlushing).isEqualTo(commitIndex);
+
+    flusher.release();
+    assertThat(appendListener.awaitCommit()).isGreaterThan(commitIndex);
+  }
+
+  /**
+   * Completes flushes asynchronously, and holds them back until released. Like the group commit
+   * flusher, {@link #flush(Journal)} blocks until the flush is done.
+   */
+  private static final class HoldingFlusher implements RaftLogFlusher {
+    private final List<CompletableFuture<Void>> heldFlushes = new CopyOnWriteArrayList<>();
+    private volatile Journal heldJournal;
+    private volatile boolean holding;
+
+    @Override
+    public void flush(final Journal journal) throws FlushException {
+      flushAsync(journal).join();
+    }
+
+    @Override
+    public CompletableFuture<Void> flushAsync(final Journal journal) {
+      if (!holding) {
+        try {
+          journal.flush();
+          return CompletableFuture.completedFuture(null);
+        } catch (final FlushException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      }
+
+      heldJournal = journal;
+      final var flushed = new CompletableFuture<Void>();
+      heldFlushes.add(flushed);
+      return flushed;
+    }
+
+    private void hold() {
+      holding = true;
+    }
+
+    private void release() throws FlushException {
+      holding = false;
+      heldJournal.flush();
+      heldFlushes.forEach(flushed -> flushed.complete(null));
+    }
+  }
+}
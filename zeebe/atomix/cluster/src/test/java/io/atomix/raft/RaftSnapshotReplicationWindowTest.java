@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotReplicationWindowTest {
+
+  private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setMaxSnapshotChunksInFlight(MAX_CHUNKS_IN_FLIGHT);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  private final AtomicInteger totalInstallRequests = new AtomicInteger();
+  private final AtomicInteger installRequestsInFlight = new AtomicInteger();
+  private final AtomicInteger maxInstallRequestsInFlight = new AtomicInteger();
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>)
+            request -> {
+              totalInstallRequests.incrementAndGet();
+              maxInstallRequestsInFlight.accumulateAndGet(
+                  installRequestsInFlight.incrementAndGet(), Math::max);
+            });
+  }
+
+  @Test
+  public void shouldSendMultipleChunksWithoutWaitingForResponses() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+    leaderProtocol.interceptResponse(InstallResponse.class, new CountingResponseInterceptor(0));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(maxInstallRequestsInFlight.get())
+        .describedAs("Should send up to %d chunks at once", MAX_CHUNKS_IN_FLIGHT)
+        .isGreaterThan(1)
+        .isLessThanOrEqualTo(MAX_CHUNKS_IN_FLIGHT);
+  }
+
+  @Test
+  public void shouldResendChunksInFlightWhenInstallRequestTimesOut() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // Time out a response in the middle of the snapshot. This simulates the behaviour that the
+    // receiver has processed the request, but the request timed out at the sender.
+    leaderProtocol.interceptResponse(
+        InstallResponse.class, new CountingResponseInterceptor(numberOfChunks / 2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequests.get())
+        .describedAs("Should only resend the chunks which were in flight")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + MAX_CHUNKS_IN_FLIGHT + 3);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+
+  /** Tracks the requests in flight, and optionally times out the response to the n-th request. */
+  private final class CountingResponseInterceptor implements ResponseInterceptor<InstallResponse> {
+    private final int timeoutAtResponse;
+    private int count = 0;
+
+    private CountingResponseInterceptor(final int timeoutAtResponse) {
+      this.timeoutAtResponse = timeoutAtResponse;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      installRequestsInFlight.decrementAndGet();
+      count++;
+      if (count == timeoutAtResponse) {
+        return CompletableFuture.failedFuture(new TimeoutException());
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+}
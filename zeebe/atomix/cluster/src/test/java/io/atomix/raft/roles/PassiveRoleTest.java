@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,28 +26,45 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.InMemorySnapshot;
+import io.atomix.raft.snapshot.TestSnapshotStore;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -58,6 +77,8 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private PersistedSnapshot snapshot;
+  private ReceivableSnapshotStore store;
   @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @Before
@@ -66,13 +87,14 @@ public class PassiveRoleTest {
 
     log = mock(RaftLog.class);
     when(log.flushesDirectly()).thenReturn(true);
+    when(log.flushAsync()).thenReturn(CompletableFuture.completedFuture(null));
     when(ctx.getLog()).thenReturn(log);
 
-    final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
+    snapshot = mock(PersistedSnapshot.class);
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -83,6 +105,7 @@ public class PassiveRoleTest {
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     when(ctx.getMeterRegistry()).thenReturn(meterRegistry);
     when(ctx.getName()).thenReturn("partition-1");
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
 
     role = new PassiveRole(ctx);
   }
@@ -138,10 +161,211 @@ public class PassiveRoleTest {
         role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
-    verify(log, times(1)).flush();
+    verify(log, times(1)).flushAsync();
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendRequestOnceFlushed() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+    final var flushed = new CompletableFuture<Void>();
+    final var threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+    assertThat(response).isNotDone();
+    flushed.complete(null);
+
+    // then
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(response.join().lastLogIndex()).isOne();
+  }
+
+  @Test
+  public void shouldNotAcknowledgeHeartbeatBeforePendingFlush() {
+    // given
+    final var append =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1])))
+            .withCommitIndex(0)
+            .build();
+    final var heartbeat =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(1)
+            .withEntries(List.of())
+            .withCommitIndex(0)
+            .build();
+    final var flushed = new CompletableFuture<Void>();
+    final var threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    final var appendResponse = role.handleAppend(ProtocolVersionHandler.transform(append));
+    final var acknowledged = new ArrayList<AppendResponse>();
+    appendResponse.thenAccept(acknowledged::add);
+
+    // when
+    final var heartbeatResponse = role.handleAppend(ProtocolVersionHandler.transform(heartbeat));
+    heartbeatResponse.thenAccept(acknowledged::add);
+
+    // then - the heartbeat's last log index covers the unflushed entry
+    assertThat(heartbeatResponse).isNotDone();
+    flushed.complete(null);
+    assertThat(acknowledged)
+        .containsExactly(appendResponse.join(), heartbeatResponse.join())
+        .allSatisfy(response -> assertThat(response.lastLogIndex()).isOne());
+    verify(log, times(1)).flushAsync();
+  }
+
+  @Test
+  public void shouldNotRejectAppendBeforePendingAcknowledgement() {
+    // given
+    final var append =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1])))
+            .withCommitIndex(0)
+            .build();
+    final var staleAppend =
+        VersionedAppendRequest.builder()
+            .withTerm(0)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(1)
+            .withEntries(List.of())
+            .withCommitIndex(0)
+            .build();
+    final var flushed = new CompletableFuture<Void>();
+    final var threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    final var appendResponse = role.handleAppend(ProtocolVersionHandler.transform(append));
+    final var responses = new ArrayList<AppendResponse>();
+    appendResponse.thenAccept(responses::add);
+
+    // when
+    final var rejection = role.handleAppend(ProtocolVersionHandler.transform(staleAppend));
+    rejection.thenAccept(responses::add);
+
+    // then
+    assertThat(rejection).isNotDone();
+    flushed.complete(null);
+    assertThat(responses).containsExactly(appendResponse.join(), rejection.join());
+    assertThat(appendResponse.join().succeeded()).isTrue();
+    assertThat(rejection.join().succeeded()).isFalse();
+  }
+
+  @Test
+  public void shouldFailPendingAppendsOnStop() {
+    // given
+    final var append =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1])))
+            .withCommitIndex(0)
+            .build();
+    final var flushed = new CompletableFuture<Void>();
+    final var threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    when(log.flushAsync()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(append));
+
+    // when
+    role.stop();
+    flushed.complete(null);
+
+    // then
+    assertThat(response.join().status()).isEqualTo(Status.ERROR);
+    assertThat(response.join().error().type()).isEqualTo(RaftError.Type.UNAVAILABLE);
+  }
+
+  @Test
+  public void shouldFailAppendRequestIfFlushFails() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+    when(log.flushAsync())
+        .thenReturn(
+            CompletableFuture.failedFuture(new FlushException(new IOException("expected"))));
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request)).join();
+
+    // then
+    assertThat(response.succeeded()).isFalse();
+    assertThat(response.lastLogIndex()).isZero();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() throws CheckedJournalException {
     // given
@@ -168,7 +392,8 @@ public class PassiveRoleTest {
         role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
-    verify(log, times(1)).flush();
+    verify(log, times(1)).flushAsync();
+    verify(log, never()).flush();
     assertThat(response.lastLogIndex()).isOne();
   }
 
@@ -194,6 +419,7 @@ public class PassiveRoleTest {
         role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
+    verify(log, never()).flushAsync();
     verify(log, never()).flush();
     assertThat(response.lastLogIndex()).isZero();
   }
@@ -226,7 +452,7 @@ public class PassiveRoleTest {
     role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
-    verify(log, times(1)).flush();
+    verify(log, times(1)).flushAsync();
   }
 
   @Test
@@ -258,4 +484,75 @@ public class PassiveRoleTest {
     // then
     assertThat(result.succeeded()).isFalse();
   }
+
+  @Test
+  public void shouldRespondToFirstSnapshotChunkWithChunksOfLatestSnapshot() {
+    // given
+    final var checksums = mock(ImmutableChecksumsSFV.class);
+    when(checksums.getChecksums()).thenReturn(new TreeMap<>(Map.of("chunk-0", 1L)));
+    when(snapshot.getChecksums()).thenReturn(checksums);
+    when(ctx.getCurrentSnapshot()).thenReturn(snapshot);
+    when(ctx.getCurrentSnapshotIndex()).thenReturn(1L);
+    final var receivedSnapshot = mockReceivedSnapshot();
+    final var request = installRequest(false, Map.of());
+
+    // when
+    final var response = role.onInstall(request).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.latestSnapshotChunks()).containsExactlyEntriesOf(Map.of("chunk-0", 1L));
+    verify(receivedSnapshot, never()).reuse(any());
+  }
+
+  @Test
+  public void shouldReuseChunksOfLatestSnapshotOnLastSnapshotChunk() {
+    // given
+    when(ctx.getCurrentSnapshotIndex()).thenReturn(1L);
+    final var receivedSnapshot = mockReceivedSnapshot();
+    final var request = installRequest(true, Map.of("chunk-1", 2L));
+
+    // when
+    final var response = role.onInstall(request).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot).reuse(Map.of("chunk-1", 2L));
+    verify(receivedSnapshot).persist();
+  }
+
+  private ReceivedSnapshot mockReceivedSnapshot() {
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reuse(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.persist()).thenReturn(CompletableActorFuture.completed(snapshot));
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(any());
+    return receivedSnapshot;
+  }
+
+  private InstallRequest installRequest(
+      final boolean complete, final Map<String, Long> reusedChunks) {
+    final var leaderSnapshot =
+        InMemorySnapshot.newPersistedSnapshot(
+            0, 5, 1, 2, new TestSnapshotStore(new AtomicReference<>()));
+    try (final var reader = leaderSnapshot.newChunkReader()) {
+      final var chunkId = reader.nextId();
+      final var chunk = reader.next();
+      return InstallRequest.builder()
+          .withCurrentTerm(1)
+          .withLeader(MemberId.anonymous())
+          .withIndex(leaderSnapshot.getIndex())
+          .withTerm(leaderSnapshot.getTerm())
+          .withVersion(leaderSnapshot.version())
+          .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+          .withChunkId(chunkId)
+          .withNextChunkId(complete ? null : reader.nextId())
+          .withInitial(true)
+          .withComplete(complete)
+          .withReusedChunks(reusedChunks)
+          .build();
+    }
+  }
 }
@@ -30,6 +30,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -212,6 +213,20 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    final var latestSnapshot = testSnapshotStore.currentPersistedSnapshot.get();
+    for (final var chunkName : chunkChecksums.keySet()) {
+      if (latestSnapshot == null || !latestSnapshot.chunks.containsKey(chunkName)) {
+        return CompletableActorFuture.completedExceptionally(
+            new IllegalStateException(
+                "Expected to reuse chunk " + chunkName + ", but it is missing"));
+      }
+      chunks.put(chunkName, latestSnapshot.chunks.get(chunkName));
+    }
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final Journal journal = Mockito.mock(Journal.class);
+  private GroupCommitFlusher flusher = new GroupCommitFlusher(scheduler, Duration.ZERO, 1024);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushRightAwayWithoutMaxLatency() throws CheckedJournalException {
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.getFirst().delay).isZero();
+    assertThat(flushed).isNotDone();
+
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(flushed).isCompleted();
+  }
+
+  @Test
+  void shouldCoalesceRequestsMadeWhileFlushing() throws CheckedJournalException {
+    // given
+    final List<CompletableFuture<Void>> requestedWhileFlushing = new ArrayList<>();
+    Mockito.doAnswer(
+            ignored -> {
+              requestedWhileFlushing.add(flusher.flushAsync(journal));
+              requestedWhileFlushing.add(flusher.flushAsync(journal));
+              return null;
+            })
+        .doNothing()
+        .when(journal)
+        .flush();
+    final var first = flusher.flushAsync(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(requestedWhileFlushing).hasSize(2).allSatisfy(f -> assertThat(f).isNotDone());
+    assertThat(scheduler.operations).hasSize(1);
+
+    scheduler.runNext();
+    assertThat(requestedWhileFlushing).allSatisfy(f -> assertThat(f).isCompleted());
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldCompleteRequestsInOrder() {
+    // given
+    final List<Integer> completed = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      final var request = i;
+      flusher.flushAsync(journal).thenRun(() -> completed.add(request));
+    }
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(completed).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  void shouldDelayFlushUpToMaxLatency() throws CheckedJournalException {
+    // given
+    flusher = new GroupCommitFlusher(scheduler, Duration.ofSeconds(5), 1024);
+
+    // when
+    flusher.flushAsync(journal);
+    flusher.flushAsync(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.getFirst().delay)
+        .isPositive()
+        .isLessThanOrEqualTo(Duration.ofSeconds(5));
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldFlushRightAwayOnceBatchIsFull() {
+    // given
+    flusher = new GroupCommitFlusher(scheduler, Duration.ofSeconds(5), 1024);
+    flusher.onAppend(512);
+    flusher.flushAsync(journal);
+    final var delayedFlush = scheduler.operations.getFirst();
+
+    // when
+    flusher.onAppend(512);
+    flusher.flushAsync(journal);
+
+    // then
+    assertThat(delayedFlush.cancelled).isTrue();
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.getLast().delay).isZero();
+  }
+
+  @Test
+  void shouldFailPendingRequestsOnFlushError() throws CheckedJournalException {
+    // given
+    final var error = new FlushException(new IOException("Cannot allocate memory"));
+    Mockito.doThrow(error).when(journal).flush();
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    assertThat(flushed.exceptionNow()).isSameAs(error);
+  }
+
+  @Test
+  void shouldFailPendingRequestsOnClose() throws CheckedJournalException {
+    // given
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    assertThat(scheduler.operations.getFirst().cancelled).isTrue();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldRejectRequestsWhenClosed() {
+    // given
+    flusher.close();
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
+      final var scheduled =
+          new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("fixed rate scheduling unsupported");
+    }
+
+    private void runNext() {
+      operations.removeFirst().operation.run();
+    }
+  }
+}
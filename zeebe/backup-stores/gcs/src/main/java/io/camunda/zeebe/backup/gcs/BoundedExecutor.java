@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.gcs;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs at most a fixed number of tasks concurrently on a shared executor, which itself is not
+ * bounded. Tasks beyond that limit are queued without blocking the caller, and run by the first
+ * task to finish.
+ */
+final class BoundedExecutor implements Executor {
+  private static final Logger LOG = LoggerFactory.getLogger(BoundedExecutor.class);
+
+  private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+  private final Executor delegate;
+  private final int maxConcurrency;
+  private final Semaphore permits;
+
+  BoundedExecutor(final Executor delegate, final int maxConcurrency) {
+    this.delegate = delegate;
+    this.maxConcurrency = maxConcurrency;
+    permits = new Semaphore(maxConcurrency);
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    pending.add(task);
+    if (!permits.tryAcquire()) {
+      return;
+    }
+
+    try {
+      delegate.execute(this::drain);
+    } catch (final RejectedExecutionException e) {
+      permits.release();
+      // only reject the task if no running drain has picked it up in the meantime
+      if (pending.remove(task)) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Waits until no task is running anymore.
+   *
+   * @return true if no task is running, false if the timeout elapsed before
+   */
+  boolean awaitIdle(final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (permits.tryAcquire(maxConcurrency, timeout, unit)) {
+      permits.release(maxConcurrency);
+      return true;
+    }
+
+    return false;
+  }
+
+  private void drain() {
+    do {
+      try {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+          run(task);
+        }
+      } finally {
+        permits.release();
+      }
+      // a task may have been queued after the last poll, but before its caller could acquire the
+      // permit which was just released
+    } while (!pending.isEmpty() && permits.tryAcquire());
+  }
+
+  private void run(final Runnable task) {
+    try {
+      task.run();
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected error while running task", e);
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -41,7 +42,10 @@ public final class GcsBackupStore implements BackupStore {
   public static final String SNAPSHOT_FILESET_NAME = "snapshot";
   public static final String SEGMENTS_FILESET_NAME = "segments";
   private static final Logger LOG = LoggerFactory.getLogger(GcsBackupStore.class);
-  private final ExecutorService executor;
+  private static final int MAX_CONCURRENT_OPERATIONS = 4;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+  private final BoundedExecutor sharedExecutor;
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
@@ -51,10 +55,33 @@ public final class GcsBackupStore implements BackupStore {
   }
 
   public GcsBackupStore(final GcsBackupConfig config, final Storage client) {
+    this(config, client, Executors.newWorkStealingPool(MAX_CONCURRENT_OPERATIONS), null);
+  }
+
+  /**
+   * Creates a store which runs its blocking operations on the given executor, e.g. the virtual
+   * threads of the actor scheduler, at most {@value MAX_CONCURRENT_OPERATIONS} at a time. The
+   * executor is not shut down when the store is closed.
+   */
+  public GcsBackupStore(final GcsBackupConfig config, final Executor executor) {
+    this(
+        config,
+        buildClient(config),
+        null,
+        new BoundedExecutor(executor, MAX_CONCURRENT_OPERATIONS));
+  }
+
+  private GcsBackupStore(
+      final GcsBackupConfig config,
+      final Storage client,
+      final ExecutorService ownedExecutor,
+      final BoundedExecutor sharedExecutor) {
     final var bucketInfo = BucketInfo.of(config.bucketName());
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
-    executor = Executors.newWorkStealingPool(4);
+    this.ownedExecutor = ownedExecutor;
+    this.sharedExecutor = sharedExecutor;
+    executor = ownedExecutor != null ? ownedExecutor : sharedExecutor;
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
     fileSetManager = new FileSetManager(client, bucketInfo, basePath);
   }
@@ -150,10 +177,14 @@ public final class GcsBackupStore implements BackupStore {
     return CompletableFuture.runAsync(
         () -> {
           try {
-            executor.shutdown();
-            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
-            if (!closed) {
-              executor.shutdownNow();
+            if (ownedExecutor != null) {
+              ownedExecutor.shutdown();
+              final var closed = ownedExecutor.awaitTermination(1, TimeUnit.MINUTES);
+              if (!closed) {
+                ownedExecutor.shutdownNow();
+              }
+            } else if (!sharedExecutor.awaitIdle(1, TimeUnit.MINUTES)) {
+              LOG.warn("Closing the client while operations are still running after one minute");
             }
             client.close();
           } catch (final Exception e) {
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.gcs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class BoundedExecutorTest {
+  @Test
+  void shouldNotRunMoreTasksConcurrentlyThanAllowed() throws InterruptedException {
+    // given
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    final var release = new CountDownLatch(1);
+    final var futures = new ArrayList<CompletableFuture<Void>>();
+
+    try (final var delegate = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var executor = new BoundedExecutor(delegate, 2);
+
+      // when
+      for (int i = 0; i < 10; i++) {
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> {
+                  maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                  try {
+                    release.await(1, TimeUnit.MINUTES);
+                  } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  } finally {
+                    running.decrementAndGet();
+                  }
+                },
+                executor));
+      }
+      release.countDown();
+
+      // then
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+      assertThat(maxRunning).hasValueLessThanOrEqualTo(2);
+      assertThat(executor.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldNotBeIdleWhileTaskIsRunning() throws InterruptedException {
+    // given
+    final var release = new CountDownLatch(1);
+
+    try (final var delegate = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var executor = new BoundedExecutor(delegate, 2);
+      final var task =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  release.await(1, TimeUnit.MINUTES);
+                } catch (final InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              },
+              executor);
+
+      // when - then
+      assertThat(executor.awaitIdle(100, TimeUnit.MILLISECONDS)).isFalse();
+      release.countDown();
+      task.join();
+      assertThat(executor.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+}
@@ -12,12 +12,14 @@ import io.camunda.zeebe.broker.jobstream.JobStreamService;
 import io.camunda.zeebe.broker.jobstream.RemoteJobStreamErrorHandlerService;
 import io.camunda.zeebe.broker.jobstream.RemoteJobStreamer;
 import io.camunda.zeebe.broker.jobstream.YieldingJobStreamErrorHandler;
+import io.camunda.zeebe.broker.system.configuration.JobStreamCfg;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.TransportFactory;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamService;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.util.Collection;
@@ -46,7 +48,9 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics(brokerStartupContext.getMeterRegistry()));
+                new JobStreamMetrics(brokerStartupContext.getMeterRegistry()),
+                batchConfig(
+                    brokerStartupContext.getBrokerConfiguration().getExperimental().getJobStream()));
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
@@ -116,6 +120,17 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
     }
   }
 
+  private static RemoteStreamBatchConfig batchConfig(final JobStreamCfg cfg) {
+    if (cfg.getPushBatchMaxCount() <= 1) {
+      return RemoteStreamBatchConfig.DISABLED;
+    }
+
+    return new RemoteStreamBatchConfig(
+        cfg.getPushBatchMaxCount(),
+        Math.toIntExact(cfg.getPushBatchMaxSize().toBytes()),
+        cfg.getPushBatchWindow());
+  }
+
   @VisibleForTesting("https://github.com/camunda/camunda/issues/14624")
   static JobActivationProperties readJobActivationProperties(final DirectBuffer buffer) {
     final var mutable = new JobActivationPropertiesImpl();
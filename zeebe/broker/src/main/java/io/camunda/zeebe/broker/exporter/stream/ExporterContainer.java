@@ -240,6 +240,9 @@ final class ExporterContainer implements Controller {
     updateExporterState(lastAcknowledgedPosition, lastExportedMetadata);
   }
 
+  // the exporter is called on the actor thread, and not offloaded via submitBlocking, since the
+  // exporter API guarantees that all calls, including the tasks scheduled via this controller, run on
+  // one thread; exporters share state between them without synchronization
   private void export(final Record<?> record) {
     ThreadContextUtil.runWithClassLoader(
         () -> exporter.export(record), exporter.getClass().getClassLoader());
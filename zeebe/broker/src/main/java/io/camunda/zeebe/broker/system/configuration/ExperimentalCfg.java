@@ -23,6 +23,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
+  public static final DataSize DEFAULT_LOG_STREAM_BLOCK_CACHE_SIZE = DataSize.ofBytes(0);
 
   /**
    * Allows to enable/disable the version check, that prevents us on migrating to alpha versions,
@@ -33,10 +34,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private DataSize logStreamBlockCacheSize = DEFAULT_LOG_STREAM_BLOCK_CACHE_SIZE;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private JobStreamCfg jobStream = new JobStreamCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
@@ -95,6 +98,20 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public DataSize getLogStreamBlockCacheSize() {
+    return logStreamBlockCacheSize;
+  }
+
+  public void setLogStreamBlockCacheSize(final DataSize logStreamBlockCacheSize) {
+    this.logStreamBlockCacheSize = logStreamBlockCacheSize;
+  }
+
+  public long getLogStreamBlockCacheSizeInBytes() {
+    return Optional.ofNullable(logStreamBlockCacheSize)
+        .orElse(DEFAULT_LOG_STREAM_BLOCK_CACHE_SIZE)
+        .toBytes();
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -127,6 +144,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public JobStreamCfg getJobStream() {
+    return jobStream;
+  }
+
+  public void setJobStream(final JobStreamCfg jobStream) {
+    this.jobStream = jobStream;
+  }
+
   public ConsistencyCheckCfg getConsistencyChecks() {
     return consistencyChecks;
   }
@@ -160,12 +185,16 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", logStreamBlockCacheSize="
+        + logStreamBlockCacheSize
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", jobStream="
+        + jobStream
         + ", consistencyChecks="
         + consistencyChecks
         + ", engineCfg="
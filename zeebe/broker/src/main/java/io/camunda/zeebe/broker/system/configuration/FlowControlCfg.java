@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg;
+import io.camunda.zeebe.broker.system.configuration.backpressure.PredictiveLimitCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.RateLimitCfg;
 import java.util.Objects;
 
@@ -21,6 +22,7 @@ public class FlowControlCfg implements ConfigurationEntry {
       JsonMapper.builder().addModule(new JavaTimeModule()).build();
   private LimitCfg request = null;
   private RateLimitCfg write = null;
+  private PredictiveLimitCfg predictive = null;
 
   public FlowControlCfg() {}
 
@@ -40,9 +42,17 @@ public class FlowControlCfg implements ConfigurationEntry {
     this.write = write;
   }
 
+  public PredictiveLimitCfg getPredictive() {
+    return predictive;
+  }
+
+  public void setPredictive(final PredictiveLimitCfg predictive) {
+    this.predictive = predictive;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(request, write);
+    return Objects.hash(request, write, predictive);
   }
 
   @Override
@@ -53,7 +63,9 @@ public class FlowControlCfg implements ConfigurationEntry {
     if (!(o instanceof final FlowControlCfg that)) {
       return false;
     }
-    return Objects.equals(request, that.request) && Objects.equals(write, that.write);
+    return Objects.equals(request, that.request)
+        && Objects.equals(write, that.write)
+        && Objects.equals(predictive, that.predictive);
   }
 
   public static FlowControlCfg deserialize(final String serialized) throws JsonProcessingException {
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public final class JobStreamCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_PUSH_BATCH_MAX_COUNT = 1;
+  private static final DataSize DEFAULT_PUSH_BATCH_MAX_SIZE = DataSize.ofKilobytes(512);
+  private static final Duration DEFAULT_PUSH_BATCH_WINDOW = Duration.ofMillis(1);
+
+  private int pushBatchMaxCount = DEFAULT_PUSH_BATCH_MAX_COUNT;
+  private DataSize pushBatchMaxSize = DEFAULT_PUSH_BATCH_MAX_SIZE;
+  private Duration pushBatchWindow = DEFAULT_PUSH_BATCH_WINDOW;
+
+  public int getPushBatchMaxCount() {
+    return pushBatchMaxCount;
+  }
+
+  public void setPushBatchMaxCount(final int pushBatchMaxCount) {
+    this.pushBatchMaxCount = pushBatchMaxCount;
+  }
+
+  public DataSize getPushBatchMaxSize() {
+    return pushBatchMaxSize;
+  }
+
+  public void setPushBatchMaxSize(final DataSize pushBatchMaxSize) {
+    this.pushBatchMaxSize = pushBatchMaxSize;
+  }
+
+  public Duration getPushBatchWindow() {
+    return pushBatchWindow;
+  }
+
+  public void setPushBatchWindow(final Duration pushBatchWindow) {
+    this.pushBatchWindow = pushBatchWindow;
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{"
+        + "pushBatchMaxCount="
+        + pushBatchMaxCount
+        + ", pushBatchMaxSize="
+        + pushBatchMaxSize
+        + ", pushBatchWindow="
+        + pushBatchWindow
+        + '}';
+  }
+}
@@ -9,12 +9,18 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final DataSize DEFAULT_PREFETCHING_REPLAY_BUFFER_SIZE = DataSize.ofMegabytes(32);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enableInlineFirstAttempt = false;
+  private boolean enableAdaptiveBatchSize = false;
+  private boolean enablePrefetchingReplay = false;
+  private DataSize prefetchingReplayBufferSize = DEFAULT_PREFETCHING_REPLAY_BUFFER_SIZE;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -24,6 +30,11 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (prefetchingReplayBufferSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "prefetchingReplayBufferSize must be positive but was %s"
+              .formatted(prefetchingReplayBufferSize));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -47,6 +58,38 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnableInlineFirstAttempt() {
+    return enableInlineFirstAttempt;
+  }
+
+  public void setEnableInlineFirstAttempt(final boolean enableInlineFirstAttempt) {
+    this.enableInlineFirstAttempt = enableInlineFirstAttempt;
+  }
+
+  public boolean isEnableAdaptiveBatchSize() {
+    return enableAdaptiveBatchSize;
+  }
+
+  public void setEnableAdaptiveBatchSize(final boolean enableAdaptiveBatchSize) {
+    this.enableAdaptiveBatchSize = enableAdaptiveBatchSize;
+  }
+
+  public boolean isEnablePrefetchingReplay() {
+    return enablePrefetchingReplay;
+  }
+
+  public void setEnablePrefetchingReplay(final boolean enablePrefetchingReplay) {
+    this.enablePrefetchingReplay = enablePrefetchingReplay;
+  }
+
+  public DataSize getPrefetchingReplayBufferSize() {
+    return prefetchingReplayBufferSize;
+  }
+
+  public void setPrefetchingReplayBufferSize(final DataSize prefetchingReplayBufferSize) {
+    this.prefetchingReplayBufferSize = prefetchingReplayBufferSize;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -62,6 +105,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enableInlineFirstAttempt="
+        + enableInlineFirstAttempt
+        + ", enableAdaptiveBatchSize="
+        + enableAdaptiveBatchSize
+        + ", enablePrefetchingReplay="
+        + enablePrefetchingReplay
+        + ", prefetchingReplayBufferSize="
+        + prefetchingReplayBufferSize
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, GroupCommitConfig.DEFAULT);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,35 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(boolean enabled, Duration delayTime, GroupCommitConfig groupCommit) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final GroupCommitConfig groupCommit) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit == null ? GroupCommitConfig.DEFAULT : groupCommit;
+    }
+  }
+
+  /**
+   * Coalesces concurrent flush requests into a single flush, without weakening the guarantees of
+   * flushing on every leader commit and follower append. Takes precedence over the delay time of
+   * the {@link FlushConfig}.
+   *
+   * @param enabled whether flush requests are coalesced
+   * @param maxLatency how long a request may wait for more requests to join its flush
+   * @param maxBatchSize how much appended data triggers the next flush without further waiting
+   */
+  public record GroupCommitConfig(boolean enabled, Duration maxLatency, DataSize maxBatchSize) {
+    private static final Duration DEFAULT_MAX_LATENCY = Duration.ZERO;
+    private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofMegabytes(4);
+    private static final GroupCommitConfig DEFAULT =
+        new GroupCommitConfig(false, DEFAULT_MAX_LATENCY, DEFAULT_MAX_BATCH_SIZE);
+
+    public GroupCommitConfig(
+        final boolean enabled, final Duration maxLatency, final DataSize maxBatchSize) {
+      this.enabled = enabled;
+      this.maxLatency = maxLatency == null ? DEFAULT_MAX_LATENCY : maxLatency;
+      this.maxBatchSize = maxBatchSize == null ? DEFAULT_MAX_BATCH_SIZE : maxBatchSize;
     }
   }
 }
@@ -9,10 +9,13 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
@@ -28,6 +31,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Set<ZbColumnFamilies> cachedColumnFamilies = Set.of();
+  private int columnFamilyCacheSize = RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+  private boolean enableZeroCopyReads = RocksDbConfiguration.DEFAULT_ZERO_COPY_READS_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +127,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Set<ZbColumnFamilies> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<ZbColumnFamilies> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public int getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final int columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
+  public boolean isEnableZeroCopyReads() {
+    return enableZeroCopyReads;
+  }
+
+  public void setEnableZeroCopyReads(final boolean enableZeroCopyReads) {
+    this.enableZeroCopyReads = enableZeroCopyReads;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +169,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setCachedColumnFamilies(
+            cachedColumnFamilies.stream().map(Enum::name).collect(Collectors.toSet()))
+        .setColumnFamilyCacheSize(columnFamilyCacheSize)
+        .setZeroCopyReadsEnabled(enableZeroCopyReads);
   }
 
   @Override
@@ -165,6 +199,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
+        + ", enableZeroCopyReads="
+        + enableZeroCopyReads
         + '}';
   }
 
@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.TimerQueueType;
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean partitionAffinityEnabled = false;
+  private Duration affinityStealDelay = Duration.ofMillis(5);
+  private TimerQueueType timerQueue = TimerQueueType.DEADLINE_WHEEL;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +33,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public Duration getAffinityStealDelay() {
+    return affinityStealDelay;
+  }
+
+  public void setAffinityStealDelay(final Duration affinityStealDelay) {
+    this.affinityStealDelay = affinityStealDelay;
+  }
+
+  public TimerQueueType getTimerQueue() {
+    return timerQueue;
+  }
+
+  public void setTimerQueue(final TimerQueueType timerQueue) {
+    this.timerQueue = timerQueue;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +64,12 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", partitionAffinityEnabled="
+        + partitionAffinityEnabled
+        + ", affinityStealDelay="
+        + affinityStealDelay
+        + ", timerQueue="
+        + timerQueue
         + '}';
   }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
+import java.time.Duration;
+import java.util.Objects;
+
+public class PredictiveLimitCfg {
+  private boolean enabled = false;
+  private Duration targetLatency = Duration.ofSeconds(1);
+  private long acceptableExportingBacklog = 100_000;
+  private Duration resolution = Duration.ofSeconds(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getTargetLatency() {
+    return targetLatency;
+  }
+
+  public void setTargetLatency(final Duration targetLatency) {
+    this.targetLatency = targetLatency;
+  }
+
+  public long getAcceptableExportingBacklog() {
+    return acceptableExportingBacklog;
+  }
+
+  public void setAcceptableExportingBacklog(final long acceptableExportingBacklog) {
+    this.acceptableExportingBacklog = acceptableExportingBacklog;
+  }
+
+  public Duration getResolution() {
+    return resolution;
+  }
+
+  public void setResolution(final Duration resolution) {
+    this.resolution = resolution;
+  }
+
+  public PredictiveLimit buildLimit() {
+    return new PredictiveLimit(enabled, targetLatency, acceptableExportingBacklog, resolution);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, targetLatency, acceptableExportingBacklog, resolution);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final PredictiveLimitCfg that)) {
+      return false;
+    }
+    return enabled == that.enabled
+        && acceptableExportingBacklog == that.acceptableExportingBacklog
+        && Objects.equals(targetLatency, that.targetLatency)
+        && Objects.equals(resolution, that.resolution);
+  }
+
+  @Override
+  public String toString() {
+    return "PredictiveLimitCfg{"
+        + "enabled="
+        + enabled
+        + ", targetLatency="
+        + targetLatency
+        + ", acceptableExportingBacklog="
+        + acceptableExportingBacklog
+        + ", resolution="
+        + resolution
+        + '}';
+  }
+}
@@ -80,8 +80,10 @@ public final class EngineCfg implements ConfigurationEntry {
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setExpressionCacheCapacity(caches.getExpressionCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setJobsActivatableQueueEnabled(jobs.isActivatableQueueEnabled())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
   }
 }
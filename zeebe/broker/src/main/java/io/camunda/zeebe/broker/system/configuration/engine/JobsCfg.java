@@ -16,6 +16,8 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int timeoutCheckerBatchLimit =
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean activatableQueueEnabled =
+      EngineConfiguration.DEFAULT_JOBS_ACTIVATABLE_QUEUE_ENABLED;
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -33,6 +35,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.timeoutCheckerBatchLimit = timeoutCheckerBatchLimit;
   }
 
+  public boolean isActivatableQueueEnabled() {
+    return activatableQueueEnabled;
+  }
+
+  public void setActivatableQueueEnabled(final boolean activatableQueueEnabled) {
+    this.activatableQueueEnabled = activatableQueueEnabled;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -40,6 +50,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerPollingInterval
         + ", timeoutCheckerBatchLimit="
         + timeoutCheckerBatchLimit
+        + ", activatableQueueEnabled="
+        + activatableQueueEnabled
         + '}';
   }
 }
@@ -209,6 +209,9 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
             if (flowControlCfg.getRequest() != null) {
               flowControl.setRequestLimit(flowControlCfg.getRequest().buildLimit());
             }
+            if (flowControlCfg.getPredictive() != null) {
+              flowControl.setPredictiveLimit(flowControlCfg.getPredictive().buildLimit());
+            }
             future.complete(null);
           } catch (final Exception e) {
             LOG.error(
@@ -22,6 +22,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 
 public final class BackupStoreTransitionStep implements PartitionTransitionStep {
+  private static final String GCS_BLOCKING_SUBSYSTEM = "backup-gcs";
 
   @Override
   public ActorFuture<Void> prepareTransition(
@@ -98,7 +99,10 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
     try {
       final var brokerGcsConfig = backupCfg.getGcs();
       final var storeGcsConfig = GcsBackupStoreConfig.toStoreConfig(brokerGcsConfig);
-      final var gcsStore = new GcsBackupStore(storeGcsConfig);
+      final var gcsStore =
+          new GcsBackupStore(
+              storeGcsConfig,
+              context.getActorSchedulingService().blockingExecutor(GCS_BLOCKING_SUBSYSTEM));
       context.setBackupStore(gcsStore);
       installed.complete(null);
     } catch (final Exception error) {
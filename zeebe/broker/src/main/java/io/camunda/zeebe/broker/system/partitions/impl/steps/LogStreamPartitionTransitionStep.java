@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
@@ -82,6 +83,12 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withPredictiveLimit(
+            flowControlCfg.getPredictive() != null
+                ? flowControlCfg.getPredictive().buildLimit()
+                : PredictiveLimit.disabled())
+        .withBlockCacheSize(
+            context.getBrokerCfg().getExperimental().getLogStreamBlockCacheSizeInBytes())
         .build();
   }
 
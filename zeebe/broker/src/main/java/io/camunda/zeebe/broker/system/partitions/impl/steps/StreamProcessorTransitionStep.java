@@ -161,6 +161,14 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setInlineFirstAttemptEnabled(
+            context.getBrokerCfg().getProcessing().isEnableInlineFirstAttempt())
+        .setAdaptiveBatchSizeEnabled(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveBatchSize())
+        .setPrefetchingReplayEnabled(
+            context.getBrokerCfg().getProcessing().isEnablePrefetchingReplay())
+        .setPrefetchingReplayMaxBytes(
+            context.getBrokerCfg().getProcessing().getPrefetchingReplayBufferSize().toBytes())
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
         .processingFilter(processingFilter)
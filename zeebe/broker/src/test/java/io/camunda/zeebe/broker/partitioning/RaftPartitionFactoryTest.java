@@ -100,6 +100,19 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(chunkSize.toBytes());
   }
 
+  @Test
+  void shouldSetRaftMaxSnapshotChunksInFlight() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(8);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(8);
+  }
+
   @Test
   void shouldSetRaftConfigurationChangeTimeout() {
     // given
@@ -129,4 +129,22 @@ public final class BackpressureCfgTest {
     // then
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.AIMD);
   }
+
+  @Test
+  public void shouldSetPredictiveLimitFromEnv() {
+    // given
+    environment.put("zeebe.broker.flowControl.predictive.enabled", "true");
+    environment.put("zeebe.broker.flowControl.predictive.targetLatency", "500ms");
+    environment.put("zeebe.broker.flowControl.predictive.acceptableExportingBacklog", "5000");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var predictiveLimit = cfg.getFlowControl().getPredictive().buildLimit();
+
+    // then
+    assertThat(predictiveLimit.enabled()).isTrue();
+    assertThat(predictiveLimit.targetLatency()).isEqualTo(Duration.ofMillis(500));
+    assertThat(predictiveLimit.acceptableExportingBacklog()).isEqualTo(5000);
+    assertThat(predictiveLimit.resolution()).isEqualTo(Duration.ofSeconds(1));
+  }
 }
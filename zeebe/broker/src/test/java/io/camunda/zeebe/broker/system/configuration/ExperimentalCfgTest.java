@@ -216,4 +216,27 @@ final class ExperimentalCfgTest {
     // then
     assertThat(experimental.isVersionCheckRestrictionEnabled()).isFalse();
   }
+
+  @Test
+  void shouldDisableLogStreamBlockCacheByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getLogStreamBlockCacheSizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldSetLogStreamBlockCacheSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.logStreamBlockCacheSize", "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getLogStreamBlockCacheSizeInBytes()).isEqualTo(16 * 1024 * 1024);
+  }
 }
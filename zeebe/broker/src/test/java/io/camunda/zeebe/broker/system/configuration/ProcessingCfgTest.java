@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class ProcessingCfgTest {
 
@@ -132,6 +133,110 @@ final class ProcessingCfgTest {
     assertThat(enabled).isTrue();
   }
 
+  @Test
+  void shouldDisableInlineFirstAttemptByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableInlineFirstAttempt();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableInlineFirstAttemptFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableInlineFirstAttempt", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableInlineFirstAttempt();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableAdaptiveBatchSizeByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchSize();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableAdaptiveBatchSizeFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableAdaptiveBatchSize", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchSize();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisablePrefetchingReplayByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePrefetchingReplay();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnablePrefetchingReplayFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enablePrefetchingReplay", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePrefetchingReplay();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetPrefetchingReplayBufferSizeFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.prefetchingReplayBufferSize", "8MB");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var bufferSize = cfg.getPrefetchingReplayBufferSize();
+
+    // then
+    assertThat(bufferSize).isEqualTo(DataSize.ofMegabytes(8));
+  }
+
+  @Test
+  void shouldRejectInvalidPrefetchingReplayBufferSize() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.prefetchingReplayBufferSize", "0B");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("prefetchingReplayBufferSize must be positive");
+  }
+
   @Test
   void shouldSetSkipPositions() {
     // given
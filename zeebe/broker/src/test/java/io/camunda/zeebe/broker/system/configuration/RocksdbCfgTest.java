@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +287,59 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldNotCacheColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies()).isEmpty();
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize())
+        .isEqualTo(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
+  }
+
+  @Test
+  public void shouldSetCachedColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.cachedColumnFamilies", "JOBS,VARIABLES");
+    environment.put("zeebe.broker.experimental.rocksdb.columnFamilyCacheSize", "128");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder(ZbColumnFamilies.JOBS.name(), ZbColumnFamilies.VARIABLES.name());
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize()).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldDisableZeroCopyReadsPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isZeroCopyReadsEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldEnableZeroCopyReadsViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableZeroCopyReads", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isZeroCopyReadsEnabled()).isTrue();
+  }
 }
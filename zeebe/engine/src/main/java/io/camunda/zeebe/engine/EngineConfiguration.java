@@ -23,8 +23,10 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_EXPRESSION_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final boolean DEFAULT_JOBS_ACTIVATABLE_QUEUE_ENABLED = false;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
@@ -34,9 +36,11 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int expressionCacheCapacity = DEFAULT_EXPRESSION_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean jobsActivatableQueueEnabled = DEFAULT_JOBS_ACTIVATABLE_QUEUE_ENABLED;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
@@ -98,6 +102,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getExpressionCacheCapacity() {
+    return expressionCacheCapacity;
+  }
+
+  public EngineConfiguration setExpressionCacheCapacity(final int expressionCacheCapacity) {
+    this.expressionCacheCapacity = expressionCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -118,6 +131,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public boolean isJobsActivatableQueueEnabled() {
+    return jobsActivatableQueueEnabled;
+  }
+
+  public EngineConfiguration setJobsActivatableQueueEnabled(
+      final boolean jobsActivatableQueueEnabled) {
+    this.jobsActivatableQueueEnabled = jobsActivatableQueueEnabled;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
@@ -135,6 +135,59 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return KEY_NAMES;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of look ups of parsed expressions in the parsed expression cache */
+  PARSED_EXPRESSION_CACHE_LOOKUPS {
+    private static final KeyName[] KEY_NAMES = new KeyName[] {EngineKeyNames.CACHE_RESULT};
+
+    @Override
+    public String getDescription() {
+      return "Number of look ups of parsed expressions in the parsed expression cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEY_NAMES;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Current number of parsed expressions in the parsed expression cache */
+  PARSED_EXPRESSION_CACHE_SIZE {
+    @Override
+    public String getDescription() {
+      return "Current number of parsed expressions in the parsed expression cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -189,6 +242,17 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /**
+     * Whether a look up in a cache found the value or not; see {@link CacheResult} for possible
+     * values.
+     */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
     /**
      * Metrics that are annotated with this label are vitally important for usage tracking and
      * data-based decision-making as part of Camunda's SaaS offering.
@@ -230,4 +294,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return name().toLowerCase();
     }
   }
+
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
 }
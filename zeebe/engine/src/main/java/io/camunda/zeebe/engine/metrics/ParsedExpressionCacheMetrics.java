@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.el.ParsedExpressionCache;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+
+/** Exposes the statistics of a {@link ParsedExpressionCache} as metrics. */
+public final class ParsedExpressionCacheMetrics {
+
+  private ParsedExpressionCacheMetrics() {}
+
+  public static void register(final MeterRegistry registry, final ParsedExpressionCache cache) {
+    if (!cache.isEnabled()) {
+      return;
+    }
+
+    registerLookups(registry, cache, CacheResult.HIT, ParsedExpressionCache::hitCount);
+    registerLookups(registry, cache, CacheResult.MISS, ParsedExpressionCache::missCount);
+
+    final var size = EngineMetricsDoc.PARSED_EXPRESSION_CACHE_SIZE;
+    Gauge.builder(size.getName(), cache, ParsedExpressionCache::size)
+        .description(size.getDescription())
+        .register(registry);
+  }
+
+  private static void registerLookups(
+      final MeterRegistry registry,
+      final ParsedExpressionCache cache,
+      final CacheResult result,
+      final ToDoubleFunction<ParsedExpressionCache> count) {
+    final var lookups = EngineMetricsDoc.PARSED_EXPRESSION_CACHE_LOOKUPS;
+    FunctionCounter.builder(lookups.getName(), cache, count)
+        .description(lookups.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(registry);
+  }
+}
@@ -67,7 +67,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState) {
     expressionBehavior =
         new ExpressionProcessor(
-            ExpressionLanguageFactory.createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+            ExpressionLanguageFactory.createExpressionLanguage(
+                new ZeebeFeelEngineClock(clock), processingState.getParsedExpressionCache()),
             new VariableStateEvaluationContextLookup(processingState.getVariableState()));
 
     variableBehavior =
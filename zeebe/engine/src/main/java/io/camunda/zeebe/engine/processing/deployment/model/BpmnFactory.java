@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.deployment.model;
 
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.el.ParsedExpressionCache;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
@@ -18,21 +19,30 @@ import java.time.InstantSource;
 public final class BpmnFactory {
 
   public static BpmnTransformer createTransformer(final InstantSource clock) {
-    return new BpmnTransformer(createExpressionLanguage(new ZeebeFeelEngineClock(clock)));
+    return createTransformer(clock, new ParsedExpressionCache(0));
+  }
+
+  public static BpmnTransformer createTransformer(
+      final InstantSource clock, final ParsedExpressionCache parsedExpressionCache) {
+    return new BpmnTransformer(
+        createExpressionLanguage(new ZeebeFeelEngineClock(clock), parsedExpressionCache));
   }
 
   public static BpmnValidator createValidator(
       final InstantSource clock,
+      final ParsedExpressionCache parsedExpressionCache,
       final ExpressionProcessor expressionProcessor,
       final int validatorResultsOutputMaxSize) {
     return new BpmnValidator(
-        createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+        createExpressionLanguage(new ZeebeFeelEngineClock(clock), parsedExpressionCache),
         expressionProcessor,
         validatorResultsOutputMaxSize);
   }
 
   private static ExpressionLanguage createExpressionLanguage(
-      final ZeebeFeelEngineClock zeebeFeelEngineClock) {
-    return ExpressionLanguageFactory.createExpressionLanguage(zeebeFeelEngineClock);
+      final ZeebeFeelEngineClock zeebeFeelEngineClock,
+      final ParsedExpressionCache parsedExpressionCache) {
+    return ExpressionLanguageFactory.createExpressionLanguage(
+        zeebeFeelEngineClock, parsedExpressionCache);
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.deployment.transform;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
+import io.camunda.zeebe.el.ParsedExpressionCache;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
@@ -59,15 +60,19 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final ExpressionProcessor expressionProcessor,
       final boolean enableStraightThroughProcessingLoopDetector,
       final EngineConfiguration config,
-      final InstantSource clock) {
-    bpmnTransformer = BpmnFactory.createTransformer(clock);
+      final InstantSource clock,
+      final ParsedExpressionCache parsedExpressionCache) {
+    bpmnTransformer = BpmnFactory.createTransformer(clock, parsedExpressionCache);
     this.keyGenerator = keyGenerator;
     this.stateWriter = stateWriter;
     this.checksumGenerator = checksumGenerator;
     this.processState = processState;
     validator =
         BpmnFactory.createValidator(
-            clock, expressionProcessor, config.getValidatorsResultsOutputMaxSize());
+            clock,
+            parsedExpressionCache,
+            expressionProcessor,
+            config.getValidatorsResultsOutputMaxSize());
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
@@ -61,7 +61,8 @@ public final class DeploymentTransformer {
             expressionProcessor,
             featureFlags.enableStraightThroughProcessingLoopDetector(),
             config,
-            clock);
+            clock,
+            processingState.getParsedExpressionCache());
     final var dmnResourceTransformer =
         new DmnResourceTransformer(
             keyGenerator, stateWriter, checksumGenerator, processingState.getDecisionState());
@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.el.ParsedExpressionCache;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.scaling.redistribution.DbRedistributionState;
 import io.camunda.zeebe.engine.scaling.redistribution.MutableRedistributionState;
@@ -39,6 +40,7 @@ import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionStat
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
+import io.camunda.zeebe.engine.state.message.MessageDeadlineWatermark;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.DbMigrationState;
 import io.camunda.zeebe.engine.state.mutable.MutableAuthorizationState;
@@ -88,6 +90,7 @@ import java.util.function.BiConsumer;
 public class ProcessingDbState implements MutableProcessingState {
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
   private final KeyGenerator keyGenerator;
+  private final ParsedExpressionCache parsedExpressionCache;
   private final MutableProcessState processState;
   private final MutableTimerInstanceState timerInstanceState;
   private final MutableElementInstanceState elementInstanceState;
@@ -129,6 +132,7 @@ public class ProcessingDbState implements MutableProcessingState {
       final KeyGenerator keyGenerator,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final MessageDeadlineWatermark messageDeadlineWatermark,
       final EngineConfiguration config,
       final InstantSource clock) {
     this.partitionId = partitionId;
@@ -136,14 +140,17 @@ public class ProcessingDbState implements MutableProcessingState {
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
+    parsedExpressionCache = new ParsedExpressionCache(config.getExpressionCacheCapacity());
+    processState =
+        new DbProcessState(zeebeDb, transactionContext, config, clock, parsedExpressionCache);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
-    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
+    jobState = new DbJobState(zeebeDb, transactionContext, config);
+    messageState =
+        new DbMessageState(zeebeDb, transactionContext, partitionId, messageDeadlineWatermark);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
             zeebeDb, transactionContext, transientMessageSubscriptionState, clock);
@@ -182,6 +189,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    jobState.onRecovered(context);
   }
 
   @Override
@@ -364,6 +372,11 @@ public class ProcessingDbState implements MutableProcessingState {
     return partitionId;
   }
 
+  @Override
+  public ParsedExpressionCache getParsedExpressionCache() {
+    return parsedExpressionCache;
+  }
+
   @Override
   public boolean isEmpty(final ZbColumnFamilies column) {
     final var newContext = zeebeDb.createContext();
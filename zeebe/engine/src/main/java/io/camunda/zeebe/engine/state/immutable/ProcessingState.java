@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.el.ParsedExpressionCache;
 import io.camunda.zeebe.engine.scaling.redistribution.RedistributionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -74,6 +75,12 @@ public interface ProcessingState extends StreamProcessorLifecycleAware {
 
   int getPartitionId();
 
+  /**
+   * @return the cache of parsed expressions, which is shared by everything that parses expressions
+   *     on this partition
+   */
+  ParsedExpressionCache getParsedExpressionCache();
+
   boolean isEmpty(final ZbColumnFamilies column);
 
   ClockState getClockState();
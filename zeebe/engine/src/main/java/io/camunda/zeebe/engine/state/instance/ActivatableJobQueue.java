@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An in-memory mirror of the activatable jobs column family: an ordered set of activatable job keys
+ * per job type and tenant. It lets the job state find the next activatable jobs of a type without
+ * seeking through the column family, which remains the source of truth.
+ *
+ * <p>Job types are loaded lazily, the first time their jobs are looked up, and from then on are
+ * kept in sync by the job state. Types which were never loaded are not tracked at all.
+ *
+ * <p>The keys of a queue are kept in a sorted array of primitive longs, which grows and shrinks such
+ * that it takes up between 8 and 32 bytes per activatable job, apart from small queues. As jobs
+ * are usually created in the order of their keys and activated oldest first, keys are mostly
+ * appended at the end and removed from the front, which doesn't need to move other keys.
+ *
+ * <p>Since changes are applied immediately, while the transaction which caused them may still be
+ * rolled back, all loaded types are dropped whenever a transaction that changed the queue is rolled
+ * back; they are then reloaded from the column family on the next look up.
+ */
+final class ActivatableJobQueue implements TransactionListener {
+
+  static final long NO_JOB = -1L;
+
+  private final Map<DirectBuffer, Map<String, SortedKeys>> queues = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+  private boolean dirty;
+
+  boolean isLoaded(final DirectBuffer type) {
+    return queues.containsKey(view(type));
+  }
+
+  /** Marks the given type as loaded; its jobs must then be added via {@link #add}. */
+  void load(final DirectBuffer type) {
+    queues.put(BufferUtil.cloneBuffer(type), new HashMap<>());
+    dirty = true;
+  }
+
+  void add(final DirectBuffer type, final String tenantId, final long jobKey) {
+    final var tenantQueues = queues.get(view(type));
+    if (tenantQueues != null) {
+      tenantQueues.computeIfAbsent(tenantId, ignored -> new SortedKeys()).add(jobKey);
+      dirty = true;
+    }
+  }
+
+  void remove(final DirectBuffer type, final String tenantId, final long jobKey) {
+    final var tenantQueues = queues.get(view(type));
+    if (tenantQueues != null) {
+      final var queue = tenantQueues.get(tenantId);
+      if (queue != null && queue.remove(jobKey)) {
+        dirty = true;
+      }
+    }
+  }
+
+  /**
+   * Returns the smallest activatable job key of the given type, which is greater than the given key
+   * and belongs to one of the given tenants. The type must have been loaded before.
+   *
+   * @return the next job key, or {@link #NO_JOB} if there is none
+   */
+  long next(final DirectBuffer type, final List<String> tenantIds, final long afterJobKey) {
+    final var tenantQueues = queues.get(view(type));
+    long next = NO_JOB;
+
+    for (final String tenantId : tenantIds) {
+      final var queue = tenantQueues.get(tenantId);
+      if (queue == null) {
+        continue;
+      }
+
+      final long candidate = queue.higher(afterJobKey);
+      if (candidate != NO_JOB && (next == NO_JOB || candidate < next)) {
+        next = candidate;
+      }
+    }
+
+    return next;
+  }
+
+  void clear() {
+    queues.clear();
+    dirty = false;
+  }
+
+  @Override
+  public void onCommit() {
+    dirty = false;
+  }
+
+  @Override
+  public void onRollback() {
+    if (dirty) {
+      clear();
+    }
+  }
+
+  private DirectBuffer view(final DirectBuffer type) {
+    typeView.wrap(type);
+    return typeView;
+  }
+
+  /**
+   * A set of non-negative keys in ascending order, stored in the range {@code [head, tail)} of an
+   * array. Keys are inserted and removed at either end without moving the others; only keys in the
+   * middle move the keys after them.
+   */
+  static final class SortedKeys {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    /**
+     * @return true if the key was added, false if it was contained already
+     */
+    boolean add(final long key) {
+      if (head == tail || key > keys[tail - 1]) {
+        ensureCapacityAtTail();
+        keys[tail++] = key;
+        return true;
+      }
+
+      final var index = Arrays.binarySearch(keys, head, tail, key);
+      if (index >= 0) {
+        return false;
+      }
+
+      final var insertionIndex = -index - 1;
+      if (insertionIndex == head && head > 0) {
+        keys[--head] = key;
+      } else {
+        ensureCapacityAtTail();
+        System.arraycopy(keys, insertionIndex, keys, insertionIndex + 1, tail - insertionIndex);
+        keys[insertionIndex] = key;
+        tail++;
+      }
+      return true;
+    }
+
+    /**
+     * @return true if the key was removed, false if it was not contained
+     */
+    boolean remove(final long key) {
+      final var index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return false;
+      }
+
+      if (index == head) {
+        head++;
+      } else {
+        System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+        tail--;
+      }
+
+      if (keys.length > INITIAL_CAPACITY && size() < keys.length / 4) {
+        resize(keys.length / 2);
+      } else if (head == tail) {
+        head = 0;
+        tail = 0;
+      }
+      return true;
+    }
+
+    /**
+     * @return the smallest key which is greater than the given key, or {@link #NO_JOB}
+     */
+    long higher(final long key) {
+      var index = Arrays.binarySearch(keys, head, tail, key);
+      index = index >= 0 ? index + 1 : -index - 1;
+      return index < tail ? keys[index] : NO_JOB;
+    }
+
+    int size() {
+      return tail - head;
+    }
+
+    private void ensureCapacityAtTail() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      if (head >= keys.length / 2) {
+        // reuse the space of the keys which were removed from the front
+        System.arraycopy(keys, head, keys, 0, size());
+        tail = size();
+        head = 0;
+      } else {
+        resize(keys.length * 2);
+      }
+    }
+
+    private void resize(final int capacity) {
+      final var size = size();
+      final var resized = new long[capacity];
+      System.arraycopy(keys, head, resized, 0, size);
+      keys = resized;
+      head = 0;
+      tail = size;
+    }
+  }
+}
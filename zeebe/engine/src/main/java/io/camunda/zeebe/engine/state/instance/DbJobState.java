@@ -17,13 +17,16 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -34,6 +37,8 @@ import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
+  private static final int MIN_ACTIVATABLE_JOBS_BATCH_SIZE = 8;
+  private static final int MAX_ACTIVATABLE_JOBS_BATCH_SIZE = 64;
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
   // key => job record value
@@ -72,8 +77,26 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // activatable jobs are looked up in batches, which grow up to a limit, as most of the time only a
+  // few jobs are activated at once
+  private final List<DbLong> activatableJobKeys = new ArrayList<>();
+  private final List<DbLong> activatableJobKeyPool = new ArrayList<>();
+  private int activatableJobsBatchSize;
+  private int visitedActivatableJobs;
+  private boolean continueActivatableJobs;
+
+  // optional in-memory mirror of the activatable column family, null if disabled
+  private final ActivatableJobQueue activatableJobQueue;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -107,6 +130,21 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    if (config.isJobsActivatableQueueEnabled()) {
+      activatableJobQueue = new ActivatableJobQueue();
+      transactionContext.addListener(activatableJobQueue);
+    } else {
+      activatableJobQueue = null;
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    // drop whatever was loaded during replay, such that it is reloaded from the recovered state
+    if (activatableJobQueue != null) {
+      activatableJobQueue.clear();
+    }
   }
 
   @Override
@@ -406,20 +444,32 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
+    activatableJobsBatchSize = MIN_ACTIVATABLE_JOBS_BATCH_SIZE;
+
+    if (activatableJobQueue != null) {
+      forEachQueuedActivatableJob(type, tenantIds, callback);
+      return;
+    }
 
+    jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
           final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+          if (!tenantIds.contains(tenantId)) {
+            // we want to continue with the iteration
+            return true;
           }
-          // we want to continue with the iteration
-          return true;
+
+          return addActivatableJob(jobKey.getValue(), callback);
         }));
+
+    if (!activatableJobKeys.isEmpty()) {
+      visitActivatableJobs(callback);
+    }
   }
 
   @Override
@@ -464,10 +514,112 @@ public final class DbJobState implements JobState, MutableJobState {
     return nextBackOffDueDate;
   }
 
+  private void forEachQueuedActivatableJob(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (!activatableJobQueue.isLoaded(type)) {
+      loadActivatableJobQueue(type);
+    }
+
+    long jobKey = activatableJobQueue.next(type, tenantIds, ActivatableJobQueue.NO_JOB);
+    while (jobKey != ActivatableJobQueue.NO_JOB) {
+      if (!addActivatableJob(jobKey, callback)) {
+        return;
+      }
+      jobKey = activatableJobQueue.next(type, tenantIds, jobKey);
+    }
+
+    if (!activatableJobKeys.isEmpty()) {
+      visitActivatableJobs(callback);
+    }
+  }
+
+  private void loadActivatableJobQueue(final DirectBuffer type) {
+    activatableJobQueue.load(type);
+
+    jobTypeKey.wrapBuffer(type);
+    activatableColumnFamily.whileEqualPrefix(
+        jobTypeKey,
+        (tenantAwareCompositeKey, zbNil) -> {
+          activatableJobQueue.add(
+              type,
+              tenantAwareCompositeKey.tenantKey().toString(),
+              tenantAwareCompositeKey.wrappedKey().second().inner().getValue());
+        });
+  }
+
+  /**
+   * Collects the given activatable job key, and visits the collected jobs once a batch is full.
+   *
+   * @return true if the iteration should continue, false otherwise
+   */
+  private boolean addActivatableJob(
+      final long key, final BiFunction<Long, JobRecord, Boolean> callback) {
+    addActivatableJobKey(key);
+    if (activatableJobKeys.size() < activatableJobsBatchSize) {
+      return true;
+    }
+
+    activatableJobsBatchSize =
+        Math.min(activatableJobsBatchSize * 2, MAX_ACTIVATABLE_JOBS_BATCH_SIZE);
+    return visitActivatableJobs(callback);
+  }
+
+  private void addActivatableJobKey(final long key) {
+    final int index = activatableJobKeys.size();
+    if (index == activatableJobKeyPool.size()) {
+      activatableJobKeyPool.add(new DbLong());
+    }
+
+    final var activatableJobKey = activatableJobKeyPool.get(index);
+    activatableJobKey.wrapLong(key);
+    activatableJobKeys.add(activatableJobKey);
+  }
+
+  /**
+   * Looks up the jobs of all collected activatable job keys at once, and visits them in order until
+   * the callback returns false.
+   *
+   * @return true if the iteration should continue, false otherwise
+   */
+  private boolean visitActivatableJobs(final BiFunction<Long, JobRecord, Boolean> callback) {
+    visitedActivatableJobs = 0;
+    continueActivatableJobs = true;
+
+    jobsColumnFamily.getAll(
+        activatableJobKeys,
+        (key, job) -> {
+          if (!continueActivatableJobs) {
+            return;
+          }
+
+          // jobs are visited in the order of the keys, so any skipped key refers to a missing job
+          while (activatableJobKeys.get(visitedActivatableJobs) != key) {
+            logMissingJob(activatableJobKeys.get(visitedActivatableJobs++).getValue());
+          }
+          visitedActivatableJobs++;
+          continueActivatableJobs = callback.apply(key.getValue(), job.getRecord());
+        });
+
+    if (continueActivatableJobs) {
+      while (visitedActivatableJobs < activatableJobKeys.size()) {
+        logMissingJob(activatableJobKeys.get(visitedActivatableJobs++).getValue());
+      }
+    }
+
+    activatableJobKeys.clear();
+    return continueActivatableJobs;
+  }
+
+  private void logMissingJob(final long jobKey) {
+    LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+  }
+
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
-      LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+      logMissingJob(jobKey);
       return true; // we want to continue with the iteration
     }
     return callback.test(jobKey, job);
@@ -508,6 +660,10 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+
+    if (activatableJobQueue != null) {
+      activatableJobQueue.add(type, tenantId, key);
+    }
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -517,6 +673,10 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+
+    if (activatableJobQueue != null) {
+      activatableJobQueue.remove(type, tenantId, jobKey.getValue());
+    }
   }
 
   private void addJobDeadline(final long job, final long deadline) {
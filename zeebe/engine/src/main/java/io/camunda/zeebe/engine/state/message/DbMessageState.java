@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
@@ -27,6 +28,7 @@ import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableLong;
 
 public final class DbMessageState implements MutableMessageState {
 
@@ -73,6 +75,11 @@ public final class DbMessageState implements MutableMessageState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlineColumnFamily;
 
+  private final MessageDeadlineWatermark deadlineWatermark;
+
+  // the lowest deadline of the messages inserted in the current transaction
+  private long lowestInsertedDeadline = Long.MAX_VALUE;
+
   /**
    * <pre>count | key -> value
    *
@@ -134,6 +141,14 @@ public final class DbMessageState implements MutableMessageState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this(zeebeDb, transactionContext, partitionId, new MessageDeadlineWatermark());
+  }
+
+  public DbMessageState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final MessageDeadlineWatermark deadlineWatermark) {
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -162,6 +177,8 @@ public final class DbMessageState implements MutableMessageState {
             transactionContext,
             deadlineMessageKey,
             DbNil.INSTANCE);
+    this.deadlineWatermark = deadlineWatermark;
+    transactionContext.addListener(new InsertedDeadlinesListener());
 
     messagesDeadlineCount = new DbLong();
     messagesDeadlineCountKey = new DbString();
@@ -213,6 +230,8 @@ public final class DbMessageState implements MutableMessageState {
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    deadlineWatermark.reset();
+
     if (!messagesDeadlineCountColumnFamily.isEmpty()) {
       localMessageDeadlineCount =
           messagesDeadlineCountColumnFamily.get(messagesDeadlineCountKey).getValue();
@@ -234,6 +253,10 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    // lowered right away, but also after the commit, in case the expired messages were visited
+    // concurrently in between, which doesn't see the message yet and may raise the watermark again
+    lowestInsertedDeadline = Math.min(lowestInsertedDeadline, record.getDeadline());
+    deadlineWatermark.lower(record.getDeadline());
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -409,19 +432,28 @@ public final class DbMessageState implements MutableMessageState {
   public boolean visitMessagesWithDeadlineBeforeTimestamp(
       final long timestamp, final Index startAt, final ExpiredMessageVisitor visitor) {
     final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
+    final long watermarkEpoch = deadlineWatermark.epoch();
+    final long watermark = deadlineWatermark.get();
     if (startAt != null) {
       deadline.wrapLong(startAt.deadline());
       messageKey.wrapLong(startAt.key());
       startAtKey = deadlineMessageKey;
+    } else if (watermark != MessageDeadlineWatermark.UNKNOWN) {
+      // skip the entries of removed messages, which RocksDB keeps until they are compacted
+      deadline.wrapLong(watermark);
+      messageKey.wrapLong(0);
+      startAtKey = deadlineMessageKey;
     } else {
       startAtKey = null;
     }
     final var stoppedByVisitor = new MutableBoolean(false);
+    final var lowestDeadline = new MutableLong(Long.MAX_VALUE);
     deadlineColumnFamily.whileTrue(
         startAtKey,
         (key, value) -> {
           boolean shouldContinue = false;
           final long deadlineEntry = key.first().getValue();
+          lowestDeadline.set(Math.min(lowestDeadline.get(), deadlineEntry));
           if (deadlineEntry <= timestamp) {
             final long messageKeyEntry = key.second().inner().getValue();
             shouldContinue = visitor.visit(deadlineEntry, messageKeyEntry);
@@ -430,6 +462,11 @@ public final class DbMessageState implements MutableMessageState {
           return shouldContinue;
         });
 
+    if (startAt == null) {
+      // the first visited entry has the lowest deadline of all messages
+      deadlineWatermark.raise(watermarkEpoch, lowestDeadline.get());
+    }
+
     return stoppedByVisitor.get();
   }
 
@@ -446,4 +483,22 @@ public final class DbMessageState implements MutableMessageState {
 
     return messageIdColumnFamily.exists(nameCorrelationMessageIdKey);
   }
+
+  private final class InsertedDeadlinesListener implements TransactionListener {
+
+    @Override
+    public void onCommit() {
+      if (lowestInsertedDeadline != Long.MAX_VALUE) {
+        deadlineWatermark.lower(lowestInsertedDeadline);
+        lowestInsertedDeadline = Long.MAX_VALUE;
+      }
+    }
+
+    @Override
+    public void onRollback() {
+      // the watermark may have been lowered for messages which are not inserted now, but it is
+      // still a lower bound of the deadlines
+      lowestInsertedDeadline = Long.MAX_VALUE;
+    }
+  }
 }
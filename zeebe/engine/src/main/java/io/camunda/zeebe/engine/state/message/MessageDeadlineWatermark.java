@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+/**
+ * A lower bound of the deadlines of all buffered messages, shared between the {@link
+ * DbMessageState} of the processing, which inserts messages, and the one of the scheduled tasks,
+ * which visits the expired messages. Visiting the expired messages can start at the watermark
+ * instead of the beginning of the deadline column family, and thus skips the entries of messages
+ * which were expired and removed already. RocksDB only drops these entries when they are compacted;
+ * until then, every iteration from the beginning has to step over them.
+ *
+ * <p>The watermark is raised when the lowest deadline is visited, and lowered when a message with a
+ * lower deadline is inserted. Removing a message never invalidates it, as that can only raise the
+ * lowest deadline.
+ *
+ * <p>This class is thread safe. Messages are inserted by the processing, while the expired messages
+ * may be visited concurrently by another thread. Every change but a raise starts a new epoch, and a
+ * raise is only applied if no epoch started since the visit read the watermark. Comparing the
+ * watermark itself is not enough: lowering it to the deadline of an inserted message again after
+ * the commit doesn't change it, and a visit which read it in between, but doesn't see the message,
+ * must not raise it above the message's deadline.
+ */
+public final class MessageDeadlineWatermark {
+
+  /** The watermark is unknown; all deadlines are greater than it. */
+  static final long UNKNOWN = -1;
+
+  private volatile long watermark = UNKNOWN;
+  private volatile long epoch;
+
+  /**
+   * Returns the current epoch. It must be read before the watermark, which is used to look up the
+   * lowest deadline.
+   *
+   * @return the epoch to pass to {@link #raise(long, long)}
+   */
+  long epoch() {
+    return epoch;
+  }
+
+  /**
+   * @return a lower bound of the deadlines of all messages, or {@link #UNKNOWN}
+   */
+  long get() {
+    return watermark;
+  }
+
+  /**
+   * Lowers the watermark to the given deadline of an inserted message, if necessary, and starts a
+   * new epoch.
+   *
+   * @param deadline the deadline of the inserted message
+   */
+  synchronized void lower(final long deadline) {
+    epoch++;
+    watermark = Math.min(watermark, deadline);
+  }
+
+  /**
+   * Raises the watermark to the lowest deadline of all messages, unless a new epoch started since
+   * it was read.
+   *
+   * @param expectedEpoch the epoch which was read before the watermark
+   * @param lowestDeadline the lowest deadline of all messages, or {@link Long#MAX_VALUE} if there
+   *     are none
+   */
+  synchronized void raise(final long expectedEpoch, final long lowestDeadline) {
+    if (epoch == expectedEpoch && lowestDeadline > watermark) {
+      watermark = lowestDeadline;
+    }
+  }
+
+  /** Forgets the watermark, e.g. after the state was recovered, and starts a new epoch. */
+  synchronized void reset() {
+    epoch++;
+    watermark = UNKNOWN;
+  }
+}
@@ -9,8 +9,9 @@ package io.camunda.zeebe.engine.state.mutable;
 
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 
-public interface MutableJobState extends JobState {
+public interface MutableJobState extends JobState, StreamProcessorLifecycleAware {
 
   void create(long key, JobRecord record);
 
@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -33,6 +34,14 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * Orders the keys of a scope like the variables column family does: names are serialized with
+   * their length first, so shorter names come first, and names of equal length are ordered by
+   * their unsigned bytes.
+   */
+  private static final Comparator<DbCompositeKey<DbLong, DbString>> VARIABLE_NAME_ORDER =
+      Comparator.comparing(key -> key.second().getBuffer(), DbVariableState::compareNames);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -55,6 +64,8 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysToCollect = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeyPool = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -232,18 +243,14 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    final MutableInteger variableCount = new MutableInteger();
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope, variableCount);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, variableCount.get());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -316,6 +323,57 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up all variables which are still to be collected in the given scope at once, writing the
+   * ones found to the document and removing them from the variables to collect.
+   */
+  private void collectVariablesLocal(final long scopeKey, final MutableInteger variableCount) {
+    variableKeysToCollect.clear();
+    for (final DirectBuffer name : variablesToCollect) {
+      final var key = nextVariableKey(variableKeysToCollect.size());
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+      variableKeysToCollect.add(key);
+    }
+    // the variables are written in the order of the keys; keep the order of the column family
+    variableKeysToCollect.sort(VARIABLE_NAME_ORDER);
+
+    variablesColumnFamily.getAll(
+        variableKeysToCollect,
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+          variableCount.increment();
+        });
+  }
+
+  private static int compareNames(final DirectBuffer name, final DirectBuffer otherName) {
+    final int lengthComparison = Integer.compare(name.capacity(), otherName.capacity());
+    if (lengthComparison != 0) {
+      return lengthComparison;
+    }
+
+    for (int i = 0; i < name.capacity(); i++) {
+      final int byteComparison = Byte.compareUnsigned(name.getByte(i), otherName.getByte(i));
+      if (byteComparison != 0) {
+        return byteComparison;
+      }
+    }
+    return 0;
+  }
+
+  /** Returns a reusable key instance, as each key passed to a multi-get must be distinct. */
+  private DbCompositeKey<DbLong, DbString> nextVariableKey(final int index) {
+    if (index == variableKeyPool.size()) {
+      variableKeyPool.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+
+    return variableKeyPool.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -16,7 +16,10 @@ import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorBuilder;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
@@ -103,8 +106,30 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public JobActivationClient createJobActivationClient() {
+    return new JobActivationClient(streamProcessingComposite);
+  }
+
+  public JobClient createJobClient() {
+    return new JobClient(streamProcessingComposite);
+  }
+
+  public PublishMessageClient createPublishMessageClient() {
+    return new PublishMessageClient(streamProcessingComposite, partitionCount);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext, cfg -> {});
+    return createSinglePartitionEngine(testContext, cfg -> {});
+  }
+
+  /**
+   * Creates an engine with a single partition, whose stream processor is additionally configured by
+   * the given consumer, e.g. to change the number of commands processed in one batch.
+   */
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final Consumer<StreamProcessorBuilder> processorConfiguration) {
+    return new TestEngine(1, 1, testContext, processorConfiguration);
   }
 
   public void reset() {
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class ActivatableJobQueueTest {
+
+  private static final DirectBuffer TYPE = wrapString("test");
+  private static final String TENANT = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbJobState jobState;
+
+  @BeforeEach
+  void setUp() {
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            new EngineConfiguration().setJobsActivatableQueueEnabled(true));
+  }
+
+  @Test
+  void shouldLoadExistingActivatableJobs() {
+    // given - jobs which were created before the queue was enabled
+    final var uncachedJobState = new DbJobState(zeebeDb, transactionContext);
+    uncachedJobState.create(3, newJobRecord(TENANT));
+    uncachedJobState.create(1, newJobRecord(TENANT));
+    uncachedJobState.create(2, newJobRecord(TENANT).setType("other"));
+
+    // when
+    final var jobKeys = getActivatableKeys(TENANT);
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void shouldKeepQueueInSyncWithState() {
+    // given
+    jobState.create(1, newJobRecord(TENANT));
+    jobState.create(2, newJobRecord(TENANT));
+    getActivatableKeys(TENANT);
+
+    // when
+    jobState.create(3, newJobRecord(TENANT));
+    final var record = newJobRecord(TENANT);
+    jobState.activate(1, record);
+
+    // then
+    assertThat(getActivatableKeys(TENANT)).containsExactly(2L, 3L);
+
+    // when
+    jobState.fail(1, record);
+
+    // then
+    assertThat(getActivatableKeys(TENANT)).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldMergeTenantsInKeyOrder() {
+    // given
+    jobState.create(4, newJobRecord("a"));
+    jobState.create(1, newJobRecord("b"));
+    jobState.create(3, newJobRecord("a"));
+    jobState.create(2, newJobRecord("c"));
+
+    // when
+    final var jobKeys = getActivatableKeys("a", "b");
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 3L, 4L);
+  }
+
+  @Test
+  void shouldReloadQueueAfterRollback() {
+    // given
+    jobState.create(1, newJobRecord(TENANT));
+    getActivatableKeys(TENANT);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      jobState.create(2, newJobRecord(TENANT));
+                      jobState.activate(1, newJobRecord(TENANT));
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(getActivatableKeys(TENANT)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldReloadQueueOnRecovery() {
+    // given
+    jobState.create(1, newJobRecord(TENANT));
+    getActivatableKeys(TENANT);
+    new DbJobState(zeebeDb, transactionContext).create(2, newJobRecord(TENANT));
+
+    // when
+    jobState.onRecovered(null);
+
+    // then
+    assertThat(getActivatableKeys(TENANT)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldKeepKeysSortedWhenAddedAndRemovedOutOfOrder() {
+    // given
+    final var keys = new ActivatableJobQueue.SortedKeys();
+    for (final long key : new long[] {5, 1, 9, 3, 7, 2}) {
+      keys.add(key);
+    }
+
+    // when
+    keys.remove(1);
+    keys.remove(7);
+    keys.add(0);
+    keys.add(8);
+
+    // then
+    assertThat(keysOf(keys)).containsExactly(0L, 2L, 3L, 5L, 8L, 9L);
+    assertThat(keys.add(5)).isFalse();
+    assertThat(keys.remove(7)).isFalse();
+    assertThat(keys.higher(9)).isEqualTo(ActivatableJobQueue.NO_JOB);
+  }
+
+  @Test
+  void shouldKeepKeysSortedWhenRemovedFromFrontAndAppended() {
+    // given
+    final var keys = new ActivatableJobQueue.SortedKeys();
+    long nextKey = 0;
+    for (int i = 0; i < 1_000; i++) {
+      keys.add(nextKey++);
+    }
+
+    // when -- jobs are activated oldest first, while new jobs are created
+    for (int i = 0; i < 10_000; i++) {
+      keys.remove(nextKey - 1_000);
+      keys.add(nextKey++);
+    }
+
+    // then
+    assertThat(keys.size()).isEqualTo(1_000);
+    assertThat(keysOf(keys))
+        .containsExactlyElementsOf(LongStream.range(nextKey - 1_000, nextKey).boxed().toList());
+  }
+
+  private List<Long> getActivatableKeys(final String... tenantIds) {
+    final List<Long> activatableKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(TYPE, List.of(tenantIds), (k, e) -> activatableKeys.add(k));
+    return activatableKeys;
+  }
+
+  private static List<Long> keysOf(final ActivatableJobQueue.SortedKeys keys) {
+    final var result = new ArrayList<Long>();
+    long key = keys.higher(ActivatableJobQueue.NO_JOB);
+    while (key != ActivatableJobQueue.NO_JOB) {
+      result.add(key);
+      key = keys.higher(key);
+    }
+    return result;
+  }
+
+  private static JobRecord newJobRecord(final String tenantId) {
+    return new JobRecord().setRetries(2).setDeadline(256L).setType(TYPE).setTenantId(tenantId);
+  }
+}
@@ -641,6 +641,45 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListManyActivatableJobsInOrder() {
+    // given - more jobs than are looked up at once
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 1; key <= 200; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+      expectedKeys.add(key);
+    }
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWhenCallbackReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 20; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 10;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
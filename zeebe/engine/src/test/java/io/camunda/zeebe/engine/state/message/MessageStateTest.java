@@ -358,6 +358,102 @@ public final class MessageStateTest {
     assertThat(readMessage).hasSize(2).containsExactly(2L, 3L).doesNotContain(1L, 4L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeAfterRemovingVisitedMessages() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1234));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 2000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 2500));
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(2999, null, (deadline, key) -> true);
+
+    // when
+    messageState.remove(1L);
+    messageState.remove(2L);
+
+    // then
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        2999, null, (deadline, e) -> readMessage.add(e));
+    assertThat(readMessage).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldVisitMessagesBeforeTimeWithDeadlineBeforePreviouslyVisited() {
+    // given -- the first visit only found a message with a later deadline
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 5000));
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(2999, null, (deadline, key) -> true);
+
+    // when
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1234));
+
+    // then
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        2999, null, (deadline, e) -> readMessage.add(e));
+    assertThat(readMessage).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldShareDeadlineWatermarkWithOtherMessageStates() throws Exception {
+    try (final var zeebeDb = stateRule.createNewDb()) {
+      // given -- a state which visits the expired messages, like the scheduled tasks do
+      final var watermark = new MessageDeadlineWatermark();
+      final var processingState =
+          new DbMessageState(zeebeDb, zeebeDb.createContext(), 1, watermark);
+      final var scheduledTaskState =
+          new DbMessageState(zeebeDb, zeebeDb.createContext(), 1, watermark);
+      processingState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 5000));
+      scheduledTaskState.visitMessagesWithDeadlineBeforeTimestamp(
+          2999, null, (deadline, key) -> true);
+
+      // when
+      processingState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1234));
+
+      // then
+      final List<Long> readMessage = new ArrayList<>();
+      scheduledTaskState.visitMessagesWithDeadlineBeforeTimestamp(
+          2999, null, (deadline, e) -> readMessage.add(e));
+      assertThat(readMessage).containsExactly(2L);
+    }
+  }
+
+  @Test
+  public void shouldNotRaiseDeadlineWatermarkAboveMessageCommittedDuringVisit() throws Exception {
+    try (final var zeebeDb = stateRule.createNewDb()) {
+      // given -- a visit which doesn't see a message that is inserted, but not yet committed
+      final var watermark = new MessageDeadlineWatermark();
+      final var processingContext = zeebeDb.createContext();
+      final var processingState = new DbMessageState(zeebeDb, processingContext, 1, watermark);
+      final var scheduledTaskState =
+          new DbMessageState(zeebeDb, zeebeDb.createContext(), 1, watermark);
+      processingState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+      scheduledTaskState.visitMessagesWithDeadlineBeforeTimestamp(
+          2999, null, (deadline, key) -> true);
+
+      final var transaction = processingContext.getCurrentTransaction();
+      processingState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 500));
+
+      // when -- the insert is committed while the visit is in progress
+      scheduledTaskState.visitMessagesWithDeadlineBeforeTimestamp(
+          2999,
+          null,
+          (deadline, key) -> {
+            try {
+              transaction.commit();
+            } catch (final Exception e) {
+              throw new IllegalStateException(e);
+            }
+            return true;
+          });
+
+      // then
+      final List<Long> readMessage = new ArrayList<>();
+      scheduledTaskState.visitMessagesWithDeadlineBeforeTimestamp(
+          2999, null, (deadline, e) -> readMessage.add(e));
+      assertThat(readMessage).containsExactly(2L, 1L);
+    }
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
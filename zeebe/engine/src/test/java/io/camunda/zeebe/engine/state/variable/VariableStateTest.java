@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
@@ -225,6 +226,27 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameInOrderOfScopesAndNames() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("bb"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("4"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("bb"), wrapString("a"), wrapString("c")));
+
+    // then -- the same order as when visiting the variables of each scope
+    assertThat(MsgPackConverter.convertToJson(variablesDocument))
+        .isEqualTo("{\"c\":3,\"bb\":2,\"a\":1}");
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
@@ -19,4 +19,13 @@ public class ExpressionLanguageFactory {
   public static ExpressionLanguage createExpressionLanguage(final FeelEngineClock feelEngineClock) {
     return new FeelExpressionLanguage(feelEngineClock);
   }
+
+  /**
+   * @return a new instance of the {@link ExpressionLanguage}, which looks up parsed expressions in
+   *     the given cache before parsing them
+   */
+  public static ExpressionLanguage createExpressionLanguage(
+      final FeelEngineClock feelEngineClock, final ParsedExpressionCache parsedExpressionCache) {
+    return new FeelExpressionLanguage(feelEngineClock, parsedExpressionCache);
+  }
 }
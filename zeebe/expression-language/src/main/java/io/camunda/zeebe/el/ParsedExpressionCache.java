@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed expressions, keyed by the expression string. Parsing an expression
+ * doesn't depend on anything but the expression itself, and the parsed expressions are immutable,
+ * so a cache can be shared by all expression languages of a partition, and safely be accessed
+ * concurrently.
+ *
+ * <p>A cache with a capacity of zero (or less) is disabled, i.e. every expression is parsed again.
+ */
+public final class ParsedExpressionCache {
+
+  private final Cache<String, Expression> cache;
+
+  public ParsedExpressionCache(final int capacity) {
+    cache =
+        capacity > 0 ? CacheBuilder.newBuilder().maximumSize(capacity).recordStats().build() : null;
+  }
+
+  /**
+   * Returns the cached parsed expression for the given expression string, or parses it with the
+   * given parser and caches the result.
+   *
+   * @param expression the expression string to look up
+   * @param parser the function to parse the expression, if it isn't cached yet
+   * @return the parsed expression
+   */
+  public Expression get(final String expression, final Function<String, Expression> parser) {
+    if (cache == null) {
+      return parser.apply(expression);
+    }
+
+    final var cachedExpression = cache.getIfPresent(expression);
+    if (cachedExpression != null) {
+      return cachedExpression;
+    }
+
+    // parsing is side effect free, so it doesn't matter if two threads race to parse the same
+    // expression; the last one simply wins
+    final var parsedExpression = parser.apply(expression);
+    cache.put(expression, parsedExpression);
+    return parsedExpression;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * @return the number of look ups which found a parsed expression in the cache
+   */
+  public long hitCount() {
+    return cache != null ? cache.stats().hitCount() : 0;
+  }
+
+  /**
+   * @return the number of look ups which had to parse the expression
+   */
+  public long missCount() {
+    return cache != null ? cache.stats().missCount() : 0;
+  }
+
+  /**
+   * @return the number of currently cached expressions
+   */
+  public long size() {
+    return cache != null ? cache.size() : 0;
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.el.EvaluationResult;
 import io.camunda.zeebe.el.EvaluationWarning;
 import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ParsedExpressionCache;
 import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
@@ -42,8 +43,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
+  private final ParsedExpressionCache parsedExpressionCache;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, new ParsedExpressionCache(0));
+  }
+
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock, final ParsedExpressionCache parsedExpressionCache) {
+    this.parsedExpressionCache = parsedExpressionCache;
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -60,7 +68,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return parsedExpressionCache.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -162,6 +162,48 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getList()).isEqualTo(List.of(asMsgPack("1"), asMsgPack("2")));
   }
 
+  @Test
+  public void accessNestedPropertyOfListElement() {
+    final var context =
+        Map.of(
+            "order",
+            asMsgPack(
+                "{\"id\":1,\"items\":[{\"price\":{\"amount\":5}},{\"price\":{\"amount\":7}}]}"));
+    final var evaluationResult = evaluateExpression("order.items[2].price.amount", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(7L);
+  }
+
+  @Test
+  public void accessMultiplePropertiesOfSameContext() {
+    final var context = Map.of("x", asMsgPack("{\"y\":{\"a\":1,\"b\":2,\"c\":3}}"));
+    final var evaluationResult =
+        evaluateExpression("for v in [x.y] return v.c * 100 + v.b * 10 + v.a", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.getList()).isEqualTo(List.of(asMsgPack("321")));
+  }
+
+  @Test
+  public void returnNestedContext() {
+    final var context = Map.of("x", asMsgPack("{\"y\":{\"a\":1,\"b\":[true,\"c\"]},\"z\":2}"));
+    final var evaluationResult = evaluateExpression("x.y", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{\"a\":1,\"b\":[true,\"c\"]}"));
+  }
+
+  @Test
+  public void getEntriesOfNestedContext() {
+    final var context = Map.of("x", asMsgPack("{\"y\":{\"a\":1}}"));
+    final var evaluationResult = evaluateExpression("get entries(x.y)", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(evaluationResult.getList())
+        .isEqualTo(List.of(asMsgPack("{\"key\":\"a\",\"value\":1}")));
+  }
+
   @Test
   public void getCurrentTime() {
     final var localDateTime = LocalDateTime.parse("2020-09-21T07:20:00");
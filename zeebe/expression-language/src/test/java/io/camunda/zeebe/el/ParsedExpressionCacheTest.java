@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class ParsedExpressionCacheTest {
+
+  private final ParsedExpressionCache cache = new ParsedExpressionCache(2);
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock(), cache);
+
+  @Test
+  void shouldReuseParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x > 5");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x > 5");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(cache.hitCount()).isOne();
+    assertThat(cache.missCount()).isOne();
+  }
+
+  @Test
+  void shouldShareParsedExpressionsBetweenLanguages() {
+    // given
+    final var otherLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock(), cache);
+    final var expression = expressionLanguage.parseExpression("=orderId");
+
+    // when
+    final var cachedExpression = otherLanguage.parseExpression("=orderId");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+  }
+
+  @Test
+  void shouldEvaluateCachedExpression() {
+    // given
+    expressionLanguage.parseExpression("=x > 5");
+    final var cachedExpression = expressionLanguage.parseExpression("=x > 5");
+
+    // when
+    final var result =
+        expressionLanguage.evaluateExpression(cachedExpression, Map.of("x", asMsgPack("10"))::get);
+
+    // then
+    assertThat(result.getBoolean()).isTrue();
+  }
+
+  @Test
+  void shouldCacheInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x >");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x >");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(cachedExpression.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldNotCacheStaticExpression() {
+    // when
+    expressionLanguage.parseExpression("static");
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldEvictExpressionsBeyondCapacity() {
+    // when
+    expressionLanguage.parseExpression("=a");
+    expressionLanguage.parseExpression("=b");
+    expressionLanguage.parseExpression("=c");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldParseEveryTimeIfDisabled() {
+    // given
+    final var disabledCache = new ParsedExpressionCache(0);
+    final var language =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new TestFeelEngineClock(), disabledCache);
+    final var expression = language.parseExpression("=x > 5");
+
+    // when
+    final var parsedAgain = language.parseExpression("=x > 5");
+
+    // then
+    assertThat(parsedAgain).isNotSameAs(expression);
+    assertThat(disabledCache.isEnabled()).isFalse();
+    assertThat(disabledCache.size()).isZero();
+  }
+}
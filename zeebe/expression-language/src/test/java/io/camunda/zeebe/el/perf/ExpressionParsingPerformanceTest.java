@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.perf;
+
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.el.ParsedExpressionCache;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares parsing typical expressions, i.e. exclusive gateway conditions and message correlation
+ * keys, with and without the parsed expression cache. Only parsing is measured, as that is the only
+ * part the cache affects; it happens whenever a process is deployed or transformed again.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExpressionParsingPerformanceTest {
+  private static final List<String> EXPRESSIONS =
+      List.of(
+          "=order.total > 100 and order.customer.status = \"gold\"",
+          "=string(order.id) + \"-\" + order.customer.id",
+          "=count(order.items[price > 10]) >= 2",
+          "=if order.express then \"PT1H\" else \"P1D\"");
+
+  // a conservative factor; parsing from the cache is a lookup by the expression string, which is
+  // orders of magnitude faster than parsing it
+  private static final double MIN_SPEEDUP = 5;
+
+  @Param({"0", "1000"})
+  public int cacheCapacity;
+
+  private ExpressionLanguage expressionLanguage;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new TestFeelEngineClock(), new ParsedExpressionCache(cacheCapacity));
+  }
+
+  @JMHTest("measureParsing")
+  void shouldParseFasterWithCache(final JMHTestCase testCase) {
+    // given
+    final double uncachedScore =
+        testCase
+            .withOptions(options -> options.param("cacheCapacity", "0"))
+            .run()
+            .actual()
+            .getPrimaryResult()
+            .getScore();
+
+    // when
+    final var assertResult =
+        JMHTestCase.of(
+                ExpressionParsingPerformanceTest.class,
+                "measureParsing",
+                options -> options.param("cacheCapacity", "1000"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(uncachedScore * MIN_SPEEDUP, 0);
+  }
+
+  @Benchmark
+  public void measureParsing(final Blackhole blackhole) {
+    for (final String expression : EXPRESSIONS) {
+      blackhole.consume(expressionLanguage.parseExpression(expression));
+    }
+  }
+}
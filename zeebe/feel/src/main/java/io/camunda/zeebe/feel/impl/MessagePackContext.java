@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.nio.charset.StandardCharsets;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -20,16 +21,41 @@ import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
 
+/**
+ * A FEEL context which is a view on a MessagePack map. The entries are not decoded when the context
+ * is created, but only when they are accessed. Looking up a single entry scans the map without
+ * decoding the other entries; only if more entries are accessed, all keys are indexed.
+ *
+ * <p>The context either owns a copy of the map, or it shares the buffer of its parent context, in
+ * case it is nested in another MessagePack context. Since these buffers are never modified, nested
+ * contexts don't need to copy the map again.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+  /**
+   * Creates a context for the map at the given offset, and moves the reader to the end of the map.
+   *
+   * @param reader the reader, positioned after the header of the map
+   * @param bufferOffset the offset of the header of the map
+   * @param size the number of entries in the map
+   * @param copy true if the map should be copied, i.e. the reader's buffer may change afterwards
+   */
+  public MessagePackContext(
+      final MsgPackReader reader, final int bufferOffset, final int size, final boolean copy) {
+    for (int i = 0; i < size; i++) {
+      reader.skipValue();
+      reader.skipValue();
+    }
+
+    final var length = reader.getOffset() - bufferOffset;
     messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+        copy
+            ? cloneBuffer(reader.getBuffer(), bufferOffset, length)
+            : new UnsafeBuffer(reader.getBuffer(), bufferOffset, length);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size);
   }
 
   @Override
@@ -37,62 +63,113 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
   record Span(int offset, int length) {}
 
+  /**
+   * A view on a value of a {@link MessagePackContext}. The view shares the buffer of the context,
+   * which is not modified afterwards, so a nested map doesn't need to be copied when it is read.
+   */
+  record MessagePackValue(DirectBuffer buffer) {}
+
   private static final class MessagePackMapVariableProvider implements VariableProvider {
     private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final int size;
+    private final MsgPackReader reader = new MsgPackReader();
+    private Map<String, Span> valueSpans;
+    private boolean scanned;
 
-    private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+    private MessagePackMapVariableProvider(final DirectBuffer entries, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.size = size;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final Option<Span> span;
+      if (valueSpans != null || scanned) {
+        span = getValueSpans().get(name);
+      } else {
+        // most contexts are only accessed once, e.g. for a path like `order.customer.id`, so the
+        // first look up doesn't index the keys
+        scanned = true;
+        span = findValueSpan(name);
+      }
+
+      return span.map(s -> new MessagePackValue(new UnsafeBuffer(entries, s.offset(), s.length())));
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      return getValueSpans().keySet();
     }
 
     @Override
     public Map<String, Object> getVariables() {
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      getValueSpans()
+          .foreach(
+              entry ->
+                  clonedMap.addOne(
+                      new Tuple2<>(
+                          entry._1(),
+                          cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
       return clonedMap.result();
     }
+
+    private Option<Span> findValueSpan(final String name) {
+      final var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
+
+      for (int i = 0; i < size; i++) {
+        final var matches = equals(reader.readToken().getValueBuffer(), nameBytes);
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        if (matches) {
+          return Option.apply(new Span(valueOffset, reader.getOffset() - valueOffset));
+        }
+      }
+      return Option.empty();
+    }
+
+    private Map<String, Span> getValueSpans() {
+      if (valueSpans == null) {
+        valueSpans = readValueSpans();
+      }
+      return valueSpans;
+    }
+
+    private Map<String, Span> readValueSpans() {
+      final var spans = Map.<String, Span>newBuilder();
+      spans.sizeHint(size);
+
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
+
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        final var key = bufferAsString(keyToken.getValueBuffer());
+
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+        final var valueLength = reader.getOffset() - valueOffset;
+        spans.addOne(new Tuple2<>(key, new Span(valueOffset, valueLength)));
+      }
+      return spans.result();
+    }
+
+    private static boolean equals(final DirectBuffer buffer, final byte[] bytes) {
+      if (buffer.capacity() != bytes.length) {
+        return false;
+      }
+
+      for (int i = 0; i < bytes.length; i++) {
+        if (buffer.getByte(i) != bytes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.feel.impl;
 import static io.camunda.zeebe.feel.impl.Loggers.LOGGER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.feel.impl.MessagePackContext.MessagePackValue;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import java.math.BigDecimal;
@@ -30,13 +31,19 @@ import scala.jdk.javaapi.CollectionConverters;
 public final class MessagePackValueMapper extends JavaValueMapper {
   private final MsgPackReader msgPackReader = new MsgPackReader();
 
-  private Val readNext() {
+  private Val readNext(final boolean copy) {
     final var offset = msgPackReader.getOffset();
     final var token = msgPackReader.readToken();
-    return read(token, offset);
+    return read(token, offset, copy);
   }
 
-  private Val read(final MsgPackToken token, final int offset) {
+  /**
+   * Reads the value of the given token. Maps are not decoded, but read as a lazy {@link
+   * MessagePackContext}.
+   *
+   * @param copy true if maps must be copied, because the buffer may be modified afterwards
+   */
+  private Val read(final MsgPackToken token, final int offset, final boolean copy) {
     return switch (token.getType()) {
       case NIL -> ValNull$.MODULE$;
       case INTEGER ->
@@ -48,11 +55,12 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         final var size = token.getSize();
         final var items = new ArrayList<Val>(size);
         for (int i = 0; i < size; i++) {
-          items.add(readNext());
+          items.add(readNext(copy));
         }
         yield new ValList(CollectionConverters.asScala(items).toList());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP ->
+          new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize(), copy));
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -71,9 +79,14 @@ public final class MessagePackValueMapper extends JavaValueMapper {
 
   @Override
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
-    if (x instanceof final DirectBuffer buffer) {
+    if (x instanceof final MessagePackValue value) {
+      // the value is part of a context's buffer, which is not modified, so it can be shared
+      final var buffer = value.buffer();
       msgPackReader.wrap(buffer, 0, buffer.capacity());
-      return Option.apply(readNext());
+      return Option.apply(readNext(false));
+    } else if (x instanceof final DirectBuffer buffer) {
+      msgPackReader.wrap(buffer, 0, buffer.capacity());
+      return Option.apply(readNext(true));
     } else {
       return Option.empty();
     }
@@ -69,6 +69,7 @@ import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -347,12 +348,22 @@ public final class Gateway implements CloseableSilently {
   private CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>> submitActorToActivateJobs(
       final ActivateJobsHandler<ActivateJobsResponse> handler) {
     final var future = new CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>>();
-    final var actor =
-        Actor.newActor()
-            .name("ActivateJobsHandler")
-            .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
-            .build();
-    actorSchedulingService.submitActor(actor);
+    final var actorCount = handler.getActorCount();
+    final var pendingActors = new AtomicInteger(actorCount);
+    for (int i = 0; i < actorCount; i++) {
+      final var actor =
+          Actor.newActor()
+              .name(actorCount == 1 ? "ActivateJobsHandler" : "ActivateJobsHandler-" + i)
+              .actorStartedHandler(
+                  handler.andThen(
+                      t -> {
+                        if (pendingActors.decrementAndGet() == 0) {
+                          future.complete(handler);
+                        }
+                      }))
+              .build();
+      actorSchedulingService.submitActor(actor);
+    }
     return future;
   }
 
@@ -381,6 +392,7 @@ public final class Gateway implements CloseableSilently {
         .setLongPollingTimeout(gatewayCfg.getLongPolling().getTimeout())
         .setProbeTimeoutMillis(gatewayCfg.getLongPolling().getProbeTimeout())
         .setMinEmptyResponses(gatewayCfg.getLongPolling().getMinEmptyResponses())
+        .setShards(gatewayCfg.getLongPolling().getShards())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
@@ -144,6 +144,51 @@ public final class LongPollingActivateJobsTest {
     verify(request.getResponseObserver(), times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldUnblockRequestsOfDifferentShardsWhenJobsAvailable() {
+    // given
+    final var shardedHandler =
+        LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+            .setBrokerClient(brokerClient)
+            .setMaxMessageSize(MAX_MESSAGE_SIZE)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
+            .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
+            .setShards(2)
+            .build();
+    submitActorToActivateJobs(shardedHandler);
+    final var types = List.of("a", "b", "c", "d");
+    final var requests =
+        types.stream()
+            .map(
+                type -> {
+                  activateJobsStub.addAvailableJobs(type, 0);
+                  final var request = getLongPollingActivateJobsRequest(type);
+                  shardedHandler.internalActivateJobsRetry(request);
+                  return request;
+                })
+            .toList();
+    requests.forEach(request -> waitUntil(request::hasScheduledTimer));
+
+    // when
+    types.forEach(
+        type -> {
+          activateJobsStub.addAvailableJobs(type, 1);
+          brokerClient.notifyJobsAvailable(type);
+        });
+
+    // then
+    assertThat(shardedHandler.getActorCount()).isEqualTo(2);
+    requests.forEach(
+        request -> {
+          Awaitility.await().until(request::isCompleted);
+          verify(request.getResponseObserver(), times(1)).onNext(any());
+        });
+  }
+
   @Test
   public void shouldBlockOnlyAfterForwardingUntilThreshold() throws Exception {
     // when
@@ -1000,13 +1045,15 @@ public final class LongPollingActivateJobsTest {
 
   private void submitActorToActivateJobs(
       final LongPollingActivateJobsHandler<ActivateJobsResponse> handler) {
-    final var future = new CompletableFuture<>();
-    final var actor =
-        Actor.newActor()
-            .name("LongPollingHandler-Test")
-            .actorStartedHandler(handler.andThen(future::complete))
-            .build();
-    actorSchedulerRule.submitActor(actor);
-    future.join();
+    for (int i = 0; i < handler.getActorCount(); i++) {
+      final var future = new CompletableFuture<>();
+      final var actor =
+          Actor.newActor()
+              .name("LongPollingHandler-Test-" + i)
+              .actorStartedHandler(handler.andThen(future::complete))
+              .build();
+      actorSchedulerRule.submitActor(actor);
+      future.join();
+    }
   }
 }
@@ -16,6 +16,7 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private int shards = ConfigurationDefaults.DEFAULT_LONG_POLLING_SHARDS;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +42,14 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getShards() {
+    return shards;
+  }
+
+  public void setShards(final int shards) {
+    this.shards = shards;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +61,7 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses, shards);
   }
 
   @Override
@@ -67,7 +76,8 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && shards == that.shards;
   }
 
   @Override
@@ -81,6 +91,8 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", shards="
+        + shards
         + '}';
   }
 }
@@ -27,4 +27,14 @@ public interface ActivateJobsHandler<T> extends Consumer<ActorControl> {
       final ResponseObserver<T> responseObserver,
       final Consumer<Runnable> setCancelHandler,
       final long requestTimeout);
+
+  /**
+   * Returns the number of actors the handler should be started on. A separate actor should be
+   * started for each, which then passes its {@link ActorControl} to {@link #accept(Object)}.
+   *
+   * @return the number of actors to start
+   */
+  default int getActorCount() {
+    return 1;
+  }
 }
@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public final class InFlightLongPollingActivateJobsRequestsState<T> {
 
   private final String jobType;
+  private final int shard;
   private final LongPollingMetrics metrics;
   private final Queue<InflightActivateJobsRequest<T>> activeRequests = new LinkedList<>();
   private final Queue<InflightActivateJobsRequest<T>> pendingRequests = new LinkedList<>();
@@ -27,8 +28,9 @@ public final class InFlightLongPollingActivateJobsRequestsState<T> {
   private final AtomicBoolean ongoingNotification = new AtomicBoolean(false);
 
   public InFlightLongPollingActivateJobsRequestsState(
-      final String jobType, final LongPollingMetrics metrics) {
+      final String jobType, final int shard, final LongPollingMetrics metrics) {
     this.jobType = jobType;
+    this.shard = shard;
     this.metrics = metrics;
   }
 
@@ -76,7 +78,7 @@ public final class InFlightLongPollingActivateJobsRequestsState<T> {
     pendingRequests.removeIf(this::isObsolete);
     activeRequests.removeIf(this::isObsolete);
     activeRequestsToBeRepeated.removeIf(this::isObsolete);
-    metrics.setBlockedRequestsCount(jobType, pendingRequests.size());
+    metrics.setBlockedRequestsCount(shard, jobType, pendingRequests.size());
   }
 
   private boolean isObsolete(final InflightActivateJobsRequest<T> request) {
@@ -94,7 +96,7 @@ public final class InFlightLongPollingActivateJobsRequestsState<T> {
   public InflightActivateJobsRequest<T> getNextPendingRequest() {
     removeObsoleteRequestsAndUpdateMetrics();
     final InflightActivateJobsRequest<T> request = pendingRequests.poll();
-    metrics.setBlockedRequestsCount(jobType, pendingRequests.size());
+    metrics.setBlockedRequestsCount(shard, jobType, pendingRequests.size());
     return request;
   }
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_SHARDS;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
@@ -22,10 +23,13 @@ import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.slf4j.Logger;
@@ -33,6 +37,11 @@ import org.slf4j.Logger;
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>The requests are split into shards by job type, each of which is driven by its own actor. All
+ * requests of a job type, as well as the jobs available notifications for it, are handled by the
+ * same shard, such that the shards don't share any state. Start the handler on {@link
+ * #getActorCount()} actors.
  */
 public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -41,19 +50,16 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
 
-  private final RoundRobinActivateJobsHandler<T> activateJobsHandler;
   private final BrokerClient brokerClient;
+  private final List<Shard> shards;
+  private final AtomicInteger startedShards = new AtomicInteger();
 
-  private final Map<String, InFlightLongPollingActivateJobsRequestsState<T>> jobTypeState =
-      new ConcurrentHashMap<>();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
 
   private final LongPollingMetrics metrics;
 
-  private ActorControl actor;
-
   private final Function<String, Exception> noJobsReceivedExceptionProvider;
 
   private LongPollingActivateJobsHandler(
@@ -62,14 +68,23 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final int shardCount,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider,
       final MeterRegistry meterRegistry) {
     this.brokerClient = brokerClient;
-    activateJobsHandler =
-        new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+    shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(
+          new Shard(
+              i,
+              new RoundRobinActivateJobsHandler<>(
+                  brokerClient,
+                  maxMessageSize,
+                  activationResultMapper,
+                  requestCanceledExceptionProvider)));
+    }
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -79,18 +94,22 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   @Override
   public void accept(final ActorControl actor) {
-    this.actor = actor;
-    activateJobsHandler.accept(actor);
-    onActorStarted();
+    final int shardId = startedShards.getAndIncrement();
+    if (shardId >= shards.size()) {
+      throw new IllegalStateException(
+          "Expected to start the handler on %d actors, but it was started on more"
+              .formatted(shards.size()));
+    }
+
+    final var shard = shards.get(shardId);
+    shard.actor = actor;
+    shard.activateJobsHandler.accept(actor);
+    shard.onActorStarted();
   }
 
-  void onActorStarted() {
-    actor.run(
-        () -> {
-          brokerClient.subscribeJobAvailableNotification(
-              JOBS_AVAILABLE_TOPIC, this::onJobAvailableNotification);
-          actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
-        });
+  @Override
+  public int getActorCount() {
+    return shards.size();
   }
 
   /***
@@ -153,226 +172,276 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
             responseObserver,
             requestTimeout);
     final String jobType = longPollingRequest.getType();
+    final var shard = getShard(jobType);
     // Eagerly removing the request on cancellation may free up some resources
     // We are not allowed to change the responseObserver after we completed this call
     // this means we can't do it async in the following actor call.
-    setCancelHandler.accept(() -> onRequestCancel(jobType, longPollingRequest));
-    actor.run(
+    setCancelHandler.accept(() -> shard.onRequestCancel(jobType, longPollingRequest));
+    shard.actor.run(
         () -> {
           final InFlightLongPollingActivateJobsRequestsState<T> state =
-              jobTypeState.computeIfAbsent(
-                  jobType,
-                  type -> new InFlightLongPollingActivateJobsRequestsState<>(type, metrics));
+              shard.getJobTypeState(jobType);
 
-          tryToActivateJobsOnAllPartitions(state, longPollingRequest);
+          shard.tryToActivateJobsOnAllPartitions(state, longPollingRequest);
         });
   }
 
-  private void onRequestCancel(
-      final String type, final InflightActivateJobsRequest<T> longPollingRequest) {
-    actor.run(
-        () -> {
-          final var state = jobTypeState.get(type);
-          if (state != null) {
-            state.removeRequest(longPollingRequest);
-          }
-        });
+  void internalActivateJobsRetry(final InflightActivateJobsRequest<T> request) {
+    getShard(request.getType()).internalActivateJobsRetry(request);
   }
 
-  private void tryToActivateJobsOnAllPartitions(
-      final InFlightLongPollingActivateJobsRequestsState<T> state,
-      final InflightActivateJobsRequest<T> request) {
-
-    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
-    if (topology != null) {
-      state.addActiveRequest(request);
-
-      final int partitionsCount = topology.getPartitionsCount();
-      activateJobsHandler.activateJobs(
-          partitionsCount,
-          request,
-          error ->
-              actor.submit(
-                  () -> {
-                    request.onError(error);
-                    state.removeActiveRequest(request);
-                  }),
-          (remainingAmount, containedResourceExhaustedResponse) -> {
-            final boolean noJobsActivated = remainingAmount == request.getMaxJobsToActivate();
-            if (noJobsActivated) {
-              handleNoReceivedJobsFromAllPartitions(
-                  state, request, containedResourceExhaustedResponse);
-            } else {
-              actor.submit(
-                  () -> {
-                    request.complete();
-                    state.removeActiveRequest(request);
-                    state.resetFailedAttempts();
-                    handlePendingRequests(state, request.getType());
-                  });
-            }
-          });
-    }
+  private void onJobAvailableNotification(final String jobType) {
+    LOG.trace("Received jobs available notification for type {}.", jobType);
+    getShard(jobType).onJobAvailableNotification(jobType);
+  }
+
+  private Shard getShard(final String jobType) {
+    return shards.get(Math.floorMod(jobType.hashCode(), shards.size()));
   }
 
-  private void handleNoReceivedJobsFromAllPartitions(
-      final InFlightLongPollingActivateJobsRequestsState<T> state,
-      final InflightActivateJobsRequest<T> request,
-      final Boolean containedResourceExhaustedResponse) {
-    if (containedResourceExhaustedResponse) {
-      actor.submit(
+  public static <T> Builder<T> newBuilder() {
+    return new Builder<>();
+  }
+
+  /**
+   * The long polling state of a subset of the job types. It's only accessed by its actor, except
+   * for the lookup of a job type's state on jobs available notifications.
+   */
+  private final class Shard {
+
+    private final int id;
+    private final RoundRobinActivateJobsHandler<T> activateJobsHandler;
+    private final Map<String, InFlightLongPollingActivateJobsRequestsState<T>> jobTypeState =
+        new ConcurrentHashMap<>();
+    private ActorControl actor;
+
+    private Shard(final int id, final RoundRobinActivateJobsHandler<T> activateJobsHandler) {
+      this.id = id;
+      this.activateJobsHandler = activateJobsHandler;
+    }
+
+    private void onActorStarted() {
+      actor.run(
           () -> {
-            state.removeActiveRequest(request);
-            final var type = request.getType();
-            final var errorMsg = String.format(ERROR_MSG_ACTIVATED_EXHAUSTED, type);
-            request.onError(noJobsReceivedExceptionProvider.apply(errorMsg));
+            if (id == 0) {
+              // a single subscription for all shards, the notifications are forwarded by type
+              brokerClient.subscribeJobAvailableNotification(
+                  JOBS_AVAILABLE_TOPIC,
+                  LongPollingActivateJobsHandler.this::onJobAvailableNotification);
+            }
+            actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
           });
-    } else {
-      actor.submit(
-          () -> {
-            state.incrementFailedAttempts(currentTimeMillis());
-            final boolean shouldBeRepeated = state.shouldBeRepeated(request);
-            state.removeActiveRequest(request);
+    }
 
-            completeOrResubmitRequest(request, shouldBeRepeated);
-          });
+    private InFlightLongPollingActivateJobsRequestsState<T> getJobTypeState(final String jobType) {
+      var state = jobTypeState.get(jobType);
+      if (state == null) {
+        state = new InFlightLongPollingActivateJobsRequestsState<>(jobType, id, metrics);
+        jobTypeState.put(jobType, state);
+        metrics.setJobTypesCount(id, jobTypeState.size());
+      }
+      return state;
     }
-  }
 
-  private void completeOrResubmitRequest(
-      final InflightActivateJobsRequest<T> request, final boolean activateImmediately) {
-    if (request.isLongPollingDisabled()) {
-      // request is not supposed to use the
-      // long polling capabilities -> just
-      // complete the request
-      request.complete();
-      return;
+    private void removeJobTypeState(final String jobType) {
+      jobTypeState.remove(jobType);
+      metrics.setJobTypesCount(id, jobTypeState.size());
     }
 
-    if (request.isTimedOut()) {
-      // already timed out, nothing to do here
-      return;
+    private void onRequestCancel(
+        final String type, final InflightActivateJobsRequest<T> longPollingRequest) {
+      actor.run(
+          () -> {
+            final var state = jobTypeState.get(type);
+            if (state != null) {
+              state.removeRequest(longPollingRequest);
+            }
+          });
     }
 
-    final var state =
-        jobTypeState.computeIfAbsent(
-            request.getType(),
-            type1 -> new InFlightLongPollingActivateJobsRequestsState<>(type1, metrics));
+    private void tryToActivateJobsOnAllPartitions(
+        final InFlightLongPollingActivateJobsRequestsState<T> state,
+        final InflightActivateJobsRequest<T> request) {
+
+      final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+      if (topology != null) {
+        state.addActiveRequest(request);
 
-    if (!request.hasScheduledTimer()) {
-      scheduleLongPollingTimeout(state, request);
+        final int partitionsCount = topology.getPartitionsCount();
+        activateJobsHandler.activateJobs(
+            partitionsCount,
+            request,
+            error ->
+                actor.submit(
+                    () -> {
+                      request.onError(error);
+                      state.removeActiveRequest(request);
+                    }),
+            (remainingAmount, containedResourceExhaustedResponse) -> {
+              final boolean noJobsActivated = remainingAmount == request.getMaxJobsToActivate();
+              if (noJobsActivated) {
+                handleNoReceivedJobsFromAllPartitions(
+                    state, request, containedResourceExhaustedResponse);
+              } else {
+                actor.submit(
+                    () -> {
+                      request.complete();
+                      state.removeActiveRequest(request);
+                      state.resetFailedAttempts();
+                      handlePendingRequests(state, request.getType());
+                    });
+              }
+            });
+      }
     }
 
-    if (activateImmediately) {
-      // try now if notification arrived
-      internalActivateJobsRetry(request);
-    } else {
-      // we will react on probes and incoming notifications
-      markRequestAsPending(state, request);
+    private void handleNoReceivedJobsFromAllPartitions(
+        final InFlightLongPollingActivateJobsRequestsState<T> state,
+        final InflightActivateJobsRequest<T> request,
+        final Boolean containedResourceExhaustedResponse) {
+      if (containedResourceExhaustedResponse) {
+        actor.submit(
+            () -> {
+              state.removeActiveRequest(request);
+              final var type = request.getType();
+              final var errorMsg = String.format(ERROR_MSG_ACTIVATED_EXHAUSTED, type);
+              request.onError(noJobsReceivedExceptionProvider.apply(errorMsg));
+            });
+      } else {
+        actor.submit(
+            () -> {
+              state.incrementFailedAttempts(currentTimeMillis());
+              final boolean shouldBeRepeated = state.shouldBeRepeated(request);
+              state.removeActiveRequest(request);
+
+              completeOrResubmitRequest(request, shouldBeRepeated);
+            });
+      }
     }
-  }
 
-  void internalActivateJobsRetry(final InflightActivateJobsRequest<T> request) {
-    actor.run(
-        () -> {
-          final String jobType = request.getType();
-          final InFlightLongPollingActivateJobsRequestsState<T> state =
-              jobTypeState.computeIfAbsent(
-                  jobType,
-                  type -> new InFlightLongPollingActivateJobsRequestsState<>(type, metrics));
-
-          if (state.shouldAttempt(failedAttemptThreshold)) {
-            tryToActivateJobsOnAllPartitions(state, request);
-          } else {
-            completeOrResubmitRequest(request, false);
-          }
-        });
-  }
+    private void completeOrResubmitRequest(
+        final InflightActivateJobsRequest<T> request, final boolean activateImmediately) {
+      if (request.isLongPollingDisabled()) {
+        // request is not supposed to use the
+        // long polling capabilities -> just
+        // complete the request
+        request.complete();
+        return;
+      }
 
-  private void onJobAvailableNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+      if (request.isTimedOut()) {
+        // already timed out, nothing to do here
+        return;
+      }
 
-    // instead of calling #getJobTypeState(), do only a
-    // get to avoid the creation of a state instance.
-    final var state = jobTypeState.get(jobType);
+      final var state = getJobTypeState(request.getType());
 
-    if (state != null && state.shouldNotifyAndStartNotification()) {
-      LOG.trace("Handle jobs available notification for type {}.", jobType);
+      if (!request.hasScheduledTimer()) {
+        scheduleLongPollingTimeout(state, request);
+      }
+
+      if (activateImmediately) {
+        // try now if notification arrived
+        internalActivateJobsRetry(request);
+      } else {
+        // we will react on probes and incoming notifications
+        markRequestAsPending(state, request);
+      }
+    }
+
+    private void internalActivateJobsRetry(final InflightActivateJobsRequest<T> request) {
       actor.run(
           () -> {
-            state.resetFailedAttempts();
-            handlePendingRequests(state, jobType);
-            state.completeNotification();
+            final InFlightLongPollingActivateJobsRequestsState<T> state =
+                getJobTypeState(request.getType());
+
+            if (state.shouldAttempt(failedAttemptThreshold)) {
+              tryToActivateJobsOnAllPartitions(state, request);
+            } else {
+              completeOrResubmitRequest(request, false);
+            }
           });
-    } else {
-      LOG.trace("Ignore jobs available notification for type {}.", jobType);
     }
-  }
 
-  private void handlePendingRequests(
-      final InFlightLongPollingActivateJobsRequestsState<T> state, final String jobType) {
-    final Queue<InflightActivateJobsRequest<T>> pendingRequests = state.getPendingRequests();
+    private void onJobAvailableNotification(final String jobType) {
+      // instead of calling #getJobTypeState(), do only a
+      // get to avoid the creation of a state instance.
+      final var state = jobTypeState.get(jobType);
 
-    if (!pendingRequests.isEmpty()) {
-      pendingRequests.forEach(
-          nextPendingRequest -> {
-            LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-            internalActivateJobsRetry(nextPendingRequest);
-          });
-    } else {
-      if (!state.hasActiveRequests()) {
-        jobTypeState.remove(jobType);
+      if (state != null && state.shouldNotifyAndStartNotification()) {
+        LOG.trace("Handle jobs available notification for type {}.", jobType);
+        actor.run(
+            () -> {
+              state.resetFailedAttempts();
+              handlePendingRequests(state, jobType);
+              state.completeNotification();
+            });
+      } else {
+        LOG.trace("Ignore jobs available notification for type {}.", jobType);
       }
     }
-  }
 
-  private void markRequestAsPending(
-      final InFlightLongPollingActivateJobsRequestsState<T> state,
-      final InflightActivateJobsRequest<T> request) {
-    LOG.trace(
-        "Worker '{}' asked for '{}' jobs of type '{}', but none are available. This request will"
-            + " be kept open until a new job of this type is created or until timeout of '{}'.",
-        request.getWorker(),
-        request.getMaxJobsToActivate(),
-        request.getType(),
-        request.getLongPollingTimeout(longPollingTimeout));
-    state.enqueueRequest(request);
-  }
+    private void handlePendingRequests(
+        final InFlightLongPollingActivateJobsRequestsState<T> state, final String jobType) {
+      final Queue<InflightActivateJobsRequest<T>> pendingRequests = state.getPendingRequests();
 
-  private void scheduleLongPollingTimeout(
-      final InFlightLongPollingActivateJobsRequestsState<T> state,
-      final InflightActivateJobsRequest<T> request) {
-    final Duration requestTimeout = request.getLongPollingTimeout(longPollingTimeout);
-    final ScheduledTimer timeout =
-        actor.schedule(
-            requestTimeout,
-            () -> {
-              request.timeout();
-              state.removeRequest(request);
+      if (!pendingRequests.isEmpty()) {
+        pendingRequests.forEach(
+            nextPendingRequest -> {
+              LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
+              internalActivateJobsRetry(nextPendingRequest);
             });
-    request.setScheduledTimer(timeout);
-  }
+      } else {
+        if (!state.hasActiveRequests()) {
+          removeJobTypeState(jobType);
+        }
+      }
+    }
 
-  private void probe() {
-    final long now = currentTimeMillis();
-    jobTypeState.forEach(
-        (type, state) -> {
-          if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
-            final InflightActivateJobsRequest<T> probeRequest = state.getNextPendingRequest();
-            if (probeRequest != null) {
-              tryToActivateJobsOnAllPartitions(state, probeRequest);
-            } else {
-              // there are no blocked requests, so use next request as probe
-              if (state.getFailedAttempts() >= failedAttemptThreshold) {
-                state.setFailedAttempts(failedAttemptThreshold - 1);
+    private void markRequestAsPending(
+        final InFlightLongPollingActivateJobsRequestsState<T> state,
+        final InflightActivateJobsRequest<T> request) {
+      LOG.trace(
+          "Worker '{}' asked for '{}' jobs of type '{}', but none are available. This request will"
+              + " be kept open until a new job of this type is created or until timeout of '{}'.",
+          request.getWorker(),
+          request.getMaxJobsToActivate(),
+          request.getType(),
+          request.getLongPollingTimeout(longPollingTimeout));
+      state.enqueueRequest(request);
+    }
+
+    private void scheduleLongPollingTimeout(
+        final InFlightLongPollingActivateJobsRequestsState<T> state,
+        final InflightActivateJobsRequest<T> request) {
+      final Duration requestTimeout = request.getLongPollingTimeout(longPollingTimeout);
+      final ScheduledTimer timeout =
+          actor.schedule(
+              requestTimeout,
+              () -> {
+                request.timeout();
+                state.removeRequest(request);
+              });
+      request.setScheduledTimer(timeout);
+    }
+
+    private void probe() {
+      final long now = currentTimeMillis();
+      jobTypeState.forEach(
+          (type, state) -> {
+            if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
+              final InflightActivateJobsRequest<T> probeRequest = state.getNextPendingRequest();
+              if (probeRequest != null) {
+                tryToActivateJobsOnAllPartitions(state, probeRequest);
+              } else {
+                // there are no blocked requests, so use next request as probe
+                if (state.getFailedAttempts() >= failedAttemptThreshold) {
+                  state.setFailedAttempts(failedAttemptThreshold - 1);
+                }
               }
             }
-          }
-        });
-  }
-
-  public static <T> Builder<T> newBuilder() {
-    return new Builder<>();
+          });
+    }
   }
 
   public static class Builder<T> {
@@ -383,6 +452,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    private int shards = DEFAULT_LONG_POLLING_SHARDS;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -413,6 +483,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setShards(final int shards) {
+      this.shards = shards;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -438,12 +513,18 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
+      if (shards < 1) {
+        throw new IllegalArgumentException(
+            "Expected the number of long polling shards to be at least 1, but was %d"
+                .formatted(shards));
+      }
       return new LongPollingActivateJobsHandler<>(
           brokerClient,
           maxMessageSize,
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          shards,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider,
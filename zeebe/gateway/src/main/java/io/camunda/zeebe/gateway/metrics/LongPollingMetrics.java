@@ -8,28 +8,47 @@
 package io.camunda.zeebe.gateway.metrics;
 
 import static io.camunda.zeebe.gateway.metrics.LongPollingMetrics.LongPollingMetricsDoc.REQUESTS_QUEUED_CURRENT;
+import static io.camunda.zeebe.gateway.metrics.LongPollingMetrics.LongPollingMetricsDoc.SHARD_JOB_TYPES_CURRENT;
+import static io.camunda.zeebe.gateway.metrics.LongPollingMetrics.LongPollingMetricsDoc.SHARD_REQUESTS_QUEUED_CURRENT;
 import static io.camunda.zeebe.gateway.metrics.LongPollingMetrics.RequestsQueuedKeyNames.TYPE;
+import static io.camunda.zeebe.gateway.metrics.LongPollingMetrics.ShardKeyNames.SHARD;
 
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter.Type;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Metrics of the long polling of activate jobs requests. The metrics are updated concurrently by
+ * the actors of all shards, but the metrics of a job type are only updated by the shard owning it.
+ */
 public final class LongPollingMetrics {
-  private final Map<String, AtomicLong> requestsQueued = new HashMap<>();
+  private final Map<String, AtomicLong> requestsQueued = new ConcurrentHashMap<>();
+  private final Map<Integer, AtomicLong> shardRequestsQueued = new ConcurrentHashMap<>();
+  private final Map<Integer, AtomicLong> shardJobTypes = new ConcurrentHashMap<>();
   private final MeterRegistry registry;
 
   public LongPollingMetrics(final MeterRegistry registry) {
     this.registry = Objects.requireNonNull(registry, "must specify a meter registry");
   }
 
-  public void setBlockedRequestsCount(final String type, final int count) {
-    requestsQueued.computeIfAbsent(type, this::registerBlockedRequestsCount).set(count);
+  public void setBlockedRequestsCount(final int shard, final String type, final int count) {
+    final long previousCount =
+        requestsQueued.computeIfAbsent(type, this::registerBlockedRequestsCount).getAndSet(count);
+    shardRequestsQueued
+        .computeIfAbsent(shard, id -> registerShardGauge(SHARD_REQUESTS_QUEUED_CURRENT, id))
+        .addAndGet(count - previousCount);
+  }
+
+  public void setJobTypesCount(final int shard, final int count) {
+    shardJobTypes
+        .computeIfAbsent(shard, id -> registerShardGauge(SHARD_JOB_TYPES_CURRENT, id))
+        .set(count);
   }
 
   private AtomicLong registerBlockedRequestsCount(final String type) {
@@ -42,6 +61,17 @@ public final class LongPollingMetrics {
     return count;
   }
 
+  private AtomicLong registerShardGauge(
+      final LongPollingMetricsDoc documentation, final int shard) {
+    final var value = new AtomicLong();
+    Gauge.builder(documentation.getName(), value, Number::longValue)
+        .description(documentation.getDescription())
+        .tag(SHARD.asString(), String.valueOf(shard))
+        .register(registry);
+
+    return value;
+  }
+
   /** Number of requests currently queued due to long polling */
   @SuppressWarnings("NullableProblems")
   public enum LongPollingMetricsDoc implements ExtendedMeterDocumentation {
@@ -65,6 +95,52 @@ public final class LongPollingMetrics {
       public KeyName[] getKeyNames() {
         return RequestsQueuedKeyNames.values();
       }
+    },
+
+    /** Number of requests currently queued due to long polling, per shard */
+    SHARD_REQUESTS_QUEUED_CURRENT {
+      @Override
+      public String getDescription() {
+        return "Number of requests currently queued due to long polling, per shard";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.long.polling.shard.queued.current";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.GAUGE;
+      }
+
+      @Override
+      public KeyName[] getKeyNames() {
+        return ShardKeyNames.values();
+      }
+    },
+
+    /** Number of job types with pending or active requests, per shard */
+    SHARD_JOB_TYPES_CURRENT {
+      @Override
+      public String getDescription() {
+        return "Number of job types with pending or active long polling requests, per shard";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.long.polling.shard.job.types.current";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.GAUGE;
+      }
+
+      @Override
+      public KeyName[] getKeyNames() {
+        return ShardKeyNames.values();
+      }
     }
   }
 
@@ -78,4 +154,15 @@ public final class LongPollingMetrics {
       }
     }
   }
+
+  @SuppressWarnings("NullableProblems")
+  public enum ShardKeyNames implements KeyName {
+    /** The shard of the long polling handler, which owns the job types of the requests */
+    SHARD {
+      @Override
+      public String asString() {
+        return "shard";
+      }
+    }
+  }
 }
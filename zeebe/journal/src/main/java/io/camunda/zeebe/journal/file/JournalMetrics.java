@@ -20,9 +20,11 @@ import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class JournalMetrics {
@@ -37,6 +39,8 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final DistributionSummary flushBatchSize;
+  private final Timer flushLatency;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +71,12 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    flushBatchSize =
+        DistributionSummary.builder(FLUSH_BATCH_SIZE.getName())
+            .description(FLUSH_BATCH_SIZE.getDescription())
+            .serviceLevelObjectives(FLUSH_BATCH_SIZE.getDistributionSLOs())
+            .register(registry);
+    flushLatency = makeTimer(FLUSH_LATENCY);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +128,23 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  void observeFlushBatchSize(final long flushedRecords) {
+    flushBatchSize.record(flushedRecords);
+  }
+
+  /**
+   * Records the time between the given monotonic timestamp, at which the oldest unflushed record
+   * was appended, and now.
+   */
+  void observeFlushLatency(final long oldestUnflushedAppendTime) {
+    final var now = registry.config().clock().monotonicTime();
+    flushLatency.record(now - oldestUnflushedAppendTime, TimeUnit.NANOSECONDS);
+  }
+
+  long monotonicTime() {
+    return registry.config().clock().monotonicTime();
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
@@ -303,6 +303,61 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of records made durable by a single journal flush */
+  FLUSH_BATCH_SIZE {
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of the number of records made durable by a single journal flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 5_000};
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time between appending a record and the flush which made it durable */
+  FLUSH_LATENCY {
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of time between appending the oldest unflushed record and the end of"
+          + " the flush which made it durable";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return super.getTimerSLOs();
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
@@ -33,6 +33,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -42,6 +43,7 @@ import org.slf4j.LoggerFactory;
 public final class SegmentedJournal implements Journal {
   public static final long ASQN_IGNORE = -1;
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentedJournal.class);
+  private static final long NO_UNFLUSHED_APPEND = Long.MIN_VALUE;
   private final JournalMetrics journalMetrics;
   private final Collection<SegmentedJournalReader> readers = Sets.newConcurrentHashSet();
   private volatile boolean open = true;
@@ -50,6 +52,10 @@ public final class SegmentedJournal implements Journal {
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
 
+  // monotonic time at which the oldest record which was not flushed yet was appended; appends and
+  // flushes may happen on different threads, e.g. with a delayed or group commit flush strategy
+  private final AtomicLong oldestUnflushedAppendTime = new AtomicLong(NO_UNFLUSHED_APPEND);
+
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
@@ -81,7 +87,9 @@ public final class SegmentedJournal implements Journal {
   @Override
   public JournalRecord append(final long asqn, final BufferWriter recordDataWriter) {
     try (final var ignored = journalMetrics.observeAppendLatency()) {
-      return writer.append(asqn, recordDataWriter);
+      final var record = writer.append(asqn, recordDataWriter);
+      markUnflushed();
+      return record;
     }
   }
 
@@ -89,13 +97,16 @@ public final class SegmentedJournal implements Journal {
   public void append(final JournalRecord record) {
     try (final var ignored = journalMetrics.observeAppendLatency()) {
       writer.append(record);
+      markUnflushed();
     }
   }
 
   @Override
   public JournalRecord append(final long checksum, final byte[] serializedRecord) {
     try (final var ignored = journalMetrics.observeAppendLatency()) {
-      return writer.append(checksum, serializedRecord);
+      final var record = writer.append(checksum, serializedRecord);
+      markUnflushed();
+      return record;
     }
   }
 
@@ -170,11 +181,21 @@ public final class SegmentedJournal implements Journal {
       // flushing is synchronous on the raft thread (the default), then all these operations run
       // sequentially anyway, meaning there is virtually no contention
       final var stamp = rwlock.readLock();
+      // anything appended from now on may or may not be part of this flush, so count it towards the
+      // next one
+      final var oldestUnflushedAppend = oldestUnflushedAppendTime.getAndSet(NO_UNFLUSHED_APPEND);
       try {
         writer.flush();
+      } catch (final FlushException e) {
+        restoreUnflushed(oldestUnflushedAppend);
+        throw e;
       } finally {
         rwlock.unlockRead(stamp);
       }
+
+      if (oldestUnflushedAppend != NO_UNFLUSHED_APPEND) {
+        journalMetrics.observeFlushLatency(oldestUnflushedAppend);
+      }
     }
   }
 
@@ -221,6 +242,19 @@ public final class SegmentedJournal implements Journal {
     open = false;
   }
 
+  private void markUnflushed() {
+    if (oldestUnflushedAppendTime.get() == NO_UNFLUSHED_APPEND) {
+      oldestUnflushedAppendTime.compareAndSet(NO_UNFLUSHED_APPEND, journalMetrics.monotonicTime());
+    }
+  }
+
+  private void restoreUnflushed(final long oldestUnflushedAppend) {
+    // the given time is older than any append which happened concurrently, so it takes precedence
+    if (oldestUnflushedAppend != NO_UNFLUSHED_APPEND) {
+      oldestUnflushedAppendTime.set(oldestUnflushedAppend);
+    }
+  }
+
   /**
    * Asserts that the journal is open.
    *
@@ -123,7 +123,15 @@ final class SegmentedJournalWriter {
     // even if the next flush index has not been written, this will always flush at least the last
     // segment if only to cover cases such as truncating the log, where the next flush index may not
     // have been written yet but we still want to flush that segment after modifying it
+    // the last flushed index may be unset, e.g. on a fresh journal
+    final long previousFlushedIndex =
+        Math.max(flusher.nextFlushIndex(), segments.getFirstSegment().index()) - 1;
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()).values());
+
+    final long flushedRecords = flusher.nextFlushIndex() - 1 - previousFlushedIndex;
+    if (flushedRecords > 0) {
+      journalMetrics.observeFlushBatchSize(flushedRecords);
+    }
   }
 
   private void createNewSegment() {
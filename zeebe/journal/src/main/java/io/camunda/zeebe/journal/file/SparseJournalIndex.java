@@ -16,19 +16,29 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
 
+/**
+ * Indexes every {@code density}-th record of the journal, mapping its index to its position in the
+ * segment, and its ASQN (if any) to its index.
+ *
+ * <p>The mappings are kept in sorted, primitive arrays, which are searched with a binary search.
+ * Records are almost always indexed in ascending order, so adding a mapping is usually an append;
+ * truncating or compacting the index only moves the bounds of the arrays.
+ *
+ * <p>The index is written by the journal writer, and by readers which index records they read, and
+ * it's read by all readers. Lookups use optimistic reads, so they don't contend with each other.
+ */
 final class SparseJournalIndex implements JournalIndex {
-
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // guarded by the lock
+  private final SortedLongPairs indexToPosition = new SortedLongPairs();
+  // maps index to ASQN; as ASQNs are increasing with the index, the values are sorted as well
+  private final SortedLongPairs indexToAsqn = new SortedLongPairs();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +48,22 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
       final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      final var stamp = lock.writeLock();
+      try {
+        indexToPosition.put(index, position);
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          indexToAsqn.put(index, asqn);
+        }
+      } finally {
+        lock.unlockWrite(stamp);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    return read(this::lookupUnsafe, index);
   }
 
   @Override
@@ -60,46 +73,45 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
-    }
-    return null;
+    return read(value -> lookupAsqnUnsafe(value, indexUpperBound), asqn);
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var stamp = lock.writeLock();
+    try {
+      indexToPosition.deleteAfter(index);
+      indexToAsqn.deleteAfter(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    final var stamp = lock.writeLock();
+    try {
+      indexToPosition.deleteBefore(index);
+      // keep the greatest ASQN mapping below the index, such that ASQNs between it and the next
+      // mapping can still be looked up
+      final int floor = indexToAsqn.floorOfKey(index);
+      if (floor >= 0) {
+        indexToAsqn.deleteBefore(indexToAsqn.keyAt(floor));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final var stamp = lock.writeLock();
+    try {
+      indexToPosition.clear();
+      indexToAsqn.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +123,174 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  private IndexInfo lookupUnsafe(final long index) {
+    final int slot = indexToPosition.floorOfKey(index);
+    if (slot < 0) {
+      return null;
+    }
+
+    return new IndexInfo(indexToPosition.keyAt(slot), (int) indexToPosition.valueAt(slot));
+  }
+
+  private Long lookupAsqnUnsafe(final long asqn, final long indexUpperBound) {
+    final int slot = indexToAsqn.floorOfValue(asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    final long index = indexToAsqn.keyAt(slot);
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int boundedSlot = indexToAsqn.floorOfKey(indexUpperBound);
+    return boundedSlot < 0 ? null : indexToAsqn.keyAt(boundedSlot);
+  }
+
+  /**
+   * Runs the given lookup with an optimistic read first, and only takes the read lock if a write
+   * happened concurrently. The lookup must not have side effects, as it may run twice.
+   */
+  private <T> T read(final LongFunction<T> lookup, final long value) {
+    final var optimisticStamp = lock.tryOptimisticRead();
+    final T result = lookup.apply(value);
+    if (lock.validate(optimisticStamp)) {
+      return result;
+    }
+
+    final var stamp = lock.readLock();
+    try {
+      return lookup.apply(value);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Sorted pairs of primitive keys and values, stored in two parallel arrays. The live pairs are
+   * between {@code start} (inclusive) and {@code end} (exclusive), such that deleting a prefix or a
+   * suffix only moves a bound; the arrays are compacted when growing them.
+   *
+   * <p>Not thread safe. The accessors are safe to call during an optimistic read, i.e. they never
+   * fail on inconsistent state, but may return garbage which must be discarded if the read is
+   * invalidated.
+   */
+  private static final class SortedLongPairs {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+
+    private void put(final long key, final long value) {
+      if (start == end || key > keys[end - 1]) {
+        ensureCapacity();
+        keys[end] = key;
+        values[end] = value;
+        end++;
+        return;
+      }
+
+      final int slot = Arrays.binarySearch(keys, start, end, key);
+      if (slot >= 0) {
+        values[slot] = value;
+        return;
+      }
+
+      // out of order insertion, e.g. a reader indexing a record the writer did not index; growing
+      // the arrays may compact them, so the insertion point is only computed afterwards
+      ensureCapacity();
+      final int insertionPoint = -(Arrays.binarySearch(keys, start, end, key) + 1);
+      System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, end - insertionPoint);
+      System.arraycopy(values, insertionPoint, values, insertionPoint + 1, end - insertionPoint);
+      keys[insertionPoint] = key;
+      values[insertionPoint] = value;
+      end++;
+    }
+
+    /** Returns the key at the given slot, or 0 if there is no such slot. */
+    private long keyAt(final int slot) {
+      final var currentKeys = keys;
+      return slot >= 0 && slot < currentKeys.length ? currentKeys[slot] : 0;
+    }
+
+    /** Returns the value at the given slot, or 0 if there is no such slot. */
+    private long valueAt(final int slot) {
+      final var currentValues = values;
+      return slot >= 0 && slot < currentValues.length ? currentValues[slot] : 0;
+    }
+
+    /** Returns the slot of the greatest key less than or equal to the given key, or -1. */
+    private int floorOfKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /**
+     * Returns the slot of the greatest value less than or equal to the given value, or -1. Only
+     * meaningful if the values are sorted like the keys.
+     */
+    private int floorOfValue(final long value) {
+      return floor(values, value);
+    }
+
+    private int floor(final long[] array, final long needle) {
+      final int from = start;
+      final int to = Math.min(end, array.length);
+      if (from >= to) {
+        return -1;
+      }
+
+      final int slot = Arrays.binarySearch(array, from, to, needle);
+      if (slot >= 0) {
+        return slot;
+      }
+
+      final int insertionPoint = -(slot + 1);
+      return insertionPoint > from ? insertionPoint - 1 : -1;
+    }
+
+    /** Deletes all pairs with a key greater than the given key. */
+    private void deleteAfter(final long key) {
+      final int floor = floorOfKey(key);
+      end = floor < 0 ? start : floor + 1;
+    }
+
+    /** Deletes all pairs with a key less than the given key. */
+    private void deleteBefore(final long key) {
+      final int floor = floorOfKey(key);
+      if (floor < 0) {
+        return;
+      }
+
+      start = keys[floor] == key ? floor : floor + 1;
+      if (start == end) {
+        clear();
+      }
+    }
+
+    private void clear() {
+      start = 0;
+      end = 0;
+    }
+
+    private void ensureCapacity() {
+      if (end < keys.length) {
+        return;
+      }
+
+      final int size = end - start;
+      // compact in place if at least half of the arrays are deleted pairs, otherwise grow them
+      final int capacity = start >= keys.length / 2 ? keys.length : keys.length * 2;
+      final long[] newKeys = capacity == keys.length ? keys : new long[capacity];
+      final long[] newValues = capacity == values.length ? values : new long[capacity];
+      System.arraycopy(keys, start, newKeys, 0, size);
+      System.arraycopy(values, start, newValues, 0, size);
+      keys = newKeys;
+      values = newValues;
+      start = 0;
+      end = size;
+    }
+  }
 }
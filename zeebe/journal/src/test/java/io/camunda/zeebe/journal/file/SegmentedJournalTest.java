@@ -19,6 +19,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.OutOfDiskSpace;
 import io.camunda.zeebe.journal.JournalReader;
@@ -903,6 +904,32 @@ class SegmentedJournalTest {
     assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldObserveFlushedRecordsPerFlush() throws FlushException {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.flush();
+    journal.flush();
+
+    // then - the second flush had nothing to flush, so it is not counted
+    final var batchSize =
+        journalFactory.meterRegistry().get(JournalMetricsDoc.FLUSH_BATCH_SIZE.getName()).summary();
+    assertThat(batchSize.count()).isOne();
+    assertThat(batchSize.totalAmount()).isEqualTo(3);
+    assertThat(
+            journalFactory
+                .meterRegistry()
+                .get(JournalMetricsDoc.FLUSH_LATENCY.getName())
+                .timer()
+                .count())
+        .isOne();
+  }
+
   @Test
   void shouldFailWithOODForAsyncSegmentCreation() {
     // given
@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -265,4 +267,93 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - a reader indexes a record which the writer did not index
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 20));
+    assertThat(index.lookup(15)).isEqualTo(new IndexInfo(15, 30));
+    assertThat(index.lookupAsqn(120)).isEqualTo(10);
+    assertThat(index.lookupAsqn(150)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldIndexOutOfOrderAfterCompacting() {
+    // given - a full index, of which the first half was compacted
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 2; i <= 128; i += 2) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+    index.deleteUntil(66);
+
+    // when - a reader indexes a record which the writer did not index
+    index.index(asJournalRecord(101, 1010), 202);
+
+    // then
+    assertThat(index.lookup(65)).isNull();
+    assertThat(index.lookup(101)).isEqualTo(new IndexInfo(101, 202));
+    assertThat(index.lookup(103)).isEqualTo(new IndexInfo(102, 204));
+    assertThat(index.lookup(200)).isEqualTo(new IndexInfo(128, 256));
+    assertThat(index.lookupAsqn(1015)).isEqualTo(101);
+  }
+
+  @Test
+  void shouldKeepIndexingWhileCompacting() {
+    // given - enough entries to outgrow the initial capacity multiple times
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 1000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when - repeatedly compacting and indexing further
+    for (int i = 1001; i <= 5000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+      index.deleteUntil(i - 100);
+    }
+
+    // then
+    assertThat(index.lookup(4899)).isNull();
+    assertThat(index.lookup(4900)).isEqualTo(new IndexInfo(4900, 9800));
+    assertThat(index.lookup(5000)).isEqualTo(new IndexInfo(5000, 10000));
+    assertThat(index.lookupAsqn(49_005)).isEqualTo(4900);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 4950)).isEqualTo(4950);
+  }
+
+  @Test
+  void shouldLookupConcurrentlyToIndexing() throws Exception {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    index.index(asJournalRecord(1, 10), 2);
+    final var executor = Executors.newSingleThreadExecutor();
+
+    // when - a reader looks up entries while the writer indexes and compacts
+    try {
+      final Future<?> reader =
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 100_000; i++) {
+                  final var info = index.lookup(Long.MAX_VALUE);
+                  assertThat(info).isNotNull();
+                  assertThat(info.position()).isEqualTo(info.index() * 2);
+                }
+              });
+      for (int i = 2; !reader.isDone(); i++) {
+        index.index(asJournalRecord(i, i * 10L), i * 2);
+        index.deleteUntil(i - 10);
+      }
+
+      // then
+      reader.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -132,6 +132,10 @@ final class TestJournalFactory {
     return metrics;
   }
 
+  MeterRegistry meterRegistry() {
+    return meterRegistry;
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(1, 1, data);
     final var serializer = new SBESerializer();
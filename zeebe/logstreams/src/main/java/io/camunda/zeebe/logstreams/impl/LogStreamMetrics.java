@@ -172,6 +172,44 @@ public final class LogStreamMetrics {
               "The current load of the partition. Determined by observed write rate compared to the write rate limit")
           .register();
 
+  private static final Gauge PROCESSING_BACKLOG =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("processing_backlog")
+          .help("The number of records written to the log which were not processed yet")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPORTING_BACKLOG =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("exporting_backlog")
+          .help("The number of records written to the log which were not exported yet")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge PREDICTED_PROCESSING_LATENCY =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("predicted_processing_latency_seconds")
+          .help(
+              "The predicted time until a newly written record is processed, based on the processing backlog and rate")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge REQUEST_LIMIT_CAP =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("request_limit_cap")
+          .help(
+              "The upper bound of the request limit set by the predictive limit, or -1 if the request limit is not capped")
+          .labelNames("partition")
+          .register();
+
   private final Counter.Child deferredAppends;
   private final Counter.Child triedAppends;
   private final Gauge.Child inflightAppends;
@@ -187,6 +225,10 @@ public final class LogStreamMetrics {
   private final Gauge.Child writeRateMaxLimit;
   private final Gauge.Child writeRateLimit;
   private final Gauge.Child partitionLoad;
+  private final Gauge.Child processingBacklog;
+  private final Gauge.Child exportingBacklog;
+  private final Gauge.Child predictedProcessingLatency;
+  private final Gauge.Child requestLimitCap;
   private final String partitionLabel;
 
   public LogStreamMetrics(final int partitionId) {
@@ -206,6 +248,10 @@ public final class LogStreamMetrics {
     writeRateMaxLimit = WRITE_RATE_MAX_LIMIT.labels(partitionLabel);
     writeRateLimit = WRITE_RATE_LIMIT.labels(partitionLabel);
     partitionLoad = PARTITION_LOAD.labels(partitionLabel);
+    processingBacklog = PROCESSING_BACKLOG.labels(partitionLabel);
+    exportingBacklog = EXPORTING_BACKLOG.labels(partitionLabel);
+    predictedProcessingLatency = PREDICTED_PROCESSING_LATENCY.labels(partitionLabel);
+    requestLimitCap = REQUEST_LIMIT_CAP.labels(partitionLabel);
   }
 
   public void increaseInflightAppends() {
@@ -272,6 +318,10 @@ public final class LogStreamMetrics {
     WRITE_RATE_MAX_LIMIT.remove(partitionLabel);
     WRITE_RATE_LIMIT.remove(partitionLabel);
     PARTITION_LOAD.remove(partitionLabel);
+    PROCESSING_BACKLOG.remove(partitionLabel);
+    EXPORTING_BACKLOG.remove(partitionLabel);
+    PREDICTED_PROCESSING_LATENCY.remove(partitionLabel);
+    REQUEST_LIMIT_CAP.remove(partitionLabel);
     for (final var contextLabel : FlowControlOutComeLabels.allContextLabels()) {
       for (final var reasonLabel : FlowControlOutComeLabels.allReasonLabels()) {
         FLOW_CONTROL_OUTCOME.remove(partitionLabel, contextLabel, reasonLabel);
@@ -321,6 +371,19 @@ public final class LogStreamMetrics {
     writeRateLimit.set(value);
   }
 
+  public void setBacklog(final long processing, final long exporting) {
+    processingBacklog.set(processing);
+    exportingBacklog.set(exporting);
+  }
+
+  public void setPredictedProcessingLatency(final double seconds) {
+    predictedProcessingLatency.set(seconds);
+  }
+
+  public void setRequestLimitCap(final int cap) {
+    requestLimitCap.set(cap);
+  }
+
   static final class FlowControlOutComeLabels {
 
     private FlowControlOutComeLabels() {}
@@ -32,17 +32,19 @@ import java.util.TreeMap;
  *
  * <p>If enabled, a write rate limiter is used to limit the rate of appends to the log storage.
  * Additionally, a request limiter is used to limit the amount of unprocessed user commands to
- * ensure fast response times.
+ * ensure fast response times. If the {@link PredictiveLimit} is enabled, the request limit is
+ * additionally capped once the processing or exporting backlog is predicted to grow beyond its
+ * targets.
  *
  * <h3>Thread safety</h3>
  *
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, concurrently from any
+ *       writer.
  *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *       sequencers single drainer.
  *   <li>Calls to {@link #onWrite(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onCommit(long, long)} from the log storage, serialized through the single
@@ -87,7 +89,12 @@ public final class FlowControl implements AppendListener {
   private final RateMeasurement writeRate =
       new RateMeasurement(
           ActorClock::currentTimeMillis, Duration.ofMinutes(5), Duration.ofSeconds(10));
+  private final RateMeasurement processingRate =
+      new RateMeasurement(
+          ActorClock::currentTimeMillis, Duration.ofMinutes(1), Duration.ofSeconds(1));
   private RateLimitThrottle writeRateThrottle;
+  private PredictiveLimit predictiveLimit;
+  private PredictiveLimitController predictiveLimitController;
   private volatile long lastWrittenPosition = -1;
   private volatile long lastProcessedPosition = -1;
   private volatile long lastExportedPosition;
@@ -103,6 +110,16 @@ public final class FlowControl implements AppendListener {
     this.metrics = metrics;
     setRequestLimit(requestLimit);
     setWriteRateLimit(writeRateLimit);
+    setPredictiveLimit(PredictiveLimit.disabled());
+  }
+
+  public FlowControl(
+      final LogStreamMetrics metrics,
+      final Limit requestLimit,
+      final RateLimit writeRateLimit,
+      final PredictiveLimit predictiveLimit) {
+    this(metrics, requestLimit, writeRateLimit);
+    setPredictiveLimit(predictiveLimit);
   }
 
   /**
@@ -166,6 +183,7 @@ public final class FlowControl implements AppendListener {
   public void onWrite(final long index, final long highestPosition) {
     lastWrittenPosition = highestPosition;
     updateWriteRateThrottle();
+    updatePredictiveLimit();
     metrics.setLastWrittenPosition(highestPosition);
     final var inFlightEntry = inFlight.get(highestPosition);
     if (inFlightEntry != null) {
@@ -193,6 +211,8 @@ public final class FlowControl implements AppendListener {
       inFlightEntry.onProcessed();
     }
     lastProcessedPosition = position;
+    processingRate.observe(position);
+    updatePredictiveLimit();
   }
 
   public void onExported(final long position) {
@@ -204,6 +224,7 @@ public final class FlowControl implements AppendListener {
       metrics.setExportingRate(exportingRate.rate());
     }
     updateWriteRateThrottle();
+    updatePredictiveLimit();
   }
 
   private void updateWriteRateThrottle() {
@@ -213,6 +234,37 @@ public final class FlowControl implements AppendListener {
     }
   }
 
+  private void updatePredictiveLimit() {
+    final var controller = predictiveLimitController;
+    final var lastWritten = lastWrittenPosition;
+    final var lastProcessed = lastProcessedPosition;
+    final var lastExported = lastExportedPosition;
+    if (controller == null || lastWritten == -1 || lastProcessed == -1) {
+      return;
+    }
+
+    final var changed =
+        controller.update(
+            ActorClock.currentTimeMillis(),
+            Math.max(0, lastWritten - lastProcessed),
+            lastExported > 0 ? Math.max(0, lastWritten - lastExported) : 0,
+            processingLimiter instanceof final RequestLimiter limiter
+                ? limiter.getLimit()
+                : Integer.MAX_VALUE);
+    if (changed) {
+      applyLimitCap();
+    }
+  }
+
+  private void applyLimitCap() {
+    if (processingLimiter instanceof final RequestLimiter limiter) {
+      limiter.setLimitCap(
+          predictiveLimitController != null
+              ? predictiveLimitController.cap()
+              : PredictiveLimitController.NO_CAP);
+    }
+  }
+
   public Limit getRequestLimit() {
     return requestLimit;
   }
@@ -223,6 +275,7 @@ public final class FlowControl implements AppendListener {
         requestLimit != null
             ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
             : new NoopLimiter<>();
+    applyLimitCap();
   }
 
   public RateLimit getWriteRateLimit() {
@@ -240,6 +293,19 @@ public final class FlowControl implements AppendListener {
     }
   }
 
+  public PredictiveLimit getPredictiveLimit() {
+    return predictiveLimit;
+  }
+
+  public void setPredictiveLimit(final PredictiveLimit predictiveLimit) {
+    this.predictiveLimit = predictiveLimit;
+    predictiveLimitController =
+        predictiveLimit != null && predictiveLimit.enabled()
+            ? new PredictiveLimitController(metrics, predictiveLimit, processingRate)
+            : null;
+    applyLimitCap();
+  }
+
   public enum Rejection {
     WriteRateLimitExhausted,
     RequestLimitExhausted
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures the predictive limit, which caps the request limit before the processing latency
+ * exceeds the target latency, or the exporting backlog exceeds the acceptable backlog.
+ *
+ * @param enabled whether the request limit is capped
+ * @param targetLatency the steady-state latency from writing a record until it is processed
+ * @param acceptableExportingBacklog the number of records which may be written, but not exported
+ * @param resolution how often the cap is updated
+ */
+public record PredictiveLimit(
+    boolean enabled, Duration targetLatency, long acceptableExportingBacklog, Duration resolution) {
+  public PredictiveLimit {
+    Objects.requireNonNull(targetLatency, "targetLatency must not be null");
+    Objects.requireNonNull(resolution, "resolution must not be null");
+    if (enabled && (targetLatency.isZero() || targetLatency.isNegative())) {
+      throw new IllegalArgumentException("targetLatency must be greater than 0");
+    }
+    if (enabled && acceptableExportingBacklog <= 0) {
+      throw new IllegalArgumentException("acceptableExportingBacklog must be greater than 0");
+    }
+    if (enabled && (resolution.isZero() || resolution.isNegative())) {
+      throw new IllegalArgumentException("resolution must be greater than 0");
+    }
+  }
+
+  public static PredictiveLimit disabled() {
+    return new PredictiveLimit(false, Duration.ZERO, 0, Duration.ZERO);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caps the request limit based on the predicted processing latency and the exporting backlog, such
+ * that the request limit is reduced before the observed request latency exceeds the expected RTT of
+ * the limit algorithm, e.g. after a burst of requests.
+ *
+ * <p>The processing latency is predicted as the time to process the records which were written, but
+ * not processed yet, at the observed processing rate. If it exceeds the target latency, or the
+ * exporting backlog exceeds the acceptable backlog, the cap is reduced proportionally, by at most
+ * half per update. Otherwise, it is raised again step by step, until it's above the current limit
+ * and removed.
+ */
+final class PredictiveLimitController {
+  static final int NO_CAP = Integer.MAX_VALUE;
+  private static final Logger LOG = LoggerFactory.getLogger(PredictiveLimitController.class);
+  private static final double MIN_FACTOR = 0.5;
+  private static final double RECOVERY_FACTOR = 1.2;
+  private static final int MIN_CAP = 1;
+
+  private final AtomicLong lastUpdate = new AtomicLong(-1);
+  private final LogStreamMetrics metrics;
+  private final PredictiveLimit limit;
+  private final RateMeasurement processingRate;
+  private final long resolution;
+  private volatile int cap = NO_CAP;
+
+  PredictiveLimitController(
+      final LogStreamMetrics metrics,
+      final PredictiveLimit limit,
+      final RateMeasurement processingRate) {
+    this.metrics = metrics;
+    this.limit = limit;
+    this.processingRate = processingRate;
+    resolution = limit.resolution().toMillis();
+    metrics.setRequestLimitCap(-1);
+  }
+
+  /**
+   * @return the current upper bound of the request limit, or {@link #NO_CAP}
+   */
+  int cap() {
+    return cap;
+  }
+
+  /**
+   * Updates the cap, at most once per resolution.
+   *
+   * @param timestamp the current time in milliseconds
+   * @param processingBacklog the number of written records which were not processed yet
+   * @param exportingBacklog the number of written records which were not exported yet
+   * @param currentLimit the current request limit
+   * @return true if the cap was changed, false otherwise
+   */
+  boolean update(
+      final long timestamp,
+      final long processingBacklog,
+      final long exportingBacklog,
+      final int currentLimit) {
+    if (!limit.enabled() || canSkipUpdate(timestamp)) {
+      return false;
+    }
+
+    metrics.setBacklog(processingBacklog, exportingBacklog);
+    final var rate = processingRate.rate();
+    if (rate <= 0) {
+      // nothing was processed within the observation window yet, so there is nothing to predict
+      return false;
+    }
+
+    final var predictedLatencyMillis = processingBacklog * 1000 / (double) rate;
+    metrics.setPredictedProcessingLatency(predictedLatencyMillis / 1000);
+
+    final var latencyFactor = limit.targetLatency().toMillis() / predictedLatencyMillis;
+    final var exportingFactor = limit.acceptableExportingBacklog() / (double) exportingBacklog;
+    final var factor = Math.min(latencyFactor, exportingFactor);
+
+    return updateCap(factor, currentLimit, predictedLatencyMillis, exportingBacklog);
+  }
+
+  private synchronized boolean updateCap(
+      final double factor,
+      final int currentLimit,
+      final double predictedLatencyMillis,
+      final long exportingBacklog) {
+    final var previousCap = cap;
+    final int newCap;
+    if (factor < 1) {
+      final var base = Math.min(previousCap, currentLimit);
+      newCap = Math.max(MIN_CAP, (int) (base * Math.max(factor, MIN_FACTOR)));
+      LOG.debug(
+          "Capping request limit to {}, predicted processing latency {}ms, exporting backlog {}",
+          newCap,
+          (long) predictedLatencyMillis,
+          exportingBacklog);
+    } else if (previousCap == NO_CAP || previousCap * RECOVERY_FACTOR >= currentLimit) {
+      newCap = NO_CAP;
+    } else {
+      newCap = (int) Math.ceil(previousCap * RECOVERY_FACTOR);
+    }
+
+    if (newCap == previousCap) {
+      return false;
+    }
+
+    cap = newCap;
+    metrics.setRequestLimitCap(newCap == NO_CAP ? -1 : newCap);
+    return true;
+  }
+
+  /**
+   * Only the caller which moves the last update forward may update the cap. Every other caller
+   * within the same resolution, including callers with the same timestamp, skips the update, since
+   * each update builds on the previous cap and would otherwise compound.
+   */
+  private boolean canSkipUpdate(final long timestamp) {
+    final var previousUpdate = lastUpdate.get();
+    if (previousUpdate >= 0 && timestamp - previousUpdate < resolution) {
+      return true;
+    }
+
+    return !lastUpdate.compareAndSet(previousUpdate, timestamp);
+  }
+}
@@ -30,6 +30,7 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
           DeploymentDistributionIntent.COMPLETE,
           CommandDistributionIntent.ACKNOWLEDGE);
   private final LogStreamMetrics metrics;
+  private volatile int limitCap = Integer.MAX_VALUE;
 
   private RequestLimiter(final CommandRateLimiterBuilder builder, final LogStreamMetrics metrics) {
     super(builder);
@@ -40,13 +41,24 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    if (getInflight() >= Math.min(getLimit(), limitCap)
+        && !WHITE_LISTED_COMMANDS.contains(intent)) {
       return createRejectedListener();
     }
     final Listener listener = createListener();
     return Optional.of(listener);
   }
 
+  /**
+   * Sets an upper bound for the limit, independent of the limit algorithm, which continues to
+   * adjust the limit within it.
+   *
+   * @param limitCap the upper bound of the limit, or {@link Integer#MAX_VALUE} to remove it
+   */
+  public void setLimitCap(final int limitCap) {
+    this.limitCap = limitCap;
+  }
+
   @Override
   protected void onNewLimit(final int newLimit) {
     super.onNewLimit(newLimit);
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.log.LogBlockCache.CachedBlock;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import java.util.NoSuchElementException;
+import net.jcip.annotations.NotThreadSafe;
+import org.agrona.DirectBuffer;
+
+/**
+ * A {@link LogStorageReader} which reads the blocks from a shared {@link LogBlockCache} where
+ * possible, and otherwise directly from its own reader.
+ *
+ * <p>After seeking, the first block is always read directly, as its lowest position is not known
+ * beforehand. Afterward, the blocks are read from the cache, until the cache can't serve them
+ * because this reader lags behind too far. The reader then reads directly again, until it caught up
+ * with the blocks in the cache.
+ */
+@NotThreadSafe
+final class CachingLogStorageReader implements LogStorageReader {
+  private final LogStorageReader reader;
+  private final LogBlockCache cache;
+
+  // the lowest position of the next block, or -1 if it's not known
+  private long nextPosition = -1;
+  // whether the next block can be read via reader, i.e. it wasn't skipped by reading from the cache
+  private boolean isReaderPositioned = true;
+  private DirectBuffer nextBlock;
+
+  CachingLogStorageReader(final LogStorageReader reader, final LogBlockCache cache) {
+    this.reader = reader;
+    this.cache = cache;
+  }
+
+  @Override
+  public void seek(final long position) {
+    reader.seek(position);
+    isReaderPositioned = true;
+    nextPosition = -1;
+    nextBlock = null;
+  }
+
+  @Override
+  public void close() {
+    nextBlock = null;
+    reader.close();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextBlock != null) {
+      return true;
+    }
+
+    if (nextPosition >= 0 && (!isReaderPositioned || cache.canServe(nextPosition))) {
+      final var block = cache.read(nextPosition);
+      if (block == LogBlockCache.END_OF_LOG) {
+        return false;
+      } else if (block != null) {
+        isReaderPositioned = false;
+        nextBlock = block.buffer();
+        return true;
+      }
+    }
+
+    if (!isReaderPositioned) {
+      positionReader();
+    }
+
+    return nextBlock != null || reader.hasNext();
+  }
+
+  @Override
+  public DirectBuffer next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final DirectBuffer block;
+    if (nextBlock != null) {
+      block = nextBlock;
+      nextBlock = null;
+    } else {
+      block = reader.next();
+    }
+
+    nextPosition = CachedBlock.highestPosition(block) + 1;
+    return block;
+  }
+
+  /** Positions the reader at the next block, after blocks were read from the cache. */
+  private void positionReader() {
+    reader.seek(nextPosition);
+    isReaderPositioned = true;
+
+    while (reader.hasNext()) {
+      final var block = reader.next();
+      if (CachedBlock.highestPosition(block) >= nextPosition) {
+        nextBlock = block;
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.jcip.annotations.ThreadSafe;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A cache of log storage blocks, shared by all readers of a log stream, which reads ahead with a
+ * single {@link LogStorageReader}. Readers which follow each other closely, e.g. the exporters and
+ * the stream processor at the tail of the log, thus read and decode every block from the log
+ * storage only once.
+ *
+ * <p>Blocks are looked up by their lowest position, i.e. the position after the highest position of
+ * the previous block. If the block isn't cached, but is the next one of the shared reader, the
+ * shared reader reads it, and reads ahead up to {@link #READ_AHEAD_BLOCKS} further blocks, as long
+ * as they take up at most half of the capacity. Cached blocks are evicted in least recently used
+ * order, once the total size exceeds the capacity. A reader which requests a block that was evicted
+ * already, and is behind the shared reader, lags behind too far; it should fall back to read
+ * directly from the log storage until it caught up again, see {@link #canServe(long)}.
+ *
+ * <p>Only one caller reads from the log storage at a time, but the cached blocks can be looked up
+ * while it does. A caller which waits for the shared reader finds the block it requested in the
+ * cache if it was read in the meantime.
+ *
+ * <p>Cached blocks are copied out of the log storage and never modified afterward, such that they
+ * can be read concurrently. As only committed blocks are read, the content of a block with a given
+ * lowest position never changes.
+ */
+@ThreadSafe
+final class LogBlockCache implements AutoCloseable {
+  /** Returned by {@link #read(long)} if the requested block was not written yet. */
+  static final CachedBlock END_OF_LOG = new CachedBlock(-1, -1, new UnsafeBuffer());
+
+  /** The maximum number of blocks which are read after the requested one. */
+  static final int READ_AHEAD_BLOCKS = 16;
+
+  // returned by lookUp if the block was evicted already and cannot be read ahead anymore
+  private static final CachedBlock EVICTED = new CachedBlock(-1, -1, new UnsafeBuffer());
+
+  private final LogStorageReader reader;
+  // guards the shared reader, which is used outside the monitor of the cache
+  private final Lock readerLock = new ReentrantLock();
+  private final long capacityBytes;
+  private final LogBlockCacheMetrics metrics;
+  private final LinkedHashMap<Long, CachedBlock> blocks = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes;
+  // the lowest position of the next block of the shared reader, or -1 if it was not positioned yet
+  private long readAheadPosition = -1;
+
+  LogBlockCache(
+      final LogStorageReader reader, final long capacityBytes, final LogBlockCacheMetrics metrics) {
+    this.reader = reader;
+    this.capacityBytes = capacityBytes;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param position the lowest position of the block to read
+   * @return true if the block is cached, or can be read ahead by the shared reader; false if the
+   *     reader of the block lags behind the shared reader and the block was evicted already
+   */
+  synchronized boolean canServe(final long position) {
+    return blocks.containsKey(position) || readAheadPosition < 0 || position >= readAheadPosition;
+  }
+
+  /**
+   * Returns the block with the given lowest position, reading it and the blocks after it if it's
+   * not cached yet.
+   *
+   * @param position the lowest position of the block to read
+   * @return the block, {@link #END_OF_LOG} if it was not written yet, or null if it cannot be
+   *     served by the cache, in which case the caller should read it directly
+   */
+  CachedBlock read(final long position) {
+    final var cached = lookUp(position);
+    if (cached != null) {
+      return cached == EVICTED ? null : cached;
+    }
+
+    readerLock.lock();
+    try {
+      // the block may have been read while waiting for the shared reader
+      final var readMeanwhile = lookUp(position);
+      if (readMeanwhile != null) {
+        return readMeanwhile == EVICTED ? null : readMeanwhile;
+      }
+
+      return readFromStorage(position);
+    } finally {
+      readerLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    readerLock.lock();
+    try {
+      synchronized (this) {
+        blocks.clear();
+        sizeBytes = 0;
+        metrics.setSizeBytes(0);
+      }
+      reader.close();
+    } finally {
+      readerLock.unlock();
+    }
+  }
+
+  /**
+   * @return the cached block, {@link #EVICTED} if it cannot be served anymore, or null if it has to
+   *     be read by the shared reader
+   */
+  private synchronized CachedBlock lookUp(final long position) {
+    final var cached = blocks.get(position);
+    if (cached != null) {
+      metrics.hit();
+      return cached;
+    }
+
+    if (readAheadPosition >= 0 && position < readAheadPosition) {
+      metrics.miss();
+      return EVICTED;
+    }
+
+    return null;
+  }
+
+  /** Reads the requested block and the blocks after it; must be called with the reader lock. */
+  private CachedBlock readFromStorage(final long position) {
+    if (position != readAheadPosition()) {
+      // the requesting reader is ahead of all others, so the shared reader follows it from now on
+      reader.seek(position);
+      setReadAheadPosition(position);
+    }
+
+    CachedBlock requested = null;
+    var readAheadBlocks = 0;
+    var readAheadBytes = 0L;
+    while ((requested == null
+            || (readAheadBlocks < READ_AHEAD_BLOCKS && readAheadBytes < capacityBytes / 2))
+        && reader.hasNext()) {
+      final var next = reader.next();
+      if (requested == null && CachedBlock.highestPosition(next) < position) {
+        // after seeking, the reader may return the block before the requested position
+        continue;
+      }
+
+      final var block = CachedBlock.copyOf(next);
+      if (requested == null) {
+        if (block.lowestPosition() != position) {
+          // should not happen, as blocks are always requested by their lowest position
+          setReadAheadPosition(block.highestPosition() + 1);
+          metrics.miss();
+          return null;
+        }
+
+        requested = block;
+      } else {
+        readAheadBlocks++;
+        readAheadBytes += block.buffer().capacity();
+      }
+
+      put(block);
+    }
+
+    if (requested == null) {
+      return END_OF_LOG;
+    }
+
+    metrics.readAhead();
+    return requested;
+  }
+
+  private synchronized long readAheadPosition() {
+    return readAheadPosition;
+  }
+
+  private synchronized void setReadAheadPosition(final long position) {
+    readAheadPosition = position;
+  }
+
+  private synchronized void put(final CachedBlock block) {
+    readAheadPosition = block.highestPosition() + 1;
+    blocks.put(block.lowestPosition(), block);
+    sizeBytes += block.buffer().capacity();
+
+    final var iterator = blocks.values().iterator();
+    while (sizeBytes > capacityBytes && iterator.hasNext()) {
+      final var evicted = iterator.next();
+      if (evicted != block) {
+        iterator.remove();
+        sizeBytes -= evicted.buffer().capacity();
+      }
+    }
+
+    metrics.setSizeBytes(sizeBytes);
+  }
+
+  /**
+   * A block of the log storage, with the positions of its first and last event.
+   *
+   * @param lowestPosition the position of the first event in the block
+   * @param highestPosition the position of the last event in the block
+   * @param buffer the block
+   */
+  record CachedBlock(long lowestPosition, long highestPosition, DirectBuffer buffer) {
+
+    static CachedBlock copyOf(final DirectBuffer block) {
+      final var copy = new UnsafeBuffer(new byte[block.capacity()]);
+      copy.putBytes(0, block, 0, block.capacity());
+      return new CachedBlock(lowestPosition(copy), highestPosition(copy), copy);
+    }
+
+    static long lowestPosition(final DirectBuffer block) {
+      return LogEntryDescriptor.getPosition(block, 0);
+    }
+
+    static long highestPosition(final DirectBuffer block) {
+      var offset = 0;
+      var position = -1L;
+      while (offset < block.capacity()) {
+        position = LogEntryDescriptor.getPosition(block, offset);
+        offset += LogEntryDescriptor.getFragmentLength(block, offset);
+      }
+      return position;
+    }
+  }
+}
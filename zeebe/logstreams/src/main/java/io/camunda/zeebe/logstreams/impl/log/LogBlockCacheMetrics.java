@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+final class LogBlockCacheMetrics {
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .subsystem("log_block_cache")
+          .name("lookups_total")
+          .help(
+              "Number of blocks requested from the shared log block cache, by whether they were "
+                  + "cached, read ahead, or had to be read directly from the log storage")
+          .labelNames("partition", "result")
+          .register();
+
+  private static final Gauge SIZE_BYTES =
+      Gauge.build()
+          .namespace("zeebe")
+          .subsystem("log_block_cache")
+          .name("size_bytes")
+          .help("Current size of the blocks in the shared log block cache, in bytes")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child readAheads;
+  private final Counter.Child misses;
+  private final Gauge.Child sizeBytes;
+
+  LogBlockCacheMetrics(final int partitionId) {
+    final var partitionLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionLabel, "hit");
+    readAheads = LOOKUPS.labels(partitionLabel, "read_ahead");
+    misses = LOOKUPS.labels(partitionLabel, "miss");
+    sizeBytes = SIZE_BYTES.labels(partitionLabel);
+  }
+
+  void hit() {
+    hits.inc();
+  }
+
+  void readAhead() {
+    readAheads.inc();
+  }
+
+  void miss() {
+    misses.inc();
+  }
+
+  void setSizeBytes(final long size) {
+    sizeBytes.set(size);
+  }
+}
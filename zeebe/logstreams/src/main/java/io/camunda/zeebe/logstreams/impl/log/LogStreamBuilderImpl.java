@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import com.netflix.concurrency.limits.Limit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
@@ -24,6 +25,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private InstantSource clock;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private PredictiveLimit predictiveLimit = PredictiveLimit.disabled();
+  private long blockCacheSize;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -67,12 +70,32 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withPredictiveLimit(final PredictiveLimit predictiveLimit) {
+    this.predictiveLimit = predictiveLimit;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withBlockCacheSize(final long blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+    return this;
+  }
+
   @Override
   public LogStream build() {
     validate();
 
     return new LogStreamImpl(
-        logName, partitionId, maxFragmentSize, logStorage, clock, requestLimit, writeRateLimit);
+        logName,
+        partitionId,
+        maxFragmentSize,
+        logStorage,
+        clock,
+        requestLimit,
+        writeRateLimit,
+        predictiveLimit,
+        blockCacheSize);
   }
 
   private void validate() {
@@ -85,5 +108,11 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               "Expected fragment size to be at least '%d', but was '%d'",
               MINIMUM_FRAGMENT_SIZE, maxFragmentSize));
     }
+
+    if (blockCacheSize < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected block cache size to be at least '0', but was '%d'", blockCacheSize));
+    }
   }
 }
@@ -11,6 +11,7 @@ import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -36,6 +37,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final LogStreamMetrics logStreamMetrics;
   private final FlowControl flowControl;
   private final Sequencer sequencer;
+  private final LogBlockCache blockCache;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -45,12 +47,14 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       final Limit requestLimit,
-      final RateLimit writeRateLimit) {
+      final RateLimit writeRateLimit,
+      final PredictiveLimit predictiveLimit,
+      final long blockCacheSize) {
     this.logName = logName;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     logStreamMetrics = new LogStreamMetrics(partitionId);
-    flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit);
+    flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit, predictiveLimit);
     sequencer =
         new Sequencer(
             logStorage,
@@ -59,6 +63,11 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             clock,
             new SequencerMetrics(partitionId),
             flowControl);
+    blockCache =
+        blockCacheSize > 0
+            ? new LogBlockCache(
+                logStorage.newReader(), blockCacheSize, new LogBlockCacheMetrics(partitionId))
+            : null;
     logStorage.addCommitListener(this);
   }
 
@@ -67,6 +76,9 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     closed = true;
     LOG.debug("Closing {} with {} readers", logName, readers.size());
     readers.forEach(LogStreamReader::close);
+    if (blockCache != null) {
+      blockCache.close();
+    }
     logStorage.removeCommitListener(this);
     logStreamMetrics.remove();
   }
@@ -128,7 +140,12 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   }
 
   private LogStreamReader createLogStreamReader() {
-    final var newReader = new LogStreamReaderImpl(logStorage.newReader());
+    final var storageReader = logStorage.newReader();
+    final var newReader =
+        new LogStreamReaderImpl(
+            blockCache != null
+                ? new CachingLogStorageReader(storageReader, blockCache)
+                : storageReader);
     readers.add(newReader);
     return newReader;
   }
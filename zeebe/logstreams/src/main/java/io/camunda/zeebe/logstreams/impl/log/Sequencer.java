@@ -19,27 +19,58 @@ import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.io.Closeable;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.LangUtil;
+import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
- * serializes them, assigning positions to all entries. Writes that are accepted are written
- * directly to the {@link LogStorage}.
+ * serializes them, assigning positions to all entries. Writes that are accepted are written to the
+ * {@link LogStorage} before {@link #tryWrite(WriteContext, List, long) tryWrite} returns.
+ *
+ * <p>Writers don't take a lock. Each accepted write claims the next sequence number with a single
+ * atomic increment, and publishes its batch into the slot of a bounded ring buffer. Whichever
+ * writer manages to become the drainer then takes the published batches in sequence order, assigns
+ * their positions, and combines adjacent batches into a single append, as long as they fit into
+ * {@code maxFragmentSize}. Under contention, this results in fewer but larger appends to the log
+ * storage. Writers whose batch is drained by another writer park until it is appended, or until the
+ * drainer hands over to them as the writer of the next published batch. If an append fails, every
+ * writer of the drained batches gets the failure, not only the drainer.
+ *
+ * <p>Since there is at most one drainer at a time, and batches are drained strictly in the order of
+ * their sequence numbers, the positions are assigned without gaps and appended in ascending order,
+ * and {@link FlowControl#onAppend(InFlightEntry, long)} is still called sequentially, once per
+ * batch.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  // must be a power of two
+  private static final int RING_CAPACITY = 1024;
+  private static final int RING_MASK = RING_CAPACITY - 1;
+  private static final long RING_FULL_PARK_NANOS = 100_000;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  private final AtomicLong claimedSequence = new AtomicLong();
+  private final AtomicReferenceArray<PendingBatch> ring = new AtomicReferenceArray<>(RING_CAPACITY);
+  private final AtomicBoolean draining = new AtomicBoolean();
+  // the next sequence to drain; only written by the drainer
+  private volatile long drainedSequence;
+  // only accessed by the drainer, the draining flag ensures visibility between drainers
+  private long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -106,23 +137,25 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
+    final var pendingBatch =
+        new PendingBatch(sourcePosition, appendEntries, batchLength, inFlightEntry);
 
-    lock.lock();
-    try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
-    } finally {
-      lock.unlock();
-      sequencerMetrics.observeBatchLengthBytes(batchLength);
-      sequencerMetrics.observeBatchSize(batchSize);
+    publish(claimedSequence.getAndIncrement(), pendingBatch);
+    // drain until our own batch was appended, either by us or by another writer
+    while (!pendingBatch.isCompleted()) {
+      if (!tryDrain()) {
+        // the current drainer wakes us up once our batch is completed, or when handing over
+        LockSupport.park(this);
+      }
+    }
+
+    if (pendingBatch.failure != null) {
+      LangUtil.rethrowUnchecked(pendingBatch.failure);
     }
+
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(pendingBatch.highestPosition);
   }
 
   /**
@@ -135,7 +168,208 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  /**
+   * @return the number of batches which were published, but not yet drained
+   */
+  int publishedBatches() {
+    var published = 0;
+    for (long sequence = drainedSequence; sequence < claimedSequence.get(); sequence++) {
+      if (ring.get(slot(sequence)) != null) {
+        published++;
+      }
+    }
+    return published;
+  }
+
+  private void publish(final long sequence, final PendingBatch batch) {
+    // wait until the slot was drained, in case the ring is full
+    while (sequence - drainedSequence >= RING_CAPACITY) {
+      if (!tryDrain()) {
+        LockSupport.parkNanos(this, RING_FULL_PARK_NANOS);
+      }
+    }
+
+    ring.set(slot(sequence), batch);
+  }
+
+  /**
+   * Appends the next published batches, unless another writer is draining already.
+   *
+   * @return true if this writer drained any batches, false otherwise
+   */
+  private boolean tryDrain() {
+    if (!draining.compareAndSet(false, true)) {
+      return false;
+    }
+
+    try {
+      return drainNext();
+    } finally {
+      draining.set(false);
+      // the writer of the next batch may have parked while we were draining, so hand over to it;
+      // a batch published after this check is drained by its own writer, as the flag is released
+      final var next = ring.get(slot(drainedSequence));
+      if (next != null) {
+        next.wakeUp();
+      }
+    }
+  }
+
+  private boolean drainNext() {
+    final var firstSequence = drainedSequence;
+    final var first = ring.get(slot(firstSequence));
+    if (first == null) {
+      return false;
+    }
+
+    // combine the adjacent published batches, as long as they fit into a single append
+    final var batches = new ArrayList<PendingBatch>();
+    batches.add(first);
+    var combinedLength = first.length;
+    var nextSequence = firstSequence + 1;
+    while (nextSequence < firstSequence + RING_CAPACITY) {
+      final var next = ring.get(slot(nextSequence));
+      if (next == null || combinedLength + next.length > maxFragmentSize) {
+        break;
+      }
+
+      batches.add(next);
+      combinedLength += next.length;
+      nextSequence++;
+    }
+
+    // free the slots before appending, so that waiting writers can publish meanwhile
+    for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+      ring.set(slot(sequence), null);
+    }
+    drainedSequence = nextSequence;
+
+    final var lowestPosition = position;
+    // assigned while draining, so that the timestamps increase along with the positions
+    final var timestamp = clock.millis();
+    try {
+      final var sequencedBatches = new ArrayList<SequencedBatch>(batches.size());
+      for (final var batch : batches) {
+        final var sequencedBatch = batch.sequence(position, timestamp);
+        sequencedBatches.add(sequencedBatch);
+        position += sequencedBatch.entries().size();
+        flowControl.onAppend(batch.inFlightEntry, batch.highestPosition);
+      }
+      final var highestPosition = position - 1;
+
+      if (sequencedBatches.size() == 1) {
+        logStorage.append(
+            lowestPosition, highestPosition, sequencedBatches.getFirst(), flowControl);
+      } else {
+        logStorage.append(
+            lowestPosition,
+            highestPosition,
+            new CombinedBatch(sequencedBatches, combinedLength),
+            new CombinedAppendListener(batches, flowControl));
+      }
+      sequencerMetrics.observeCombinedBatches(sequencedBatches.size());
+    } catch (final Throwable error) {
+      // nothing was appended, so the next batches continue at the same position
+      position = lowestPosition;
+      batches.forEach(batch -> batch.onFailed(error));
+      return true;
+    }
+
+    batches.forEach(PendingBatch::onAppended);
+    return true;
+  }
+
+  private static int slot(final long sequence) {
+    return (int) (sequence & RING_MASK);
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /** A batch which was accepted and published, but is not yet sequenced. */
+  private static final class PendingBatch {
+    private final long sourcePosition;
+    private final List<LogAppendEntry> entries;
+    private final int length;
+    private final InFlightEntry inFlightEntry;
+    private final Thread writer = Thread.currentThread();
+    // written by the drainer before completed is set
+    private long highestPosition;
+    private Throwable failure;
+    private volatile boolean completed;
+
+    private PendingBatch(
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int length,
+        final InFlightEntry inFlightEntry) {
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.length = length;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private SequencedBatch sequence(final long firstPosition, final long timestamp) {
+      highestPosition = firstPosition + entries.size() - 1;
+      return new SequencedBatch(timestamp, firstPosition, sourcePosition, entries, length);
+    }
+
+    private void onAppended() {
+      completed = true;
+      wakeUp();
+    }
+
+    private void onFailed(final Throwable error) {
+      failure = error;
+      completed = true;
+      wakeUp();
+    }
+
+    private boolean isCompleted() {
+      return completed;
+    }
+
+    private void wakeUp() {
+      if (writer != Thread.currentThread()) {
+        LockSupport.unpark(writer);
+      }
+    }
+  }
+
+  /** Writes the given batches one after another, each with its own timestamp and source. */
+  private record CombinedBatch(List<SequencedBatch> batches, int length) implements BufferWriter {
+
+    @Override
+    public int getLength() {
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      var batchOffset = offset;
+      for (final var batch : batches) {
+        batch.write(buffer, batchOffset);
+        batchOffset += batch.getLength();
+      }
+    }
+  }
+
+  /**
+   * Notifies the delegate for each batch of a combined append, as {@link FlowControl} tracks the
+   * in-flight entries by the highest position of each batch.
+   */
+  private record CombinedAppendListener(List<PendingBatch> batches, AppendListener delegate)
+      implements AppendListener {
+
+    @Override
+    public void onWrite(final long index, final long highestPosition) {
+      batches.forEach(batch -> delegate.onWrite(index, batch.highestPosition));
+    }
+
+    @Override
+    public void onCommit(final long index, final long highestPosition) {
+      batches.forEach(batch -> delegate.onCommit(index, batch.highestPosition));
+    }
+  }
 }
@@ -28,13 +28,24 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram COMBINED_BATCHES =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_combined_batches")
+          .help("Histogram over the number of batches which are combined into a single append")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100)
+          .labelNames("partition")
+          .register();
+
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
+  private final Histogram.Child combinedBatches;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
+    combinedBatches = COMBINED_BATCHES.labels(partitionLabel);
   }
 
   void observeBatchSize(final int size) {
@@ -45,4 +56,8 @@ final class SequencerMetrics {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
   }
+
+  void observeCombinedBatches(final int count) {
+    combinedBatches.observe(count);
+  }
 }
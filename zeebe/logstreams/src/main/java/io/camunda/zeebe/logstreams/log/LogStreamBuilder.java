@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.log;
 
 import com.netflix.concurrency.limits.Limit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import java.time.InstantSource;
@@ -56,6 +57,18 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  LogStreamBuilder withPredictiveLimit(PredictiveLimit predictiveLimit);
+
+  /**
+   * The capacity of the block cache shared by all readers of the log stream. Readers which follow
+   * each other closely then read each block from the log storage only once. A capacity of zero
+   * disables the cache, such that each reader reads directly from the log storage.
+   *
+   * @param blockCacheSize the capacity of the shared block cache in bytes
+   * @return this builder
+   */
+  LogStreamBuilder withBlockCacheSize(long blockCacheSize);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class PredictiveLimitControllerTest {
+  private static final int LIMIT = 100;
+  private static final long RESOLUTION = Duration.ofSeconds(1).toMillis();
+
+  private final AtomicLong clock = new AtomicLong();
+  private final RateMeasurement processingRate =
+      new RateMeasurement(clock::get, Duration.ofMinutes(1), Duration.ofSeconds(1));
+  private final PredictiveLimitController controller =
+      new PredictiveLimitController(
+          new LogStreamMetrics(1),
+          new PredictiveLimit(true, Duration.ofSeconds(1), 10_000, Duration.ofMillis(RESOLUTION)),
+          processingRate);
+
+  @BeforeEach
+  void setUp() {
+    // process 100 records per second
+    processingRate.observe(0);
+    clock.set(Duration.ofSeconds(10).toMillis());
+    processingRate.observe(1000);
+  }
+
+  @Test
+  void shouldNotCapIfPredictedLatencyIsWithinTarget() {
+    // when -- it takes 0.5s to process the backlog
+    final var changed = controller.update(clock.get(), 50, 0, LIMIT);
+
+    // then
+    assertThat(changed).isFalse();
+    assertThat(controller.cap()).isEqualTo(PredictiveLimitController.NO_CAP);
+  }
+
+  @Test
+  void shouldCapIfPredictedLatencyExceedsTarget() {
+    // when -- it takes 1.5s to process the backlog
+    final var changed = controller.update(clock.get(), 150, 0, LIMIT);
+
+    // then
+    assertThat(changed).isTrue();
+    assertThat(controller.cap()).isEqualTo(66);
+  }
+
+  @Test
+  void shouldAtMostHalveLimitPerUpdate() {
+    // when -- it takes 100s to process the backlog
+    controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // then
+    assertThat(controller.cap()).isEqualTo(LIMIT / 2);
+  }
+
+  @Test
+  void shouldCapIfExportingBacklogExceedsAcceptableBacklog() {
+    // when
+    controller.update(clock.get(), 0, 15_000, LIMIT);
+
+    // then
+    assertThat(controller.cap()).isEqualTo(66);
+  }
+
+  @Test
+  void shouldNotCapWithoutProcessingRate() {
+    // given
+    final var controller =
+        new PredictiveLimitController(
+            new LogStreamMetrics(1),
+            new PredictiveLimit(true, Duration.ofSeconds(1), 10_000, Duration.ofMillis(RESOLUTION)),
+            new RateMeasurement(clock::get, Duration.ofMinutes(1), Duration.ofSeconds(1)));
+
+    // when
+    final var changed = controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // then
+    assertThat(changed).isFalse();
+    assertThat(controller.cap()).isEqualTo(PredictiveLimitController.NO_CAP);
+  }
+
+  @Test
+  void shouldUpdateAtMostOncePerResolution() {
+    // given
+    controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // when
+    final var changed = controller.update(clock.get() + RESOLUTION - 1, 10_000, 0, LIMIT);
+
+    // then
+    assertThat(changed).isFalse();
+    assertThat(controller.cap()).isEqualTo(LIMIT / 2);
+  }
+
+  @Test
+  void shouldNotUpdateTwiceWithSameTimestamp() {
+    // given
+    controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // when
+    final var changed = controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // then
+    assertThat(changed).isFalse();
+    assertThat(controller.cap()).isEqualTo(LIMIT / 2);
+  }
+
+  @Test
+  void shouldRaiseCapStepwiseUntilRemoved() {
+    // given
+    controller.update(clock.get(), 10_000, 0, LIMIT);
+
+    // when -- the backlog was processed
+    final var caps = new ArrayList<Integer>();
+    while (controller.cap() != PredictiveLimitController.NO_CAP) {
+      clock.addAndGet(RESOLUTION);
+      controller.update(clock.get(), 0, 0, LIMIT);
+      caps.add(controller.cap());
+    }
+
+    // then
+    assertThat(caps).containsExactly(60, 72, 87, PredictiveLimitController.NO_CAP);
+  }
+}
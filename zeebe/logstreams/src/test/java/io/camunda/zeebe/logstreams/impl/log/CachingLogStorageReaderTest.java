@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class CachingLogStorageReaderTest {
+  private static final int BLOCK_COUNT = 10;
+
+  private final CountingLogStorage logStorage = new CountingLogStorage();
+  private LogStream logStream;
+
+  @AfterEach
+  void tearDown() {
+    if (logStream != null) {
+      logStream.close();
+    }
+  }
+
+  @Test
+  void shouldReadEachBlockOnceForReadersFollowingEachOther() {
+    // given
+    logStream = openLogStream(1024 * 1024);
+    writeBlocks(BLOCK_COUNT);
+    final var firstReader = logStream.newLogStreamReader();
+    final var secondReader = logStream.newLogStreamReader();
+
+    // when
+    final var firstPositions = readAll(firstReader);
+    final var secondPositions = readAll(secondReader);
+
+    // then -- apart from the first block, which each reader reads directly after seeking, the
+    // blocks are read ahead once and shared
+    assertThat(firstPositions).isEqualTo(expectedPositions(1, BLOCK_COUNT));
+    assertThat(secondPositions).isEqualTo(expectedPositions(1, BLOCK_COUNT));
+    assertThat(logStorage.readBlocks.get()).isLessThan(2 * BLOCK_COUNT);
+  }
+
+  @Test
+  void shouldReadAheadBlocksAfterRequestedBlock() {
+    // given
+    logStream = openLogStream(1024 * 1024);
+    writeBlocks(BLOCK_COUNT);
+    final var reader = logStream.newLogStreamReader();
+    reader.next();
+    reader.next();
+    final var readBlocksAfterSecondBlock = logStorage.readBlocks.get();
+
+    // when
+    final var positions = readAll(reader);
+
+    // then -- the remaining blocks were read ahead together with the second one
+    assertThat(positions).isEqualTo(expectedPositions(3, BLOCK_COUNT - 2));
+    assertThat(logStorage.readBlocks.get()).isEqualTo(readBlocksAfterSecondBlock);
+  }
+
+  @Test
+  void shouldReadConcurrently() throws Exception {
+    // given
+    logStream = openLogStream(1024 * 1024);
+    writeBlocks(BLOCK_COUNT);
+    final var firstReader = logStream.newLogStreamReader();
+    final var secondReader = logStream.newLogStreamReader();
+
+    // when
+    final var firstPositions = CompletableFuture.supplyAsync(() -> readAll(firstReader));
+    final var secondPositions = CompletableFuture.supplyAsync(() -> readAll(secondReader));
+
+    // then
+    assertThat(firstPositions.get()).isEqualTo(expectedPositions(1, BLOCK_COUNT));
+    assertThat(secondPositions.get()).isEqualTo(expectedPositions(1, BLOCK_COUNT));
+  }
+
+  @Test
+  void shouldReadDirectlyWhenLaggingBehind() {
+    // given -- a cache which only holds a single block
+    logStream = openLogStream(1);
+    writeBlocks(BLOCK_COUNT);
+    final var firstReader = logStream.newLogStreamReader();
+    final var laggingReader = logStream.newLogStreamReader();
+    readAll(firstReader);
+
+    // when
+    final var positions = readAll(laggingReader);
+
+    // then
+    assertThat(positions).isEqualTo(expectedPositions(1, BLOCK_COUNT));
+  }
+
+  @Test
+  void shouldReadNewBlocksAfterReachingEndOfLog() {
+    // given
+    logStream = openLogStream(1024 * 1024);
+    writeBlocks(BLOCK_COUNT);
+    final var firstReader = logStream.newLogStreamReader();
+    final var secondReader = logStream.newLogStreamReader();
+    readAll(firstReader);
+    readAll(secondReader);
+
+    // when
+    writeBlocks(BLOCK_COUNT);
+
+    // then
+    assertThat(readAll(firstReader)).isEqualTo(expectedPositions(BLOCK_COUNT + 1, BLOCK_COUNT));
+    assertThat(readAll(secondReader)).isEqualTo(expectedPositions(BLOCK_COUNT + 1, BLOCK_COUNT));
+  }
+
+  @Test
+  void shouldSeekWhenReadingFromCache() {
+    // given
+    logStream = openLogStream(1024 * 1024);
+    writeBlocks(BLOCK_COUNT);
+    final var reader = logStream.newLogStreamReader();
+    readAll(reader);
+
+    // when
+    reader.seek(5);
+
+    // then
+    assertThat(readAll(reader)).isEqualTo(expectedPositions(5, BLOCK_COUNT - 4));
+  }
+
+  private LogStream openLogStream(final long blockCacheSize) {
+    return LogStream.builder()
+        .withPartitionId(1)
+        .withLogName("logStream-1")
+        .withLogStorage(logStorage)
+        .withClock(InstantSource.system())
+        .withBlockCacheSize(blockCacheSize)
+        .build();
+  }
+
+  private void writeBlocks(final int count) {
+    final var writer = logStream.newLogStreamWriter();
+    for (int i = 0; i < count; i++) {
+      assertThat(writer.tryWrite(WriteContext.internal(), TestEntry.ofKey(i)).isRight()).isTrue();
+    }
+  }
+
+  private List<Long> readAll(final LogStreamReader reader) {
+    final var positions = new ArrayList<Long>();
+    while (reader.hasNext()) {
+      positions.add(reader.next().getPosition());
+    }
+    return positions;
+  }
+
+  private List<Long> expectedPositions(final long from, final int count) {
+    return LongStream.range(from, from + count).boxed().toList();
+  }
+
+  private static final class CountingLogStorage extends ListLogStorage {
+    private final AtomicInteger readBlocks = new AtomicInteger();
+
+    @Override
+    public LogStorageReader newReader() {
+      final var reader = super.newReader();
+      return new LogStorageReader() {
+        @Override
+        public void seek(final long position) {
+          reader.seek(position);
+        }
+
+        @Override
+        public void close() {
+          reader.close();
+        }
+
+        @Override
+        public boolean hasNext() {
+          return reader.hasNext();
+        }
+
+        @Override
+        public DirectBuffer next() {
+          readBlocks.incrementAndGet();
+          return reader.next();
+        }
+      };
+    }
+  }
+}
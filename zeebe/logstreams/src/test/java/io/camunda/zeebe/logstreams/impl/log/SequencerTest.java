@@ -22,9 +22,12 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -246,6 +249,112 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void combinesConcurrentWritesIntoSingleAppend() throws InterruptedException {
+    // given -- a log storage which blocks the first append
+    final var appendStarted = new CountDownLatch(1);
+    final var appendReleased = new CountDownLatch(1);
+    final var appends = new CopyOnWriteArrayList<List<Long>>();
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doAnswer(
+            invocation -> {
+              if (appends.isEmpty()) {
+                appendStarted.countDown();
+                appendReleased.await();
+              }
+              appends.add(List.of(invocation.getArgument(0), invocation.getArgument(1)));
+              return null;
+            })
+        .when(logStorage)
+        .append(Mockito.anyLong(), Mockito.anyLong(), any(BufferWriter.class), any());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var entry = TestEntry.ofDefaults();
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var firstWriter =
+        newWriterThread(sequencer, 1, 1, List.of(entry), true, testFailures::add);
+    firstWriter.start();
+    appendStarted.await();
+
+    // when -- two more writers publish their batches while the first append is blocked
+    final var writers =
+        List.of(
+            newWriterThread(sequencer, 2, 1, List.of(entry), false, testFailures::add),
+            newWriterThread(sequencer, 2, 1, List.of(entry), false, testFailures::add));
+    writers.forEach(Thread::start);
+    Awaitility.await("until both batches are published")
+        .until(() -> sequencer.publishedBatches() == 2);
+    appendReleased.countDown();
+    firstWriter.join();
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(appends).containsExactly(List.of(1L, 1L), List.of(2L, 3L));
+  }
+
+  @Test
+  void failsAllWritersOfCombinedAppend() throws InterruptedException {
+    // given -- a log storage which blocks the first append and fails the second
+    final var appendStarted = new CountDownLatch(1);
+    final var appendReleased = new CountDownLatch(1);
+    final var appendFailure = new IllegalStateException("expected");
+    final var appends = new CopyOnWriteArrayList<List<Long>>();
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doAnswer(
+            invocation -> {
+              if (appends.isEmpty()) {
+                appendStarted.countDown();
+                appendReleased.await();
+                appends.add(List.of(invocation.getArgument(0), invocation.getArgument(1)));
+                return null;
+              }
+              throw appendFailure;
+            })
+        .when(logStorage)
+        .append(Mockito.anyLong(), Mockito.anyLong(), any(BufferWriter.class), any());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var entry = TestEntry.ofDefaults();
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var firstWriter =
+        newWriterThread(sequencer, 1, 1, List.of(entry), true, testFailures::add);
+    firstWriter.start();
+    appendStarted.await();
+
+    // when -- two more writers publish their batches, which are then combined into one append
+    final var writers =
+        List.of(
+            newWriterThread(sequencer, 2, 1, List.of(entry), false, testFailures::add),
+            newWriterThread(sequencer, 2, 1, List.of(entry), false, testFailures::add));
+    writers.forEach(Thread::start);
+    Awaitility.await("until both batches are published")
+        .until(() -> sequencer.publishedBatches() == 2);
+    appendReleased.countDown();
+    firstWriter.join();
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- both writers return with the failure instead of waiting forever
+    Assertions.assertThat(testFailures).containsExactly(appendFailure, appendFailure);
+    Mockito.verify(logStorage).append(eq(2L), eq(3L), any(BufferWriter.class), any());
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
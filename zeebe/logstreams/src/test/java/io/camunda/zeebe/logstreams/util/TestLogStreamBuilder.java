@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.util;
 
 import com.netflix.concurrency.limits.Limit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.PredictiveLimit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
@@ -67,6 +68,18 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withPredictiveLimit(final PredictiveLimit predictiveLimit) {
+    delegate.withPredictiveLimit(predictiveLimit);
+    return this;
+  }
+
+  @Override
+  public TestLogStreamBuilder withBlockCacheSize(final long blockCacheSize) {
+    delegate.withBlockCacheSize(blockCacheSize);
+    return this;
+  }
+
   @Override
   public TestLogStream build() {
     return new TestLogStream(delegate.build());
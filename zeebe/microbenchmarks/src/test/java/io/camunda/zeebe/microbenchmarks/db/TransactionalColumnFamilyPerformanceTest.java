@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the column family operations the engine relies on the most: point reads, prefix
+ * iteration (e.g. over the element instances of a process instance), and transactions which write
+ * several keys at once, as a processed command batch does. The database lives in a temporary
+ * directory.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TransactionalColumnFamilyPerformanceTest {
+  private static final int OWNER_COUNT = 10_000;
+  private static final int ENTRIES_PER_OWNER = 10;
+
+  private final DbLong owner = new DbLong();
+  private final DbLong entry = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(owner, entry);
+  private final DbLong value = new DbLong();
+
+  private Path dbPath;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private long nextOwner = OWNER_COUNT;
+
+  @Setup
+  public void setup() throws Exception {
+    dbPath = Files.createTempDirectory("zb-db-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(dbPath.toFile());
+    transactionContext = db.createContext();
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (long i = 0; i < OWNER_COUNT; i++) {
+            writeEntries(i);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(dbPath.toFile(), true);
+  }
+
+  @Benchmark
+  public long measureGet() {
+    owner.wrapLong(ThreadLocalRandom.current().nextLong(OWNER_COUNT));
+    entry.wrapLong(ThreadLocalRandom.current().nextLong(ENTRIES_PER_OWNER));
+    return columnFamily.get(key).getValue();
+  }
+
+  @Benchmark
+  public long measurePrefixIteration() {
+    final var sum = new long[1];
+    owner.wrapLong(ThreadLocalRandom.current().nextLong(OWNER_COUNT));
+    columnFamily.whileEqualPrefix(
+        owner,
+        (k, v) -> {
+          sum[0] += v.getValue();
+        });
+    return sum[0];
+  }
+
+  @Benchmark
+  public long measureTransactionalWrites() {
+    // write new entries and remove them again, such that the state size doesn't grow
+    final var currentOwner = nextOwner++;
+    transactionContext.runInTransaction(
+        () -> {
+          writeEntries(currentOwner);
+          owner.wrapLong(currentOwner);
+          for (long i = 0; i < ENTRIES_PER_OWNER; i++) {
+            entry.wrapLong(i);
+            columnFamily.deleteExisting(key);
+          }
+        });
+    return currentOwner;
+  }
+
+  @JMHTest("measureGet")
+  void shouldGet(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(150_000, 0.25);
+  }
+
+  @JMHTest("measurePrefixIteration")
+  void shouldIterateOverPrefix(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(50_000, 0.25);
+  }
+
+  @JMHTest("measureTransactionalWrites")
+  void shouldWriteInTransaction(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(10_000, 0.25);
+  }
+
+  private void writeEntries(final long ownerKey) {
+    owner.wrapLong(ownerKey);
+    for (long i = 0; i < ENTRIES_PER_OWNER; i++) {
+      entry.wrapLong(i);
+      value.wrapLong(ownerKey + i);
+      columnFamily.insert(key, value);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.engine.perf.TestEngine;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobClient;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.microbenchmarks.util.BenchmarkEngineContext;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the end-to-end handling of the most common commands by the engine processors of a single
+ * partition, i.e. creating a process instance, activating and completing a job, and correlating a
+ * message. The engine runs on a RocksDB in a temporary directory and an in-memory log storage, so
+ * the results don't depend on the disk.
+ *
+ * <p>Each operation writes the command and waits until the engine exported the expected follow-up
+ * record, so the score is the number of commands (including their follow-ups) processed per second.
+ */
+@Warmup(iterations = 20, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EngineProcessorsPerformanceTest {
+  private static final String NONE_PROCESS = "none";
+  private static final String JOB_PROCESS = "job";
+  private static final String MESSAGE_PROCESS = "message";
+  private static final String JOB_TYPE = "task";
+  private static final String MESSAGE_NAME = "message";
+
+  private BenchmarkEngineContext context;
+  private TestEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+  private JobActivationClient jobActivationClient;
+  private JobClient jobClient;
+  private PublishMessageClient publishMessageClient;
+  private long correlationKey;
+
+  @Setup
+  public void setup() throws Exception {
+    context = BenchmarkEngineContext.create();
+    engine = TestEngine.createSinglePartitionEngine(context.testContext());
+
+    engine
+        .createDeploymentClient()
+        .withXmlResource(Bpmn.createExecutableProcess(NONE_PROCESS).startEvent().endEvent().done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess(JOB_PROCESS)
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType(JOB_TYPE))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess(MESSAGE_PROCESS)
+                .startEvent()
+                .intermediateCatchEvent(
+                    "catch",
+                    c -> c.message(m -> m.name(MESSAGE_NAME).zeebeCorrelationKeyExpression("key")))
+                .endEvent()
+                .done())
+        .deploy();
+
+    processInstanceClient = engine.createProcessInstanceClient();
+    jobActivationClient = engine.createJobActivationClient().withType(JOB_TYPE);
+    jobClient = engine.createJobClient();
+    publishMessageClient = engine.createPublishMessageClient().withName(MESSAGE_NAME);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public long measureProcessInstanceCreation() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(NONE_PROCESS).create();
+    awaitProcessCompleted(processInstanceKey);
+    return processInstanceKey;
+  }
+
+  @Benchmark
+  public Record<JobRecordValue> measureJobActivateAndComplete() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(JOB_PROCESS).create();
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .getFirst();
+
+    final var batch = jobActivationClient.activate();
+    final var job = jobClient.withKey(batch.getValue().getJobKeys().getFirst()).complete();
+    awaitProcessCompleted(processInstanceKey);
+    return job;
+  }
+
+  @Benchmark
+  public long measureMessageCorrelation() {
+    final var key = String.valueOf(correlationKey++);
+    final long processInstanceKey =
+        processInstanceClient
+            .ofBpmnProcessId(MESSAGE_PROCESS)
+            .withVariables(Map.of("key", key))
+            .create();
+
+    publishMessageClient.withCorrelationKey(key).publish();
+    awaitProcessCompleted(processInstanceKey);
+    return processInstanceKey;
+  }
+
+  @JMHTest("measureProcessInstanceCreation")
+  void shouldCreateProcessInstances(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 250;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureJobActivateAndComplete")
+  void shouldActivateAndCompleteJobs(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 80;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureMessageCorrelation")
+  void shouldCorrelateMessages(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 80;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private Record<ProcessInstanceRecordValue> awaitProcessCompleted(final long processInstanceKey) {
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+    // keep the log and the recorded records small, such that each operation does the same work
+    engine.reset();
+    return completed;
+  }
+}
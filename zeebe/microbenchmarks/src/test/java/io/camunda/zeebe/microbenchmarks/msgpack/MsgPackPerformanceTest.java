@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading a variable document of a typical shape, i.e. a map with a few scalar
+ * entries and a list of nested maps, with the low level {@link MsgPackWriter} and {@link
+ * MsgPackReader}, which every record and variable goes through.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MsgPackPerformanceTest {
+  private static final int ITEM_COUNT = 20;
+  private static final DirectBuffer ORDER_ID = wrapString("orderId");
+  private static final DirectBuffer CUSTOMER = wrapString("customer");
+  private static final DirectBuffer CUSTOMER_NAME = wrapString("Jane Doe");
+  private static final DirectBuffer PAID = wrapString("paid");
+  private static final DirectBuffer ITEMS = wrapString("items");
+  private static final DirectBuffer SKU = wrapString("sku");
+  private static final DirectBuffer PRICE = wrapString("price");
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer document = new UnsafeBuffer();
+
+  @Setup
+  public void setup() {
+    // copy the document, since the write benchmark overwrites the write buffer
+    document.wrap(cloneBuffer(writeBuffer, 0, writeDocument()));
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    reader.wrap(document, 0, document.capacity());
+    return readValue();
+  }
+
+  @JMHTest("measureWrite")
+  void shouldWrite(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(1_000_000, 0.25);
+  }
+
+  @JMHTest("measureRead")
+  void shouldRead(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(500_000, 0.25);
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(4);
+    writer.writeString(ORDER_ID).writeInteger(123_456_789L);
+    writer.writeString(CUSTOMER).writeString(CUSTOMER_NAME);
+    writer.writeString(PAID).writeBoolean(true);
+    writer.writeString(ITEMS).writeArrayHeader(ITEM_COUNT);
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      writer.writeMapHeader(2);
+      writer.writeString(SKU).writeInteger(i);
+      writer.writeString(PRICE).writeFloat(i * 1.5);
+    }
+    return writer.getOffset();
+  }
+
+  /** Reads the next value, including all nested values, and returns a checksum of it. */
+  private long readValue() {
+    final var token = reader.readToken();
+    // the token is reused by the reader, so the size must be read before reading nested values
+    final var size = token.getSize();
+    return switch (token.getType()) {
+      case MAP -> {
+        long checksum = 0;
+        for (int i = 0; i < size; i++) {
+          checksum += readValue() + readValue();
+        }
+        yield checksum;
+      }
+      case ARRAY -> {
+        long checksum = 0;
+        for (int i = 0; i < size; i++) {
+          checksum += readValue();
+        }
+        yield checksum;
+      }
+      case INTEGER -> token.getIntegerValue();
+      case FLOAT -> (long) token.getFloatValue();
+      case BOOLEAN -> token.getBooleanValue() ? 1 : 0;
+      case STRING -> token.getValueBuffer().capacity();
+      default -> 0;
+    };
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorJob;
+import io.camunda.zeebe.scheduler.ActorTimerQueue;
+import io.camunda.zeebe.scheduler.DeadlineTimerQueue;
+import io.camunda.zeebe.scheduler.HierarchicalTimerQueue;
+import io.camunda.zeebe.scheduler.TimerQueueType;
+import io.camunda.zeebe.scheduler.TimerSubscription;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the timer queue of an actor thread under churn, i.e. when most timers are cancelled
+ * before they expire, as with request timeouts, retries or due date checks. Next to a standing set
+ * of long timers, each operation schedules a timer and cancels the one scheduled {@link
+ * #CHURN_WINDOW} operations before, unless it expired already. A small share of the timers is short
+ * enough to expire, and the clock moves on by one millisecond every {@link #OPS_PER_TICK}
+ * operations, as it does for a busy actor thread.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActorTimerQueuePerformanceTest {
+  private static final int STANDING_TIMERS = 10_000;
+  private static final int CHURN_WINDOW = 1024;
+  private static final int OPS_PER_TICK = 100;
+  private static final int SHORT_TIMER_PERCENTAGE = 10;
+  private static final long START_TIME = 1_700_000_000_000L;
+
+  @Param({"DEADLINE_WHEEL", "HIERARCHICAL_WHEEL"})
+  public TimerQueueType timerQueueType;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final BenchmarkTimer[] churnedTimers = new BenchmarkTimer[CHURN_WINDOW];
+  private final long[] delays = new long[CHURN_WINDOW * 16];
+  private ActorTimerQueue queue;
+  private long operations;
+
+  @Setup
+  public void setup() {
+    setTime(START_TIME);
+    queue =
+        switch (timerQueueType) {
+          case DEADLINE_WHEEL -> new DeadlineTimerQueue(clock);
+          case HIERARCHICAL_WHEEL -> new HierarchicalTimerQueue();
+        };
+
+    final var random = new Random(42);
+    for (int i = 0; i < STANDING_TIMERS; i++) {
+      // far enough away to not expire during the benchmark, like timeouts of long-running jobs
+      queue.schedule(new BenchmarkTimer(Duration.ofDays(1).toMillis() + i), clock);
+    }
+
+    for (int i = 0; i < delays.length; i++) {
+      delays[i] =
+          random.nextInt(100) < SHORT_TIMER_PERCENTAGE
+              ? random.nextLong(1, 50)
+              : random.nextLong(Duration.ofSeconds(1).toMillis(), Duration.ofMinutes(5).toMillis());
+    }
+
+    for (int i = 0; i < CHURN_WINDOW; i++) {
+      churnedTimers[i] = new BenchmarkTimer(0);
+    }
+  }
+
+  @Benchmark
+  public long measureChurn() {
+    final long operation = operations++;
+    final var timer = churnedTimers[(int) (operation % CHURN_WINDOW)];
+    if (timer.scheduled) {
+      queue.remove(timer);
+    }
+
+    timer.delay = delays[(int) (operation % delays.length)];
+    timer.scheduled = true;
+    queue.schedule(timer, clock);
+
+    if (operation % OPS_PER_TICK == 0) {
+      setTime(clock.getTimeMillis() + 1);
+      queue.processExpiredTimers(clock);
+    }
+
+    return timer.getTimerId();
+  }
+
+  @JMHTest("measureChurn")
+  void shouldScheduleAndCancelWithDeadlineWheel(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = run(testCase, TimerQueueType.DEADLINE_WHEEL);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureChurn")
+  void shouldScheduleAndCancelWithHierarchicalWheel(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 10_000_000;
+
+    // when
+    final var assertResult = run(testCase, TimerQueueType.HIERARCHICAL_WHEEL);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void setTime(final long time) {
+    clock.setCurrentTime(time);
+    clock.update();
+  }
+
+  private static JMHAssert run(final JMHTestCase testCase, final TimerQueueType timerQueueType) {
+    return testCase
+        .withOptions(options -> options.param("timerQueueType", timerQueueType.name()))
+        .run();
+  }
+
+  /** A timer which does nothing but remember whether it is still scheduled. */
+  private static final class BenchmarkTimer implements TimerSubscription {
+    private long delay;
+    private long timerId = -1;
+    private boolean scheduled;
+
+    private BenchmarkTimer(final long delay) {
+      this.delay = delay;
+    }
+
+    @Override
+    public boolean poll() {
+      return !scheduled;
+    }
+
+    @Override
+    public ActorJob getJob() {
+      return null;
+    }
+
+    @Override
+    public boolean isRecurring() {
+      return false;
+    }
+
+    @Override
+    public void onJobCompleted() {}
+
+    @Override
+    public void cancel() {}
+
+    @Override
+    public long getTimerId() {
+      return timerId;
+    }
+
+    @Override
+    public void setTimerId(final long timerId) {
+      this.timerId = timerId;
+    }
+
+    @Override
+    public void submit() {}
+
+    @Override
+    public long getDeadline(final ActorClock now) {
+      return now.getTimeMillis() + delay;
+    }
+
+    @Override
+    public void onTimerExpired(final TimeUnit timeUnit, final long now) {
+      scheduled = false;
+    }
+
+    @Override
+    public void run() {}
+
+    @Override
+    public long getTimerExpiredAt() {
+      return 0;
+    }
+  }
+}
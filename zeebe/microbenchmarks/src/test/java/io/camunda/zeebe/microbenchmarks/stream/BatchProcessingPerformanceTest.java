@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.stream;
+
+import io.camunda.zeebe.engine.perf.TestEngine;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.microbenchmarks.util.BenchmarkEngineContext;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the {@code ProcessingStateMachine} processes a command which results in a long chain
+ * of follow-up commands, i.e. a process instance passing through a sequence of intermediate throw
+ * events. With a batch size of one, each follow-up command is written to the log and read again
+ * before it is processed; with a larger batch size, the whole chain is processed in a single
+ * transaction.
+ */
+@Warmup(iterations = 20, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BatchProcessingPerformanceTest {
+  private static final String PROCESS_ID = "process";
+  private static final int CHAIN_LENGTH = 20;
+
+  @Param({"1", "100"})
+  public int maxCommandsInBatch;
+
+  private BenchmarkEngineContext context;
+  private TestEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+
+  @Setup
+  public void setup() throws Exception {
+    context = BenchmarkEngineContext.create();
+    engine =
+        TestEngine.createSinglePartitionEngine(
+            context.testContext(), builder -> builder.maxCommandsInBatch(maxCommandsInBatch));
+
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 0; i < CHAIN_LENGTH; i++) {
+      builder = builder.intermediateThrowEvent();
+    }
+    engine.createDeploymentClient().withXmlResource(builder.endEvent().done()).deploy();
+
+    processInstanceClient = engine.createProcessInstanceClient();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> measureChainProcessing() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+    engine.reset();
+    return completed;
+  }
+
+  @JMHTest("measureChainProcessing")
+  void shouldProcessChainWithoutBatching(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 35;
+
+    // when
+    final var assertResult = run(testCase, 1);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureChainProcessing")
+  void shouldProcessChainInBatch(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, which even a single core machine reaches
+    final var referenceScore = 45;
+
+    // when
+    final var assertResult = run(testCase, 100);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static JMHAssert run(final JMHTestCase testCase, final int maxCommandsInBatch) {
+    return testCase
+        .withOptions(
+            options -> options.param("maxCommandsInBatch", String.valueOf(maxCommandsInBatch)))
+        .run();
+  }
+}
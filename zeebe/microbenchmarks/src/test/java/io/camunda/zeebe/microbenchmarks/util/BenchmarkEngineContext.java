@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.util;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import java.io.IOException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The infrastructure for the engine benchmarks: an actor scheduler with a single CPU and IO thread
+ * (as a partition has a single processing actor anyway) and a temporary folder for the runtime
+ * state. Everything is cleaned up when the context is closed.
+ */
+public record BenchmarkEngineContext(TestContext testContext) implements AutoCloseable {
+
+  public static BenchmarkEngineContext create() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+
+    return new BenchmarkEngineContext(
+        new TestContext(actorScheduler, temporaryFolder, autoCloseableRule));
+  }
+
+  @Override
+  public void close() {
+    testContext.autoCloseableRule().after();
+    testContext.temporaryFolder().delete();
+  }
+}
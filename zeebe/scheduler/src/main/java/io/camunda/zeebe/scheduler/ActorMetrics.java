@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
 
 public interface ActorMetrics {
 
@@ -18,6 +19,14 @@ public interface ActorMetrics {
 
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
+  ActorThreadMetrics threadScoped(final String threadName);
+
+  /**
+   * Observes the virtual threads which currently run blocking tasks of the given subsystem, see
+   * {@link ActorScheduler#submitBlocking(String, java.util.concurrent.Callable)}.
+   */
+  void observeVirtualThreads(final String subsystem, final Collection<Thread> threads);
+
   static ActorMetrics ofNullable(final MeterRegistry registry) {
     if (registry == null) {
       return disabled();
@@ -41,9 +50,28 @@ public interface ActorMetrics {
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
+
+      @Override
+      public ActorThreadMetrics threadScoped(final String threadName) {
+        return ActorThreadMetrics.noop();
+      }
+
+      @Override
+      public void observeVirtualThreads(final String subsystem, final Collection<Thread> threads) {}
     };
   }
 
+  interface ActorThreadMetrics {
+    ActorThreadMetrics NOOP = () -> {};
+
+    /** Counts a task which this thread stole from the queue of another thread. */
+    void countStolenTask();
+
+    static ActorThreadMetrics noop() {
+      return NOOP;
+    }
+  }
+
   interface ActorMetricsScoped extends CloseableSilently {
     ActorMetricsScoped NOOP =
         new ActorMetricsScoped() {
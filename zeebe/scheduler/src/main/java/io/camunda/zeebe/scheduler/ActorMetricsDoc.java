@@ -119,6 +119,53 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** Number of tasks an actor thread stole from the queues of other threads */
+  STOLEN_TASK_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.stolen.tasks";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of tasks an actor thread stole from the queues of other threads";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME};
+    }
+  },
+  /** Number of virtual threads running blocking tasks, by subsystem and state */
+  VIRTUAL_THREADS {
+    @Override
+    public String getName() {
+      return "zeebe.actor.virtual.threads";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of virtual threads running blocking tasks, by subsystem and whether they are"
+          + " mounted (i.e. runnable) or parked (e.g. waiting for I/O)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        ActorMetricsKeyName.SUBSYSTEM, ActorMetricsKeyName.VIRTUAL_THREAD_STATE
+      };
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +182,27 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the actor thread */
+    THREAD_NAME {
+      @Override
+      public String asString() {
+        return "threadName";
+      }
+    },
+    /** The subsystem which runs blocking tasks on virtual threads */
+    SUBSYSTEM {
+      @Override
+      public String asString() {
+        return "subsystem";
+      }
+    },
+    /** Whether a virtual thread is mounted or parked */
+    VIRTUAL_THREAD_STATE {
+      @Override
+      public String asString() {
+        return "state";
+      }
     }
   }
 }
@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
@@ -63,11 +64,34 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createStolenTaskCount(final String threadName) {
+    return Counter.builder(STOLEN_TASK_COUNT.getName())
+        .description(STOLEN_TASK_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .register(registry);
+  }
+
   @Override
   public boolean isEnabled() {
     return true;
   }
 
+  @Override
+  public ActorThreadMetrics threadScoped(final String threadName) {
+    return createStolenTaskCount(threadName)::increment;
+  }
+
+  @Override
+  public void observeVirtualThreads(final String subsystem, final Collection<Thread> threads) {
+    for (final VirtualThreadState state : VirtualThreadState.values()) {
+      Gauge.builder(VIRTUAL_THREADS.getName(), threads, state::count)
+          .description(VIRTUAL_THREADS.getDescription())
+          .tag(ActorMetricsKeyName.SUBSYSTEM.asString(), subsystem)
+          .tag(ActorMetricsKeyName.VIRTUAL_THREAD_STATE.asString(), state.getName())
+          .register(registry);
+    }
+  }
+
   @Override
   public ActorMetricsScoped scoped(final String actorName) {
     final var jobQueueLength = new AtomicLong(0L);
@@ -121,4 +145,28 @@ final class ActorMetricsImpl implements ActorMetrics {
       return true;
     }
   }
+
+  private enum VirtualThreadState {
+    // a runnable virtual thread may also be waiting to be mounted on a carrier thread
+    MOUNTED("mounted"),
+    PARKED("parked");
+
+    private final String name;
+
+    VirtualThreadState(final String name) {
+      this.name = name;
+    }
+
+    private String getName() {
+      return name;
+    }
+
+    private double count(final Collection<Thread> threads) {
+      return threads.stream().filter(thread -> isMounted(thread) == (this == MOUNTED)).count();
+    }
+
+    private static boolean isMounted(final Thread thread) {
+      return thread.getState() == Thread.State.RUNNABLE;
+    }
+  }
 }
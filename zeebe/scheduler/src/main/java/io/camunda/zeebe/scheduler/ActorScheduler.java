@@ -9,9 +9,13 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -22,11 +26,13 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
   private final ActorMetrics metrics;
+  private final VirtualThreadExecutor virtualThreadExecutor;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
     metrics = builder.getActorMetrics();
+    virtualThreadExecutor = new VirtualThreadExecutor(metrics);
   }
 
   /**
@@ -69,6 +75,30 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     };
   }
 
+  /**
+   * Runs the blocking callable on a virtual thread of the given subsystem, instead of on one of the
+   * I/O-bound actor threads, which slow I/O would otherwise occupy for all other I/O-bound actors.
+   * The returned future is completed from the virtual thread, so actors should only consume it via
+   * {@link ActorControl#runOnCompletion(ActorFuture, java.util.function.BiConsumer)}.
+   *
+   * @param subsystem the subsystem the callable belongs to, e.g. "backup"; used to name the threads
+   *     and tag the metrics
+   * @param callable the blocking callable to run
+   * @return a future completed with the result of the callable, or failed with a {@link
+   *     RejectedExecutionException} if the scheduler is not running
+   */
+  @Override
+  public <T> ActorFuture<T> submitBlocking(final String subsystem, final Callable<T> callable) {
+    if (state.get() != SchedulerState.RUNNING) {
+      return CompletableActorFuture.completedExceptionally(
+          new RejectedExecutionException(
+              "Expected to run blocking task of subsystem '%s', but the scheduler is not running"
+                  .formatted(subsystem)));
+    }
+
+    return virtualThreadExecutor.submit(subsystem, callable);
+  }
+
   private void checkRunningState() {
     if (state.get() != SchedulerState.RUNNING) {
       throw new IllegalStateException("Actor scheduler is not running");
@@ -86,7 +116,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
   public Future<Void> stop() {
     if (state.compareAndSet(SchedulerState.RUNNING, SchedulerState.TERMINATING)) {
 
-      return actorTaskExecutor.closeAsync().thenRun(() -> state.set(SchedulerState.TERMINATED));
+      return actorTaskExecutor
+          .closeAsync()
+          .thenRun(virtualThreadExecutor::close)
+          .thenRun(() -> state.set(SchedulerState.TERMINATED));
     } else {
       throw new IllegalStateException("Cannot stop scheduler not running");
     }
@@ -125,6 +158,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    public static final Duration DEFAULT_AFFINITY_STEAL_DELAY = Duration.ofMillis(5);
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
@@ -134,10 +169,13 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
+    private TimerQueueType timerQueueType = TimerQueueType.DEADLINE_WHEEL;
     private final boolean enableMetrics = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private boolean partitionAffinityEnabled;
+    private Duration affinityStealDelay = DEFAULT_AFFINITY_STEAL_DELAY;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -184,6 +222,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public TimerQueueType getTimerQueueType() {
+      return timerQueueType;
+    }
+
+    /**
+     * Sets the type of timer queue each actor thread creates for itself. Ignored if a shared queue
+     * is set via {@link #setActorTimerQueue(ActorTimerQueue)}.
+     */
+    public ActorSchedulerBuilder setTimerQueueType(final TimerQueueType timerQueueType) {
+      this.timerQueueType = Objects.requireNonNull(timerQueueType);
+      return this;
+    }
+
     public int getCpuBoundActorThreadCount() {
       return cpuBoundThreadsCount;
     }
@@ -228,6 +279,40 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return actorMetrics;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * If enabled, all actors belonging to the same partition (see {@link
+     * Actor#ACTOR_PROP_PARTITION_ID}) run on the same thread of their thread group, unless another
+     * thread steals them after the {@link #setAffinityStealDelay(Duration) steal delay}.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public Duration getAffinityStealDelay() {
+      return affinityStealDelay;
+    }
+
+    /**
+     * Sets how long a task with partition affinity must have been queued before another thread may
+     * steal it. Only used if partition affinity is enabled.
+     */
+    public ActorSchedulerBuilder setAffinityStealDelay(final Duration affinityStealDelay) {
+      if (affinityStealDelay.isNegative()) {
+        throw new IllegalArgumentException(
+            "Expected affinity steal delay to be positive or zero, but was %s"
+                .formatted(affinityStealDelay));
+      }
+
+      this.affinityStealDelay = affinityStealDelay;
+      return this;
+    }
+
     public ActorSchedulerBuilder setMeterRegistry(final MeterRegistry meterRegistry) {
       actorMetrics = ActorMetrics.ofNullable(meterRegistry);
       return this;
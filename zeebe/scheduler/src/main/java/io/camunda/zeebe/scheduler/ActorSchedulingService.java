@@ -8,6 +8,10 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Service interface to schedule an actor (without exposing the full interface of {@code
@@ -17,4 +21,30 @@ public interface ActorSchedulingService {
   ActorFuture<Void> submitActor(final Actor actor);
 
   ActorFuture<Void> submitActor(final Actor actor, SchedulingHints schedulingHints);
+
+  /**
+   * Runs a blocking callable, e.g. a call to a remote store, on a virtual thread of the given
+   * subsystem, and completes the returned future with its result. Does not throw if the task cannot
+   * be run, e.g. because the scheduler is closed, but fails the returned future with a {@link
+   * RejectedExecutionException} instead.
+   */
+  <T> ActorFuture<T> submitBlocking(final String subsystem, final Callable<T> callable);
+
+  /**
+   * Returns an executor which runs each task via {@link #submitBlocking(String, Callable)}, for
+   * components which expect a plain {@link Executor}, e.g. to pass to {@link
+   * java.util.concurrent.CompletableFuture#runAsync(Runnable, Executor)}.
+   *
+   * @param subsystem the subsystem the tasks belong to
+   * @return an executor which rejects tasks once the tasks can no longer be run
+   */
+  default Executor blockingExecutor(final String subsystem) {
+    return task -> {
+      final var submitted = submitBlocking(subsystem, Executors.callable(task));
+      if (submitted.isCompletedExceptionally()
+          && submitted.getException() instanceof final RejectedExecutionException rejected) {
+        throw rejected;
+      }
+    };
+  }
 }
@@ -33,6 +33,8 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("restriction")
 public class ActorTask {
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
+  private static final int PARTITION_ID_UNKNOWN = Integer.MIN_VALUE;
+  private static final int NO_PARTITION = -1;
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
           AtomicReferenceFieldUpdater.newUpdater(
@@ -61,6 +63,7 @@ public class ActorTask {
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
+  private int partitionId = PARTITION_ID_UNKNOWN;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -469,6 +472,31 @@ public class ActorTask {
     return actor.getName();
   }
 
+  /**
+   * Returns the id of the partition the actor belongs to, as given by its {@link
+   * Actor#ACTOR_PROP_PARTITION_ID} context property, or a negative value if it has none.
+   */
+  int getPartitionId() {
+    // racy, but idempotent: every thread computes the same value
+    if (partitionId == PARTITION_ID_UNKNOWN) {
+      partitionId = parsePartitionId(actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID));
+    }
+
+    return partitionId;
+  }
+
+  private static int parsePartitionId(final String partitionId) {
+    if (partitionId == null) {
+      return NO_PARTITION;
+    }
+
+    try {
+      return Math.max(NO_PARTITION, Integer.parseInt(partitionId));
+    } catch (final NumberFormatException e) {
+      return NO_PARTITION;
+    }
+  }
+
   public Actor getActor() {
     return actor;
   }
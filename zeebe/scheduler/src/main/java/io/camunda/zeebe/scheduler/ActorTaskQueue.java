@@ -26,10 +26,27 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
 
   /** appends a task at the end (tail) of the list */
   public void append(final ActorTask task) {
+    append(task, false, 0);
+  }
+
+  /**
+   * appends a task with affinity to this list's thread at the end (tail) of the list, remembering
+   * when it was queued, such that it is only stolen once it was queued for long enough
+   *
+   * @param task the task to append
+   * @param queuedAtNanos the time the task was queued at, as given by {@link System#nanoTime()}
+   */
+  public void appendWithAffinity(final ActorTask task, final long queuedAtNanos) {
+    append(task, true, queuedAtNanos);
+  }
+
+  private void append(final ActorTask task, final boolean affinity, final long queuedAtNanos) {
     // TODO: make garbage free again
     final ActorTaskQueueNode tail = new ActorTaskQueueNode();
     tail.task = task;
     tail.stateCount = task.getStateCount();
+    tail.affinity = affinity;
+    tail.queuedAtNanos = queuedAtNanos;
     final ActorTaskQueueNode previousTail = swapTail(tail);
     previousTail.nextOrdered(tail);
     tail.prevOrdered(previousTail);
@@ -42,11 +59,28 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
    * @return the actor which was stolen or null in case no actor is available
    */
   public ActorTask trySteal() {
+    return trySteal(0, 0);
+  }
+
+  /**
+   * Attempts to steal a task from this list; tasks with affinity which were queued for less than
+   * the given delay are skipped.
+   *
+   * @param nowNanos the current time, as given by {@link System#nanoTime()}
+   * @param stealDelayNanos how long a task with affinity must have been queued to be stolen
+   * @return the actor which was stolen or null in case no actor is available
+   */
+  public ActorTask trySteal(final long nowNanos, final long stealDelayNanos) {
     ActorTaskQueueNode node = tail;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      // nano times may only be compared by their difference, as their origin is arbitrary
+      final boolean stealable =
+          !node.affinity
+              || stealDelayNanos <= 0
+              || nowNanos - node.queuedAtNanos >= stealDelayNanos;
+      if (stealable && task.claim(node.stateCount)) {
         return task;
       }
 
@@ -146,6 +180,8 @@ class ActorTaskQueueNode {
   volatile ActorTaskQueueNode prev;
 
   long stateCount;
+  boolean affinity;
+  long queuedAtNanos;
   ActorTask task;
 
   void nextOrdered(final ActorTaskQueueNode t) {
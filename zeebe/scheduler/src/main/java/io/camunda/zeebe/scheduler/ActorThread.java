@@ -83,7 +83,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     state = ActorThreadState.NEW;
     threadId = id;
     this.clock = clock != null ? clock : new DefaultActorClock();
-    timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
+    timerJobQueue = timerQueue != null ? timerQueue : new DeadlineTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
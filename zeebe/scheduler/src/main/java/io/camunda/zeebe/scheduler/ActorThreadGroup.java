@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadMetrics;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
@@ -32,12 +33,20 @@ public abstract class ActorThreadGroup {
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    final var threadMetrics = new ActorThreadMetrics[numOfThreads];
+    for (int t = 0; t < numOfThreads; t++) {
+      threadMetrics[t] = builder.getActorMetrics().threadScoped(threadName(t));
+    }
+    tasks =
+        new WorkStealingGroup(
+            numOfThreads,
+            threadMetrics,
+            builder.isPartitionAffinityEnabled() ? builder.getAffinityStealDelay() : null);
 
     threads = new ActorThread[numOfThreads];
 
     for (int t = 0; t < numOfThreads; t++) {
-      final String threadName = String.format("%s-%d", groupName, t);
+      final String threadName = threadName(t);
       final ActorThread thread =
           builder
               .getActorThreadFactory()
@@ -47,7 +56,7 @@ public abstract class ActorThreadGroup {
                   this,
                   tasks,
                   builder.getActorClock(),
-                  builder.getActorTimerQueue(),
+                  newTimerQueue(builder),
                   builder.getActorMetrics(),
                   builder.getIdleStrategySupplier().get());
 
@@ -55,9 +64,31 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  private ActorTimerQueue newTimerQueue(final ActorSchedulerBuilder builder) {
+    if (builder.getActorTimerQueue() != null) {
+      return builder.getActorTimerQueue();
+    }
+
+    return switch (builder.getTimerQueueType()) {
+      case HIERARCHICAL_WHEEL -> new HierarchicalTimerQueue();
+      // the thread creates it, as it is bound to the thread's clock
+      case DEADLINE_WHEEL -> null;
+    };
+  }
+
+  private String threadName(final int threadId) {
+    return String.format("%s-%d", groupName, threadId);
+  }
+
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int preferredThreadId = tasks.getPreferredThreadId(actorTask);
+    if (preferredThreadId >= 0) {
+      tasks.submit(actorTask, preferredThreadId);
+      if (current != threads[preferredThreadId]) {
+        threads[preferredThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hierarchical timing wheel with a resolution of one millisecond. Each level has 64 slots, and
+ * each slot of a level spans a whole rotation of the level below, i.e. the first level covers the
+ * next 64 ms, the second the next ~4 s, the third the next ~4.5 min, and so on. A timer is put in
+ * the lowest level which covers its deadline, and is moved down a level whenever the level below
+ * rotates to its slot, until it expires from the first level.
+ *
+ * <p>Scheduling and cancelling a timer is O(1): the timers of a slot are kept in a doubly linked
+ * list, and the id of a timer is its index in the node arrays. Since most timers are cancelled
+ * before they expire, e.g. timeouts of requests, this keeps the cost of a timer independent of the
+ * number of timers scheduled. The node arrays are reused, such that scheduling a timer does not
+ * allocate, unless more timers are scheduled than ever before.
+ */
+public final class HierarchicalTimerQueue implements ActorTimerQueue {
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+  private static final int LEVELS = 7;
+  private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int NONE = -1;
+
+  private final int[] heads = new int[LEVELS * SLOTS_PER_LEVEL];
+  private final long[] occupiedSlots = new long[LEVELS];
+
+  private TimerSubscription[] timers = new TimerSubscription[INITIAL_CAPACITY];
+  private long[] deadlines = new long[INITIAL_CAPACITY];
+  private int[] next = new int[INITIAL_CAPACITY];
+  private int[] prev = new int[INITIAL_CAPACITY];
+  private int[] slots = new int[INITIAL_CAPACITY];
+  private int freeHead;
+  private int timerCount;
+
+  /** The next tick to expire; all ticks before it are expired already. */
+  private long currentTick;
+
+  public HierarchicalTimerQueue() {
+    Arrays.fill(heads, NONE);
+    initFreeList(0);
+  }
+
+  @Override
+  public void processExpiredTimers(final ActorClock clock) {
+    final long now = clock.getTimeMillis();
+
+    while (timerCount > 0 && currentTick <= now) {
+      final int slot = (int) currentTick & SLOT_MASK;
+      if ((occupiedSlots[0] & (1L << slot)) != 0) {
+        expireSlot(slot, now);
+      }
+
+      // skip the empty slots until the next occupied one, but stop at the end of this rotation
+      // to move down the timers of the upper levels
+      final long rotationStart = currentTick & ~SLOT_MASK;
+      final long occupiedAfter = occupiedSlots[0] & (-2L << slot);
+      final long nextTick =
+          occupiedAfter == 0
+              ? rotationStart + SLOTS_PER_LEVEL
+              : rotationStart + Long.numberOfTrailingZeros(occupiedAfter);
+      currentTick = Math.min(nextTick, now + 1);
+
+      if ((currentTick & SLOT_MASK) == 0) {
+        cascade();
+      }
+    }
+  }
+
+  @Override
+  public void schedule(final TimerSubscription timer, final ActorClock now) {
+    if (timerCount == 0) {
+      // nothing to expire, so there is no need to tick through the time since the last timer
+      currentTick = now.getTimeMillis();
+    }
+
+    if (freeHead == NONE) {
+      grow();
+    }
+
+    final int index = freeHead;
+    freeHead = next[index];
+    timers[index] = timer;
+    deadlines[index] = timer.getDeadline(now);
+    timerCount++;
+
+    insert(index);
+    timer.setTimerId(index);
+  }
+
+  @Override
+  public void remove(final TimerSubscription timer) {
+    final long timerId = timer.getTimerId();
+
+    // the timer may have expired already, in which case its node may belong to another timer now
+    if (timerId >= 0 && timerId < timers.length && timers[(int) timerId] == timer) {
+      final int index = (int) timerId;
+      unlink(index);
+      release(index);
+    }
+  }
+
+  private void expireSlot(final int slot, final long now) {
+    int index;
+    while ((index = heads[slot]) != NONE) {
+      final TimerSubscription timer = timers[index];
+      unlink(index);
+      release(index);
+      timer.onTimerExpired(TimeUnit.MILLISECONDS, now);
+    }
+  }
+
+  /** Moves the timers of the upper levels down, whose slot the level below rotated to. */
+  private void cascade() {
+    for (int level = 1; level < LEVELS; level++) {
+      final int slot = (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+      final int slotIndex = level * SLOTS_PER_LEVEL + slot;
+
+      int index;
+      while ((index = heads[slotIndex]) != NONE) {
+        unlink(index);
+        insert(index);
+      }
+
+      if (slot != 0) {
+        // the upper levels only move on once this level completed a rotation
+        break;
+      }
+    }
+  }
+
+  private void insert(final int index) {
+    final long deadline = Math.max(deadlines[index], currentTick);
+    final long delta = Math.min(deadline - currentTick, MAX_DELTA);
+
+    int level = 0;
+    while (delta >>> (SLOT_BITS * (level + 1)) != 0) {
+      level++;
+    }
+
+    final int slot = (int) ((currentTick + delta) >>> (SLOT_BITS * level)) & SLOT_MASK;
+    final int slotIndex = level * SLOTS_PER_LEVEL + slot;
+    final int head = heads[slotIndex];
+
+    slots[index] = slotIndex;
+    prev[index] = NONE;
+    next[index] = head;
+    if (head != NONE) {
+      prev[head] = index;
+    }
+    heads[slotIndex] = index;
+    occupiedSlots[level] |= 1L << slot;
+  }
+
+  private void unlink(final int index) {
+    final int slotIndex = slots[index];
+    final int previous = prev[index];
+    final int following = next[index];
+
+    if (previous != NONE) {
+      next[previous] = following;
+    } else {
+      heads[slotIndex] = following;
+      if (following == NONE) {
+        occupiedSlots[slotIndex >>> SLOT_BITS] &= ~(1L << (slotIndex & SLOT_MASK));
+      }
+    }
+
+    if (following != NONE) {
+      prev[following] = previous;
+    }
+  }
+
+  private void release(final int index) {
+    timers[index] = null;
+    next[index] = freeHead;
+    freeHead = index;
+    timerCount--;
+  }
+
+  private void grow() {
+    final int capacity = timers.length;
+    final int newCapacity = capacity * 2;
+    timers = Arrays.copyOf(timers, newCapacity);
+    deadlines = Arrays.copyOf(deadlines, newCapacity);
+    next = Arrays.copyOf(next, newCapacity);
+    prev = Arrays.copyOf(prev, newCapacity);
+    slots = Arrays.copyOf(slots, newCapacity);
+    initFreeList(capacity);
+  }
+
+  private void initFreeList(final int from) {
+    for (int i = from; i < next.length - 1; i++) {
+      next[i] = i + 1;
+    }
+    next[next.length - 1] = NONE;
+    freeHead = from;
+  }
+}
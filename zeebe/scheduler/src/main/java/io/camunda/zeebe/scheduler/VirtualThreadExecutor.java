@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.util.Loggers;
+import io.camunda.zeebe.util.error.FatalErrorHandler;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+
+/**
+ * Runs blocking tasks on virtual threads, with one executor per subsystem (e.g. backups or
+ * exporters), such that each subsystem's threads can be told apart by name and in the metrics.
+ * Since each task gets its own virtual thread, a slow task never delays another one, and there is
+ * no pool to size.
+ */
+final class VirtualThreadExecutor implements AutoCloseable {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+
+  private final Map<String, Subsystem> subsystems = new ConcurrentHashMap<>();
+  private final ActorMetrics metrics;
+  private volatile boolean closed;
+
+  VirtualThreadExecutor(final ActorMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  <T> ActorFuture<T> submit(final String subsystem, final Callable<T> callable) {
+    final var future = new CompletableActorFuture<T>();
+    // only create a subsystem while open, and re-check afterwards: a close() racing with us may
+    // have shut down the existing subsystems before ours was added, in which case we shut it down
+    final var executor =
+        subsystems.computeIfAbsent(subsystem, name -> closed ? null : newSubsystem(name));
+    if (executor == null || closed) {
+      if (executor != null) {
+        executor.executor().shutdownNow();
+      }
+
+      future.completeExceptionally(
+          new RejectedExecutionException(
+              "Expected to run blocking task of subsystem '%s', but the scheduler is closed"
+                  .formatted(subsystem)));
+      return future;
+    }
+
+    try {
+      executor.run(callable, future);
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+
+    return future;
+  }
+
+  /**
+   * Interrupts all running tasks, as the actors which wait for them are closed already. Does not
+   * wait for the tasks to finish.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    subsystems.values().forEach(subsystem -> subsystem.executor().shutdownNow());
+  }
+
+  private Subsystem newSubsystem(final String subsystem) {
+    final var threadFactory =
+        Thread.ofVirtual()
+            .name("zb-virtual-%s-".formatted(subsystem), 0)
+            .uncaughtExceptionHandler(FatalErrorHandler.uncaughtExceptionHandler(LOG))
+            .factory();
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    metrics.observeVirtualThreads(subsystem, threads);
+
+    return new Subsystem(Executors.newThreadPerTaskExecutor(threadFactory), threads);
+  }
+
+  private record Subsystem(ExecutorService executor, Set<Thread> threads) {
+
+    private <T> void run(final Callable<T> callable, final CompletableActorFuture<T> future) {
+      executor.execute(
+          () -> {
+            final var thread = Thread.currentThread();
+            threads.add(thread);
+            try {
+              future.complete(callable.call());
+            } catch (final Exception e) {
+              future.completeExceptionally(e);
+            } finally {
+              threads.remove(thread);
+            }
+          });
+    }
+  }
+}
@@ -9,21 +9,56 @@ package io.camunda.zeebe.scheduler;
 
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadMetrics;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>With partition affinity, the tasks of actors which belong to a partition are always submitted
+ * to the same thread, such that a partition's actors share the caches of one core. Other threads
+ * only steal such tasks once they waited in the queue for longer than the steal delay, i.e. when
+ * the imbalance between threads is sustained rather than momentary.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final ActorThreadMetrics[] threadMetrics;
+  private final boolean partitionAffinity;
+  private final long stealDelayNanos;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, noopThreadMetrics(numOfThreads), null);
+  }
+
+  /**
+   * @param numOfThreads the number of threads of the group
+   * @param threadMetrics the metrics of each thread, by id
+   * @param affinityStealDelay how long a task with partition affinity must have been queued before
+   *     it may be stolen by another thread, or null to disable partition affinity
+   */
+  public WorkStealingGroup(
+      final int numOfThreads,
+      final ActorThreadMetrics[] threadMetrics,
+      final Duration affinityStealDelay) {
     this.numOfThreads = numOfThreads;
+    this.threadMetrics = threadMetrics;
+    partitionAffinity = affinityStealDelay != null;
+    stealDelayNanos = partitionAffinity ? affinityStealDelay.toNanos() : 0;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
     }
   }
 
+  private static ActorThreadMetrics[] noopThreadMetrics(final int numOfThreads) {
+    final var threadMetrics = new ActorThreadMetrics[numOfThreads];
+    Arrays.fill(threadMetrics, ActorThreadMetrics.noop());
+    return threadMetrics;
+  }
+
   /**
    * Submit the task into the provided thread's queue
    *
@@ -32,7 +67,25 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    // only tasks with affinity are protected from being stolen for the steal delay
+    if (getPreferredThreadId(task) < 0) {
+      taskQueues[threadId].append(task);
+    } else {
+      taskQueues[threadId].appendWithAffinity(task, System.nanoTime());
+    }
+  }
+
+  /**
+   * Returns the id of the thread the given task should always be submitted to, or -1 if it can be
+   * submitted to any thread.
+   */
+  int getPreferredThreadId(final ActorTask task) {
+    if (!partitionAffinity) {
+      return -1;
+    }
+
+    final int partitionId = task.getPartitionId();
+    return partitionId < 0 ? -1 : partitionId % numOfThreads;
   }
 
   /**
@@ -47,6 +100,9 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+      if (nextTask != null) {
+        threadMetrics[currentThread.getRunnerId()].countStolenTask();
+      }
     }
 
     return nextTask;
@@ -76,12 +132,13 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
     final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final long nowNanos = partitionAffinity ? System.nanoTime() : 0;
 
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor = taskQueues[runnerId].trySteal(nowNanos, stealDelayNanos);
 
         if (stolenActor != null) {
           return stolenActor;
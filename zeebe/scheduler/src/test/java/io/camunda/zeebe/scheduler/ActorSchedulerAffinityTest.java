@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadMetrics;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorSchedulerAffinityTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+    registry.close();
+  }
+
+  @Test
+  void shouldRunActorsOfSamePartitionOnSameThread() {
+    // given
+    scheduler = startScheduler(Duration.ofMinutes(1));
+    final var first = new PartitionActor(1);
+    final var second = new PartitionActor(3);
+    scheduler.submitActor(first).join();
+    scheduler.submitActor(second).join();
+
+    // when
+    final var threadNames = new CopyOnWriteArrayList<String>();
+    final var futures = new ArrayList<ActorFuture<Boolean>>();
+    for (int i = 0; i < 100; i++) {
+      futures.add(first.call(() -> threadNames.add(Thread.currentThread().getName())));
+      futures.add(second.call(() -> threadNames.add(Thread.currentThread().getName())));
+    }
+    futures.forEach(ActorFuture::join);
+
+    // then
+    assertThat(threadNames).hasSize(200).containsOnly("zb-actors-1");
+  }
+
+  @Test
+  void shouldStealTaskOfBlockedPreferredThreadAfterDelay() {
+    // given
+    scheduler = startScheduler(Duration.ofMillis(10));
+    final var blocking = new PartitionActor(1);
+    final var blocked = new PartitionActor(3);
+    scheduler.submitActor(blocking).join();
+    scheduler.submitActor(blocked).join();
+
+    final var release = new CountDownLatch(1);
+    blocking.run(
+        () -> {
+          try {
+            release.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+
+    // when
+    final var threadName = blocked.call(() -> Thread.currentThread().getName());
+
+    // then
+    try {
+      assertThat(threadName.join()).isEqualTo("zb-actors-0");
+      assertThat(registry.get(ActorMetricsDoc.STOLEN_TASK_COUNT.getName()).counters())
+          .anySatisfy(counter -> assertThat(counter.count()).isPositive());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldNotPreferAnyThreadForActorWithoutPartition() {
+    // given
+    final var group = new WorkStealingGroup(2, new ActorThreadMetrics[2], null);
+    final var affinityGroup = new WorkStealingGroup(2, new ActorThreadMetrics[2], Duration.ZERO);
+
+    // then
+    assertThat(affinityGroup.getPreferredThreadId(new PartitionActor(3).actor.task)).isOne();
+    assertThat(affinityGroup.getPreferredThreadId(new TestActor().actor.task)).isEqualTo(-1);
+    assertThat(group.getPreferredThreadId(new PartitionActor(3).actor.task)).isEqualTo(-1);
+  }
+
+  private ActorScheduler startScheduler(final Duration stealDelay) {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(true)
+            .setAffinityStealDelay(stealDelay)
+            .setMeterRegistry(registry)
+            .build();
+    actorScheduler.start();
+    return actorScheduler;
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final int partitionId;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    @Override
+    public String getName() {
+      return buildActorName("PartitionActor", partitionId);
+    }
+  }
+
+  private static final class TestActor extends Actor {}
+}
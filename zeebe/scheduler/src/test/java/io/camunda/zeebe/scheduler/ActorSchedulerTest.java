@@ -13,6 +13,7 @@ import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 final class ActorSchedulerTest {
@@ -83,5 +84,35 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunTimersWithHierarchicalTimerQueue() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setTimerQueueType(TimerQueueType.HIERARCHICAL_WHEEL)
+            .build();
+    scheduler.start();
+    final var latch = new CountDownLatch(3);
+    final var testActor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            actor.schedule(Duration.ofMillis(10), latch::countDown);
+            actor.schedule(Duration.ofMinutes(10), latch::countDown).cancel();
+            actor.runAtFixedRate(Duration.ofMillis(5), latch::countDown);
+          }
+        };
+
+    try {
+      // when
+      scheduler.submitActor(testActor);
+
+      // then
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      scheduler.close();
+    }
+  }
+
   private static final class TestActor extends Actor {}
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class ActorTaskQueueTest {
+  private static final long STEAL_DELAY_NANOS = 10;
+
+  private final ActorTaskQueue queue = new ActorTaskQueue();
+
+  @Test
+  void shouldNotStealTaskWithAffinityBeforeDelay() {
+    // given
+    final var task = new ActorTask(new Actor() {});
+    queue.appendWithAffinity(task, -5);
+
+    // when
+    final var stolen = queue.trySteal(0, STEAL_DELAY_NANOS);
+
+    // then
+    assertThat(stolen).isNull();
+  }
+
+  @Test
+  void shouldStealTaskWithAffinityAfterDelayAcrossNanoTimeOverflow() {
+    // given - nano times have an arbitrary origin and may overflow while a task is queued
+    final var task = new ActorTask(new Actor() {});
+    queue.appendWithAffinity(task, Long.MAX_VALUE - 5);
+
+    // when
+    final var notYetStolen = queue.trySteal(Long.MAX_VALUE, STEAL_DELAY_NANOS);
+    final var stolen = queue.trySteal(Long.MIN_VALUE + 5, STEAL_DELAY_NANOS);
+
+    // then
+    assertThat(notYetStolen).isNull();
+    assertThat(stolen).isSameAs(task);
+  }
+
+  @Test
+  void shouldStealTaskWithoutAffinityRightAway() {
+    // given
+    final var task = new ActorTask(new Actor() {});
+    queue.append(task);
+
+    // when
+    final var stolen = queue.trySteal(Long.MIN_VALUE, STEAL_DELAY_NANOS);
+
+    // then
+    assertThat(stolen).isSameAs(task);
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class HierarchicalTimerQueueTest {
+  private static final long START_TIME = 1_700_000_000_123L;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final HierarchicalTimerQueue queue = new HierarchicalTimerQueue();
+  private final List<TestTimer> expired = new ArrayList<>();
+
+  @ParameterizedTest
+  @ValueSource(longs = {1, 63, 64, 65, 4_095, 4_096, 300_000, 86_400_000L * 3})
+  void shouldExpireTimerExactlyAtDeadline(final long delay) {
+    // given
+    setTime(START_TIME);
+    final var timer = new TestTimer(START_TIME + delay);
+    queue.schedule(timer, clock);
+
+    // when
+    advanceTo(START_TIME + delay - 1);
+
+    // then
+    assertThat(expired).isEmpty();
+    advanceTo(START_TIME + delay);
+    assertThat(expired).containsExactly(timer);
+    assertThat(timer.expiredAt).isEqualTo(START_TIME + delay);
+  }
+
+  @Test
+  void shouldExpireOverdueTimerOnNextPoll() {
+    // given
+    setTime(START_TIME);
+    queue.schedule(new TestTimer(START_TIME + 10), clock);
+    final var overdue = new TestTimer(START_TIME - 100);
+
+    // when
+    queue.schedule(overdue, clock);
+    queue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(overdue);
+  }
+
+  @Test
+  void shouldNotExpireRemovedTimer() {
+    // given
+    setTime(START_TIME);
+    final var removed = new TestTimer(START_TIME + 5_000);
+    final var other = new TestTimer(START_TIME + 5_000);
+    queue.schedule(removed, clock);
+    queue.schedule(other, clock);
+
+    // when
+    queue.remove(removed);
+    advanceTo(START_TIME + 10_000);
+
+    // then
+    assertThat(expired).containsExactly(other);
+  }
+
+  @Test
+  void shouldIgnoreRemovalOfExpiredTimer() {
+    // given
+    setTime(START_TIME);
+    final var expiredTimer = new TestTimer(START_TIME + 1);
+    queue.schedule(expiredTimer, clock);
+    advanceTo(START_TIME + 1);
+
+    // the node of the expired timer is reused by the next timer
+    final var timer = new TestTimer(START_TIME + 10);
+    queue.schedule(timer, clock);
+    assertThat(timer.timerId).isEqualTo(expiredTimer.timerId);
+
+    // when
+    queue.remove(expiredTimer);
+    advanceTo(START_TIME + 10);
+
+    // then
+    assertThat(expired).containsExactly(expiredTimer, timer);
+  }
+
+  @Test
+  void shouldExpireTimersInOrderOfDeadline() {
+    // given
+    final var random = new Random(42);
+    final var timers = new ArrayList<TestTimer>();
+    setTime(START_TIME);
+    for (int i = 0; i < 10_000; i++) {
+      final var timer =
+          new TestTimer(START_TIME + random.nextLong(Duration.ofMinutes(10).toMillis()));
+      queue.schedule(timer, clock);
+      timers.add(timer);
+    }
+
+    final var cancelled = new ArrayList<TestTimer>();
+    for (int i = 0; i < timers.size(); i += 3) {
+      queue.remove(timers.get(i));
+      cancelled.add(timers.get(i));
+    }
+    timers.removeAll(cancelled);
+
+    // when - polling irregularly, as when the actor thread is busy
+    while (clock.getTimeMillis() < START_TIME + Duration.ofMinutes(10).toMillis()) {
+      setTime(clock.getTimeMillis() + random.nextInt(1, 500));
+      queue.processExpiredTimers(clock);
+    }
+
+    // then
+    assertThat(expired)
+        .containsExactlyInAnyOrderElementsOf(timers)
+        .isSortedAccordingTo(Comparator.comparingLong(timer -> timer.deadline));
+    assertThat(expired)
+        .allSatisfy(timer -> assertThat(timer.expiredAt).isLessThan(timer.deadline + 500));
+  }
+
+  @Test
+  void shouldNotTickThroughIdleTime() {
+    // given - the clock of an actor thread starts at 0 until it is updated the first time
+    setTime(1);
+    queue.processExpiredTimers(clock);
+    setTime(START_TIME);
+
+    // when
+    final var timer = new TestTimer(START_TIME + 1);
+    queue.schedule(timer, clock);
+    advanceTo(START_TIME + 1);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+  }
+
+  private void setTime(final long time) {
+    clock.setCurrentTime(time);
+    clock.update();
+  }
+
+  private void advanceTo(final long time) {
+    setTime(time);
+    queue.processExpiredTimers(clock);
+  }
+
+  private final class TestTimer implements TimerSubscription {
+    private final long deadline;
+    private long timerId = -1;
+    private long expiredAt = -1;
+
+    private TestTimer(final long deadline) {
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean poll() {
+      return expiredAt >= 0;
+    }
+
+    @Override
+    public ActorJob getJob() {
+      return null;
+    }
+
+    @Override
+    public boolean isRecurring() {
+      return false;
+    }
+
+    @Override
+    public void onJobCompleted() {}
+
+    @Override
+    public void cancel() {
+      queue.remove(this);
+    }
+
+    @Override
+    public long getTimerId() {
+      return timerId;
+    }
+
+    @Override
+    public void setTimerId(final long timerId) {
+      this.timerId = timerId;
+    }
+
+    @Override
+    public void submit() {}
+
+    @Override
+    public long getDeadline(final ActorClock now) {
+      return deadline;
+    }
+
+    @Override
+    public void onTimerExpired(final TimeUnit timeUnit, final long now) {
+      expiredAt = timeUnit.toMillis(now);
+      expired.add(this);
+    }
+
+    @Override
+    public void run() {}
+
+    @Override
+    public long getTimerExpiredAt() {
+      return expiredAt;
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualThreadExecutorTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMeterRegistry(registry)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+    registry.close();
+  }
+
+  @Test
+  void shouldRunBlockingTaskOnVirtualThread() {
+    // when
+    final var thread = scheduler.submitBlocking("backup", Thread::currentThread);
+
+    // then
+    assertThat(thread.join())
+        .satisfies(t -> assertThat(t.isVirtual()).isTrue())
+        .satisfies(t -> assertThat(t.getName()).startsWith("zb-virtual-backup-"));
+  }
+
+  @Test
+  void shouldRunTasksOfBlockingExecutorOnVirtualThread() {
+    // given
+    final var executor = scheduler.blockingExecutor("backup");
+
+    // when
+    final var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+
+    // then
+    assertThat(thread.join().getName()).startsWith("zb-virtual-backup-");
+  }
+
+  @Test
+  void shouldCompleteFutureExceptionally() {
+    // when
+    final var result =
+        scheduler.submitBlocking(
+            "backup",
+            () -> {
+              throw new IOException("expected");
+            });
+
+    // then
+    assertThatThrownBy(result::join)
+        .isInstanceOf(ExecutionException.class)
+        .hasRootCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void shouldNotDelayTasksBehindBlockedTask() throws InterruptedException {
+    // given - more blocked tasks than there are I/O-bound actor threads
+    final var release = new CountDownLatch(1);
+    for (int i = 0; i < 10; i++) {
+      scheduler.submitBlocking("exporter", () -> release.await(1, TimeUnit.MINUTES));
+    }
+
+    try {
+      // when
+      final var result = scheduler.submitBlocking("exporter", () -> "done");
+
+      // then
+      assertThat(result.join()).isEqualTo("done");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldObserveParkedVirtualThreads() {
+    // given
+    final var release = new CountDownLatch(1);
+    final var result =
+        scheduler.submitBlocking("exporter", () -> release.await(1, TimeUnit.MINUTES));
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(
+                        registry
+                            .get(ActorMetricsDoc.VIRTUAL_THREADS.getName())
+                            .tag("subsystem", "exporter")
+                            .tag("state", "parked")
+                            .gauge()
+                            .value())
+                    .isOne());
+
+    // when
+    release.countDown();
+    result.join();
+
+    // then
+    assertThat(registry.get(ActorMetricsDoc.VIRTUAL_THREADS.getName()).gauges())
+        .allSatisfy(gauge -> assertThat(gauge.value()).isZero());
+  }
+
+  @Test
+  void shouldRejectTasksAfterClose() throws Exception {
+    // given
+    scheduler.close();
+
+    // when
+    final var result = scheduler.submitBlocking("backup", () -> null);
+    scheduler = null;
+
+    // then
+    assertThatThrownBy(result::join).hasRootCauseInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldInterruptRunningTasksOnClose() throws Exception {
+    // given
+    final var result =
+        scheduler.submitBlocking("backup", () -> new CountDownLatch(1).await(1, TimeUnit.MINUTES));
+
+    // when
+    scheduler.close();
+    scheduler = null;
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableThat()
+        .withRootCauseInstanceOf(InterruptedException.class);
+  }
+
+  @Test
+  void shouldRejectTaskWhenExecutorIsClosed() {
+    // given
+    final var executor = new VirtualThreadExecutor(ActorMetrics.disabled());
+    executor.close();
+
+    // when
+    final var result = executor.submit("backup", () -> null);
+
+    // then
+    assertThat(result.isCompletedExceptionally()).isTrue();
+    assertThatThrownBy(result::join).hasRootCauseInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldNotCreateSubsystemAfterClose() {
+    // given
+    final var executor = new VirtualThreadExecutor(ActorMetrics.disabled());
+    executor.submit("backup", () -> null).join();
+    executor.close();
+
+    // when
+    final var result = executor.submit("exporter", () -> null);
+
+    // then
+    assertThatThrownBy(result::join).hasRootCauseInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldNotLeaveTasksRunningWhenSubmittedConcurrentlyWithClose() throws Exception {
+    // given
+    final var executor = new VirtualThreadExecutor(ActorMetrics.disabled());
+    final var results = new CopyOnWriteArrayList<ActorFuture<Void>>();
+    final var submitted = new CountDownLatch(1);
+    final var submitter =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  for (int i = 0; i < 1_000; i++) {
+                    results.add(
+                        executor.submit(
+                            "subsystem-" + i,
+                            () -> {
+                              new CountDownLatch(1).await();
+                              return null;
+                            }));
+                    submitted.countDown();
+                  }
+                });
+
+    // when
+    submitted.await();
+    executor.close();
+    submitter.join();
+
+    // then - every task is either rejected or interrupted, none keeps running after close
+    assertThat(results)
+        .allSatisfy(
+            result ->
+                assertThat((Future<Void>) result)
+                    .failsWithin(Duration.ofSeconds(10))
+                    .withThrowableThat()
+                    .havingRootCause()
+                    .isInstanceOfAny(RejectedExecutionException.class, InterruptedException.class));
+  }
+}
@@ -15,6 +15,7 @@ import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.scheduler.ActorThread;
 import io.camunda.zeebe.scheduler.ActorThreadGroup;
 import io.camunda.zeebe.scheduler.ActorTimerQueue;
+import io.camunda.zeebe.scheduler.DeadlineTimerQueue;
 import io.camunda.zeebe.scheduler.TaskScheduler;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
@@ -52,7 +53,7 @@ public class ControlledActorSchedulerExtension implements BeforeEachCallback, Af
   public void beforeEach(final ExtensionContext extensionContext) throws Exception {
     final ControlledActorThreadFactory actorTaskRunnerFactory = new ControlledActorThreadFactory();
     clock = new ControlledActorClock();
-    final ActorTimerQueue timerQueue = new ActorTimerQueue(clock, 1);
+    final ActorTimerQueue timerQueue = new DeadlineTimerQueue(clock, 1);
     final ActorSchedulerBuilder builder =
         ActorScheduler.newActorScheduler()
             .setActorClock(clock)
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Takes the given chunks from the latest persisted snapshot, instead of receiving them. This is
+   * used when the sender skipped chunks which are unchanged since that snapshot. In case of
+   * failure, e.g. if the latest snapshot does not contain such a chunk or its checksum differs, the
+   * future will be completed with a SnapshotWriteException.
+   *
+   * @param chunkChecksums the expected checksums of the chunks to take, by chunk name
+   */
+  ActorFuture<Void> reuse(Map<String, Long> chunkChecksums);
 }
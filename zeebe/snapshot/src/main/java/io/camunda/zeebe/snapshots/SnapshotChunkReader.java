@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,19 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks with the given names from the remaining chunks, e.g. because the receiver
+   * has them already. Chunks which were partially read already, and the last chunk, are never
+   * excluded, such that the receiver always gets the chunk completing the snapshot. The total count
+   * of the read chunks is not affected.
+   *
+   * <p>The default implementation does not exclude any chunk.
+   *
+   * @param chunkNames the names of the chunks to exclude
+   * @return the names of the chunks which were excluded
+   */
+  default Set<String> exclude(final Set<String> chunkNames) {
+    return Set.of();
+  }
 }
@@ -21,7 +21,10 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +43,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  // chunks may be applied out of order, and more than once if they are resent
+  private final Set<SnapshotChunkId> appliedChunks = new HashSet<>();
+  // files received in more than one chunk, whose checksums are calculated once all are written
+  private final Set<String> chunkedFiles = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -87,6 +94,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
+    final var chunkId = new SnapshotChunkId(chunkName, snapshotChunk.getFileBlockPosition());
+    if (appliedChunks.contains(chunkId)) {
+      LOGGER.debug(
+          "Ignore snapshot snapshotChunk {} at position {}, because it was applied already.",
+          chunkName,
+          snapshotChunk.getFileBlockPosition());
+      return;
+    }
+
     final var tmpSnapshotDirectory = directory;
     try {
       FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
@@ -103,8 +119,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    if (snapshotChunk.getContent().length == snapshotChunk.getTotalFileSize()) {
+      checksumCollection.updateFromBytes(
+          snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    } else {
+      chunkedFiles.add(chunkName);
+    }
+    appliedChunks.add(chunkId);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +136,44 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(chunkChecksums);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final Map<String, Long> chunkChecksums) throws SnapshotWriteException {
+    if (chunkChecksums.isEmpty()
+        || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return;
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+      snapshotStore.linkFromLatestSnapshot(chunkChecksums, directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Failed to reuse chunks %s of the latest snapshot for snapshot %s",
+              chunkChecksums.keySet(), snapshotId),
+          e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+    chunkChecksums.forEach(
+        (fileName, checksum) ->
+            checksumCollection.updateFromChecksum(directory.resolve(fileName), checksum));
+    LOGGER.debug(
+        "Reused {} chunks of the latest snapshot for snapshot {}",
+        chunkChecksums.size(),
+        snapshotId);
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -263,6 +322,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     try {
+      for (final var chunkedFile : chunkedFiles) {
+        checksumCollection.updateFromFile(directory.resolve(chunkedFile));
+      }
+
       if (metadata == null) {
         // backward compatibility
         metadata =
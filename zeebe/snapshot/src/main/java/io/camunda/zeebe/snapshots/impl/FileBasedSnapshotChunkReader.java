@@ -15,7 +15,9 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -89,6 +91,29 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Set<String> exclude(final Set<String> chunkNames) {
+    if (chunks.isEmpty()) {
+      return Set.of();
+    }
+
+    // only chunks which were not read yet, not even partially, can be excluded
+    final var lastChunk = chunks.last();
+    final var partiallyReadChunk = offset > 0 ? chunksView.first() : null;
+    final var excluded = new HashSet<String>();
+    for (final var chunkName : chunkNames) {
+      if (CharSequence.compare(chunkName, lastChunk) != 0
+          && (partiallyReadChunk == null
+              || CharSequence.compare(chunkName, partiallyReadChunk) != 0)
+          && chunksView.remove(chunkName)) {
+        chunks.remove(chunkName);
+        excluded.add(chunkName);
+      }
+    }
+
+    return excluded;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
@@ -37,10 +38,24 @@ public final class FileBasedSnapshotStore extends Actor
       final int partitionId,
       final Path root,
       final CRC32CChecksumProvider checksumProvider) {
+    this(brokerId, partitionId, root, checksumProvider, null);
+  }
+
+  /**
+   * @param schedulingService if given, blocking work of the store, like calculating the checksums
+   *     of a taken snapshot, runs on its virtual threads instead of on the store's actor
+   */
+  public FileBasedSnapshotStore(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final ActorSchedulingService schedulingService) {
     actorName = buildActorName("SnapshotStore", partitionId);
     this.partitionId = partitionId;
     snapshotStore =
-        new FileBasedSnapshotStoreImpl(brokerId, partitionId, root, checksumProvider, this);
+        new FileBasedSnapshotStoreImpl(
+            brokerId, partitionId, root, checksumProvider, this, schedulingService);
   }
 
   @Override
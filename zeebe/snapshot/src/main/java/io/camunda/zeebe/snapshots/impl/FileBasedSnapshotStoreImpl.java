@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots.impl;
 import static io.camunda.zeebe.util.FileUtil.deleteFolder;
 import static io.camunda.zeebe.util.FileUtil.ensureDirectoryExists;
 
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -36,6 +38,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -60,6 +63,7 @@ public final class FileBasedSnapshotStoreImpl {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStoreImpl.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
   private static final String TMP_CHECKSUM_SUFFIX = ".tmp";
+  private static final String BLOCKING_SUBSYSTEM = "snapshot";
   private final int brokerId;
   // the root snapshotsDirectory where all snapshots should be stored
   private final Path snapshotsDirectory;
@@ -77,6 +81,8 @@ public final class FileBasedSnapshotStoreImpl {
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final CRC32CChecksumProvider checksumProvider;
   private final ConcurrencyControl actor;
+  // runs blocking tasks outside the actor if set, see runBlocking
+  private final ActorSchedulingService schedulingService;
 
   public FileBasedSnapshotStoreImpl(
       final int brokerId,
@@ -84,10 +90,21 @@ public final class FileBasedSnapshotStoreImpl {
       final Path root,
       final CRC32CChecksumProvider checksumProvider,
       final ConcurrencyControl actor) {
+    this(brokerId, partitionId, root, checksumProvider, actor, null);
+  }
+
+  public FileBasedSnapshotStoreImpl(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final ConcurrencyControl actor,
+      final ActorSchedulingService schedulingService) {
     this.brokerId = brokerId;
     snapshotsDirectory = root.resolve(SNAPSHOTS_DIRECTORY);
     pendingDirectory = root.resolve(PENDING_DIRECTORY);
     this.actor = actor;
+    this.schedulingService = schedulingService;
 
     try {
       FileUtil.ensureDirectoryExists(snapshotsDirectory);
@@ -410,6 +427,54 @@ public final class FileBasedSnapshotStoreImpl {
     pendingSnapshots.remove(pendingSnapshot);
   }
 
+  /**
+   * Links the given files of the latest snapshot into the given directory, such that a received
+   * snapshot can reuse them instead of receiving them again. Snapshot files are never modified, so
+   * they are hard linked; if that fails, they are copied instead.
+   *
+   * @param fileChecksums the expected checksums of the files to link, by file name
+   * @throws NoSuchFileException if there is no latest snapshot, or if it has no such file
+   * @throws IOException if a file of the latest snapshot has a different checksum than expected
+   */
+  void linkFromLatestSnapshot(final Map<String, Long> fileChecksums, final Path targetDirectory)
+      throws IOException {
+    final var latestSnapshot = currentPersistedSnapshotRef.get();
+    if (latestSnapshot == null) {
+      throw new NoSuchFileException(
+          targetDirectory.toString(), null, "there is no snapshot to reuse files from");
+    }
+
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+    for (final var fileChecksum : fileChecksums.entrySet()) {
+      final var fileName = fileChecksum.getKey();
+      final var source = latestSnapshot.getPath().resolve(fileName);
+      final var checksum = latestChecksums.get(fileName);
+      if (checksum == null) {
+        throw new NoSuchFileException(
+            source.toString(), null, "not part of snapshot " + latestSnapshot.getId());
+      }
+      if (!checksum.equals(fileChecksum.getValue())) {
+        throw new IOException(
+            String.format(
+                "Expected file %s to have checksum %d, but it has %d",
+                source, fileChecksum.getValue(), checksum));
+      }
+
+      final var target = targetDirectory.resolve(fileName);
+      try {
+        Files.createLink(target, source);
+      } catch (final UnsupportedOperationException | IOException e) {
+        // e.g. the file system doesn't support hard links, or the directories are on different
+        // devices; if the link failed for another reason, e.g. a missing source, so will the copy
+        LOGGER.debug("Failed to hard link {} to {}, copying it instead", source, target, e);
+        Files.copy(source, target);
+        FileUtil.flush(target);
+      }
+    }
+
+    FileUtil.flushDirectory(targetDirectory);
+  }
+
   private void observeSnapshotSize(final FileBasedSnapshot persistedSnapshot) {
     try (final var contents = Files.newDirectoryStream(persistedSnapshot.getPath())) {
       var totalSize = 0L;
@@ -601,6 +666,25 @@ public final class FileBasedSnapshotStoreImpl {
     return snapshotMetrics;
   }
 
+  /**
+   * Runs the given blocking callable, e.g. reading all files of a snapshot, on a virtual thread of
+   * the scheduler, such that it doesn't occupy the store's I/O-bound actor thread. Without a
+   * scheduling service, it's run directly on the calling thread instead.
+   *
+   * @return a future completed with the result of the callable
+   */
+  <T> ActorFuture<T> runBlocking(final Callable<T> callable) {
+    if (schedulingService != null) {
+      return schedulingService.submitBlocking(BLOCKING_SUBSYSTEM, callable);
+    }
+
+    try {
+      return CompletableActorFuture.completed(callable.call());
+    } catch (final Exception e) {
+      return CompletableActorFuture.completedExceptionally(e);
+    }
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
@@ -22,6 +22,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +40,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private final FileBasedSnapshotId snapshotId;
   private final ActorFuture<Void> takenFuture = new CompletableActorFuture<>();
   private boolean isValid = false;
+  private boolean aborted = false;
   private PersistedSnapshot snapshot;
   private MutableChecksumsSFV checksum;
   private final CRC32CChecksumProvider checksumProvider;
@@ -70,34 +72,66 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   }
 
   private void takeInternal(final Consumer<Path> takeSnapshot) {
-    final var snapshotMetrics = snapshotStore.getSnapshotMetrics();
+    final var timer = snapshotStore.getSnapshotMetrics().startTimer();
 
-    try (final var ignored = snapshotMetrics.startTimer()) {
-      try {
-        takeSnapshot.accept(getPath());
-        if (!directory.toFile().exists() || directory.toFile().listFiles().length == 0) {
-          // If no snapshot files are created, snapshot is not valid
-          abortInternal();
-          takenFuture.completeExceptionally(
-              new IllegalStateException(
-                  String.format(
-                      "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
-                      directory)));
-
-        } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
-
-          snapshot = null;
-          isValid = true;
-          takenFuture.complete(null);
-        }
-
-      } catch (final Exception exception) {
-        LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, exception);
+    try {
+      takeSnapshot.accept(getPath());
+      if (!directory.toFile().exists() || directory.toFile().listFiles().length == 0) {
+        // If no snapshot files are created, snapshot is not valid
         abortInternal();
-        takenFuture.completeExceptionally(exception);
+        takenFuture.completeExceptionally(
+            new IllegalStateException(
+                String.format(
+                    "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
+                    directory)));
+        timer.close();
+        return;
       }
+    } catch (final Exception exception) {
+      onTakeFailed(exception);
+      timer.close();
+      return;
     }
+
+    // calculating the checksum reads all snapshot files, so it may run outside the actor
+    final ActorFuture<MutableChecksumsSFV> calculated;
+    try {
+      calculated =
+          snapshotStore.runBlocking(
+              () -> SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider));
+    } catch (final Exception exception) {
+      onTakeFailed(exception);
+      timer.close();
+      return;
+    }
+
+    final BiConsumer<MutableChecksumsSFV, Throwable> onCalculated =
+        (calculatedChecksum, error) -> {
+          timer.close();
+          if (error != null) {
+            onTakeFailed(error);
+          } else if (aborted) {
+            takenFuture.completeExceptionally(
+                new SnapshotNotFoundException(
+                    "Snapshot was aborted while calculating its checksum."));
+          } else {
+            checksum = calculatedChecksum;
+            snapshot = null;
+            isValid = true;
+            takenFuture.complete(null);
+          }
+        };
+    if (calculated.isDone()) {
+      calculated.onComplete(onCalculated, Runnable::run);
+    } else {
+      actor.runOnCompletion(calculated, onCalculated);
+    }
+  }
+
+  private void onTakeFailed(final Throwable error) {
+    LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, error);
+    abortInternal();
+    takenFuture.completeExceptionally(error);
   }
 
   @Override
@@ -184,6 +218,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   private void abortInternal() {
     try {
+      aborted = true;
       isValid = false;
       snapshot = null;
       LOGGER.debug("Aborting transient snapshot {}", this);
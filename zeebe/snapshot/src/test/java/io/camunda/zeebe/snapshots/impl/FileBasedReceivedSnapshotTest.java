@@ -26,7 +26,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -348,6 +352,121 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReceiveChunksOutOfOrder() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+
+    // when
+    Collections.reverse(chunks);
+    for (final var chunk : chunks) {
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var receivedPersistedSnapshot = (FileBasedSnapshot) receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .containsAllEntriesOf(persistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+  }
+
+  @Test
+  public void shouldIgnoreChunkWhichWasAppliedAlready() {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var receivedPersistedSnapshot = (FileBasedSnapshot) receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .containsAllEntriesOf(persistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+  }
+
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() throws IOException {
+    // given
+    final var firstPersistedSnapshot = takePersistedSnapshot(1L);
+    final var firstReceivedSnapshot =
+        (FileBasedSnapshot) receiveSnapshot(firstPersistedSnapshot).persist().join();
+    final var secondPersistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondPersistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = secondPersistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      final var reusedChunks = snapshotChunkReader.exclude(Set.of("file2"));
+      snapshotChunkReader.forEachRemaining(chunk -> receivedSnapshot.apply(chunk).join());
+      final var reusedChecksums =
+          new HashMap<>(secondPersistedSnapshot.getChecksums().getChecksums());
+      reusedChecksums.keySet().retainAll(reusedChunks);
+      receivedSnapshot.reuse(reusedChecksums).join();
+    }
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                firstReceivedSnapshot.getPath().resolve("file2"),
+                receivedSnapshot.getPath().resolve("file2")))
+        .as("the reused chunk is linked to the chunk of the latest snapshot")
+        .isTrue();
+
+    final var receivedPersistedSnapshot = (FileBasedSnapshot) receivedSnapshot.persist().join();
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .containsExactlyInAnyOrderEntriesOf(secondPersistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseChunkWhichIsNotPartOfLatestSnapshot() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - then
+    assertThatCode(() -> receivedSnapshot.reuse(Map.of("file3", 1L)).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("Failed to reuse chunks [file3] of the latest snapshot");
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    final var firstPersistedSnapshot = (FileBasedSnapshot) takePersistedSnapshot(1L);
+    receiveSnapshot(firstPersistedSnapshot).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final long checksum = firstPersistedSnapshot.getChecksums().getChecksums().get("file2");
+
+    // when - then
+    assertThatCode(() -> receivedSnapshot.reuse(Map.of("file2", checksum + 1)).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("Failed to reuse chunks [file2] of the latest snapshot");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
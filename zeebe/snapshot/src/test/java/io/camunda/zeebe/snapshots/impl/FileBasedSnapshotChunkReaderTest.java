@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -332,6 +333,45 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldExcludeChunksWhichWereNotReadYet() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(Set.of("file1", "file2"));
+
+    // then
+    assertThat(excluded).containsExactly("file2");
+    final var remainingChunks = getAllChunks(snapshotChunkReader);
+    assertThat(remainingChunks).extracting(SnapshotChunk::getChunkName).containsExactly("file3");
+    assertThat(remainingChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsExactly(SNAPSHOT_CHUNK.size());
+
+    snapshotChunkReader.reset();
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldNotExcludeLastOrPartiallyReadChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(2);
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(Set.of("file1", "file3"));
+
+    // then
+    assertThat(excluded).isEmpty();
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file2", "file3", "file3", "file3", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
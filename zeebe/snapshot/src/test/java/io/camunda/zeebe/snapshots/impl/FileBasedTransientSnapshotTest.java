@@ -11,6 +11,7 @@ import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.snapshots.SnapshotMetadata;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
@@ -22,6 +23,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -104,6 +107,52 @@ public class FileBasedTransientSnapshotTest {
         .isNotEmptyDirectory();
   }
 
+  @Test
+  public void shouldCalculateChecksumOnVirtualThreadOfScheduler() throws IOException {
+    // given
+    final var checksumThreads = new CopyOnWriteArrayList<String>();
+    final var store =
+        new FileBasedSnapshotStore(
+            0,
+            1,
+            temporaryFolder.newFolder().toPath(),
+            snapshotPath -> {
+              checksumThreads.add(Thread.currentThread().getName());
+              return Map.of();
+            },
+            scheduler.get());
+    scheduler.submitActor(store).join();
+    final var transientSnapshot = store.newTransientSnapshot(1L, 2L, 3L, 4L).get();
+
+    // when
+    transientSnapshot.take(this::writeSnapshot).join();
+    final var persistedSnapshot = transientSnapshot.persist().join();
+
+    // then
+    assertThat(checksumThreads).first().asString().startsWith("zb-virtual-snapshot-");
+    assertThat(persistedSnapshot.getChecksums().getChecksums()).isNotEmpty();
+  }
+
+  @Test
+  public void shouldFailTakeIfBlockingTaskIsRejected() throws Exception {
+    // given - a scheduler for blocking tasks which is no longer running
+    final var closedScheduler = ActorScheduler.newActorScheduler().build();
+    closedScheduler.start();
+    closedScheduler.close();
+    final var store =
+        new FileBasedSnapshotStore(
+            0, 1, temporaryFolder.newFolder().toPath(), snapshotPath -> Map.of(), closedScheduler);
+    scheduler.submitActor(store).join();
+    final var transientSnapshot = store.newTransientSnapshot(1L, 2L, 3L, 4L).get();
+
+    // when
+    final var taken = transientSnapshot.take(this::writeSnapshot);
+
+    // then
+    assertThatThrownBy(taken::join).hasRootCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(transientSnapshot.getPath()).doesNotExist();
+  }
+
   @Test
   public void shouldDeleteTransientDirectoryOnAbort() {
     // given
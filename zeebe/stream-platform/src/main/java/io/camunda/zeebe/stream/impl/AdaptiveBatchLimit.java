@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import java.time.Duration;
+
+/**
+ * Tunes the number of commands which are processed in one batch, within the bounds of {@code
+ * maxCommandsInBatch}.
+ *
+ * <ul>
+ *   <li>The limit is reduced if a batch exceeded the maximum record batch size, if processing a
+ *       batch took longer than {@link #TARGET_BATCH_DURATION}, or if the log stream rejected the
+ *       batch due to its write rate limit. A smaller batch acquires fewer permits at once.
+ *   <li>The limit is doubled if nothing else is waiting on the log after a batch, and increased by
+ *       one if a full batch was processed within the target duration.
+ * </ul>
+ *
+ * <p>Additionally, the average size of the follow-up records of a command is tracked, to predict
+ * whether processing another command would exceed the maximum record batch size. Commands which are
+ * not expected to fit are written to the log instead and processed in the next batch, which avoids
+ * rolling back and retrying the whole batch.
+ */
+public final class AdaptiveBatchLimit {
+  static final Duration TARGET_BATCH_DURATION = Duration.ofMillis(50);
+  private static final int MIN_LIMIT = 1;
+  // weight of the latest batch in the average record size per command
+  private static final double SMOOTHING_FACTOR = 0.2;
+
+  private final int maxLimit;
+  private final long targetBatchDurationNanos;
+  private final ProcessingMetrics metrics;
+  private int limit;
+  private double bytesPerCommand;
+  private double eventsPerCommand;
+  private boolean backpressureObserved;
+
+  AdaptiveBatchLimit(final int maxLimit, final ProcessingMetrics metrics) {
+    this(maxLimit, TARGET_BATCH_DURATION, metrics);
+  }
+
+  AdaptiveBatchLimit(
+      final int maxLimit, final Duration targetBatchDuration, final ProcessingMetrics metrics) {
+    this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+    targetBatchDurationNanos = targetBatchDuration.toNanos();
+    this.metrics = metrics;
+    limit = this.maxLimit;
+    metrics.setBatchProcessingLimit(limit);
+  }
+
+  int limit() {
+    return limit;
+  }
+
+  /**
+   * Predicts whether the given number of yet unprocessed commands can be processed in the current
+   * batch, without exceeding the maximum record batch size.
+   *
+   * @param unprocessedCommands the number of commands in the batch which are not processed yet
+   * @param eventCount the number of records in the batch so far
+   * @param batchSize the size of the records in the batch so far, in bytes
+   * @param writer the writer the batch will be written to
+   * @return true if the follow-up records of the commands are expected to fit into the batch
+   */
+  boolean canFit(
+      final int unprocessedCommands,
+      final int eventCount,
+      final int batchSize,
+      final LogStreamWriter writer) {
+    if (bytesPerCommand == 0) {
+      return true;
+    }
+
+    final var expectedEvents = (int) Math.ceil(unprocessedCommands * eventsPerCommand);
+    final var expectedSize = (int) Math.ceil(unprocessedCommands * bytesPerCommand);
+    return writer.canWriteEvents(eventCount + expectedEvents, batchSize + expectedSize);
+  }
+
+  /**
+   * Observes a successfully processed batch.
+   *
+   * @param commandCount the number of processed commands
+   * @param eventCount the number of records in the resulting batch
+   * @param batchSize the size of the resulting batch in bytes
+   * @param durationNanos the time spent processing the batch
+   * @param hasBacklog whether further records are waiting on the log
+   */
+  void onBatchProcessed(
+      final int commandCount,
+      final int eventCount,
+      final int batchSize,
+      final long durationNanos,
+      final boolean hasBacklog) {
+    if (commandCount > 0) {
+      bytesPerCommand = average(bytesPerCommand, (double) batchSize / commandCount);
+      eventsPerCommand = average(eventsPerCommand, (double) eventCount / commandCount);
+    }
+    backpressureObserved = false;
+
+    if (durationNanos > targetBatchDurationNanos) {
+      update(limit - Math.max(1, limit / 4), Adjustment.LATENCY);
+    } else if (!hasBacklog) {
+      update(limit * 2, Adjustment.IDLE);
+    } else if (commandCount >= limit) {
+      update(limit + 1, Adjustment.BACKLOG);
+    }
+  }
+
+  /**
+   * Observes a batch which exceeded the maximum record batch size after the given number of
+   * commands, and will be processed again.
+   */
+  void onBatchSizeExceeded(final int processedCommands) {
+    update(Math.min(processedCommands, limit / 2), Adjustment.SIZE_EXCEEDED);
+  }
+
+  /** Observes that the log stream rejected writing the current batch. */
+  void onWriteRejected() {
+    // the write is retried until it succeeds, but the limit is only reduced once per batch
+    if (!backpressureObserved) {
+      backpressureObserved = true;
+      update(limit / 2, Adjustment.BACKPRESSURE);
+    }
+  }
+
+  private void update(final int newLimit, final Adjustment adjustment) {
+    final var boundedLimit = Math.clamp(newLimit, MIN_LIMIT, maxLimit);
+    if (boundedLimit != limit) {
+      limit = boundedLimit;
+      metrics.batchProcessingLimitAdjusted(adjustment, limit);
+    }
+  }
+
+  private static double average(final double average, final double sample) {
+    return average == 0 ? sample : average + SMOOTHING_FACTOR * (sample - average);
+  }
+
+  public enum Adjustment {
+    // the batch exceeded the maximum record batch size and was processed again
+    SIZE_EXCEEDED,
+    // processing the batch took longer than the target duration
+    LATENCY,
+    // the log stream rejected the batch due to its write rate limit
+    BACKPRESSURE,
+    // no further records were waiting on the log
+    IDLE,
+    // a full batch was processed in time, while further records were waiting on the log
+    BACKLOG
+  }
+}
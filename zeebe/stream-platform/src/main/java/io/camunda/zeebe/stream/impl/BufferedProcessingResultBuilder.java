@@ -129,6 +129,11 @@ final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
     return mutableRecordBatch.canAppendRecordOfLength(eventLength);
   }
 
+  /** Returns the size of the records appended so far, in bytes. */
+  int getBatchSize() {
+    return mutableRecordBatch.getBatchSize();
+  }
+
   record ProcessingResponseImpl(RecordBatchEntry responseValue, long requestId, int requestStreamId)
       implements ProcessingResponse {}
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the batches to replay ahead of the {@link ReplayStateMachine} on a virtual thread, such
+ * that reading the log and deserializing the records overlaps with applying the events on the
+ * stream processor actor.
+ *
+ * <p>Each event is copied into its own buffer, and the metadata and value of the events which
+ * should be replayed are read into new instances, since the actor applies them while the next
+ * batches are already read. The batches which were read ahead are bounded by the sum of the sizes
+ * of their serialized events, which are released again when a batch is polled. A single batch which
+ * exceeds the limit on its own is still read, once all other batches were polled.
+ *
+ * <p>If there is no batch available when polling, the consumer can ask to be notified via {@link
+ * #awaitBatch()}, which invokes the given callback once the next batch was read, the end of the log
+ * was reached, or reading failed.
+ */
+final class PrefetchingReplayReader implements AutoCloseable {
+  static final String SUBSYSTEM = "replay";
+  private static final long IDLE_TIMEOUT_NANOS = Duration.ofMillis(100).toNanos();
+
+  private final LogStreamBatchReader batchReader;
+  private final Predicate<LoggedEvent> shouldReplay;
+  private final boolean continuous;
+  private final Runnable onBatchAvailable;
+  private final BlockingQueue<ReplayBatch> batches = new LinkedBlockingQueue<>();
+  private final int maxBytes;
+  private final Semaphore bytesAvailable;
+  private final Semaphore recordsAvailable = new Semaphore(0);
+  private final AtomicBoolean awaitingBatch = new AtomicBoolean();
+  private volatile boolean caughtUp;
+  private volatile boolean closed;
+  private volatile Throwable failure;
+
+  /**
+   * @param logStreamReader the reader to read the log with, which is owned and closed by this
+   *     reader
+   * @param maxBytes the maximum size of the serialized events of the batches which are read ahead
+   * @param shouldReplay decides whether the metadata and value of an event should be read
+   * @param continuous whether to wait for new records once the end of the log was reached, as in
+   *     the replay mode of followers
+   * @param onBatchAvailable invoked when a batch is available after {@link #awaitBatch()}
+   */
+  PrefetchingReplayReader(
+      final LogStreamReader logStreamReader,
+      final long maxBytes,
+      final Predicate<LoggedEvent> shouldReplay,
+      final boolean continuous,
+      final Runnable onBatchAvailable) {
+    batchReader = new LogStreamBatchReaderImpl(logStreamReader);
+    this.maxBytes = (int) Math.min(maxBytes, Integer.MAX_VALUE);
+    bytesAvailable = new Semaphore(this.maxBytes);
+    this.shouldReplay = shouldReplay;
+    this.continuous = continuous;
+    this.onBatchAvailable = onBatchAvailable;
+  }
+
+  /** Starts to read the batches after the given position on a virtual thread. */
+  void start(final ActorSchedulingService schedulingService, final long position) {
+    final var reading =
+        schedulingService.submitBlocking(
+            SUBSYSTEM,
+            () -> {
+              readBatches(position);
+              return null;
+            });
+
+    // the task is rejected right away if the scheduler is closing
+    if (reading.isCompletedExceptionally()) {
+      failure = reading.getException();
+      notifyBatchAvailable();
+    }
+  }
+
+  /**
+   * @return the next batch, or null if no batch was read yet
+   */
+  ReplayBatch poll() {
+    final var batch = batches.poll();
+    if (batch != null) {
+      bytesAvailable.release(permits(batch));
+    }
+    return batch;
+  }
+
+  /**
+   * @return the number of batches which were read ahead
+   */
+  int size() {
+    return batches.size();
+  }
+
+  /**
+   * @return true if the end of the log was reached, i.e. there is no further batch to poll than the
+   *     ones already read
+   */
+  boolean isCaughtUp() {
+    return caughtUp;
+  }
+
+  /**
+   * @return the error which stopped reading, or null if there was none
+   */
+  Throwable getFailure() {
+    return failure;
+  }
+
+  /**
+   * Invokes the callback once the next batch is available. Should only be called after {@link
+   * #poll()} returned no batch.
+   */
+  void awaitBatch() {
+    awaitingBatch.set(true);
+    // a batch might have been added after the last poll, but before the flag was set
+    if (!batches.isEmpty() || failure != null) {
+      notifyBatchAvailable();
+    }
+  }
+
+  /** Notifies the reader that new records were written to the log. */
+  void onRecordAvailable() {
+    recordsAvailable.release();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    recordsAvailable.release();
+  }
+
+  private void readBatches(final long position) {
+    try {
+      batchReader.seekToNextBatch(position);
+
+      while (!closed) {
+        if (batchReader.hasNext()) {
+          caughtUp = false;
+          enqueue(readBatch(batchReader.next()));
+        } else {
+          if (!caughtUp) {
+            caughtUp = true;
+            notifyBatchAvailable();
+          }
+
+          if (!continuous) {
+            return;
+          }
+
+          recordsAvailable.tryAcquire(IDLE_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+          recordsAvailable.drainPermits();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      failure = e;
+      notifyBatchAvailable();
+    } finally {
+      batchReader.close();
+    }
+  }
+
+  private void enqueue(final ReplayBatch batch) throws InterruptedException {
+    final var permits = permits(batch);
+    while (!closed) {
+      if (bytesAvailable.tryAcquire(permits, IDLE_TIMEOUT_NANOS, TimeUnit.NANOSECONDS)) {
+        batches.add(batch);
+        notifyBatchAvailable();
+        return;
+      }
+    }
+  }
+
+  private int permits(final ReplayBatch batch) {
+    return (int) Math.min(batch.size(), maxBytes);
+  }
+
+  private ReplayBatch readBatch(final Batch batch) {
+    final var events = new ArrayList<ReplayEvent>();
+    long size = 0;
+    while (batch.hasNext()) {
+      final var event = readEvent(batch.next());
+      events.add(event);
+      size += event.event().getLength();
+    }
+    return new ReplayBatch(events, size);
+  }
+
+  private ReplayEvent readEvent(final LoggedEvent event) {
+    final var buffer = new UnsafeBuffer(new byte[event.getLength()]);
+    event.write(buffer, 0);
+    final var copy = new LoggedEventImpl();
+    copy.wrap(buffer, 0);
+
+    if (!shouldReplay.test(copy)) {
+      return new ReplayEvent(copy, null, null);
+    }
+
+    final var metadata = new RecordMetadata();
+    copy.readMetadata(metadata);
+
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(metadata.getValueType());
+    final UnifiedRecordValue value;
+    if (valueClass != null) {
+      value = ReflectUtil.newInstance(valueClass);
+      copy.readValue(value);
+    } else {
+      value = null;
+    }
+
+    return new ReplayEvent(copy, metadata, value);
+  }
+
+  private void notifyBatchAvailable() {
+    if (awaitingBatch.compareAndSet(true, false)) {
+      onBatchAvailable.run();
+    }
+  }
+
+  /**
+   * The events which share the same source position, as read by {@link LogStreamBatchReader}, and
+   * the size of their serialized form.
+   */
+  record ReplayBatch(List<ReplayEvent> events, long size) {}
+
+  /**
+   * An event of a batch; the metadata and value are only read if the event should be replayed, and
+   * are null otherwise.
+   */
+  record ReplayEvent(LoggedEvent event, RecordMetadata metadata, UnifiedRecordValue value) {
+
+    boolean shouldReplay() {
+      return metadata != null;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -25,6 +26,7 @@ import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.AbortableRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EmptyProcessingResult;
@@ -53,6 +55,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -94,6 +97,17 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>When the inline first attempt is enabled, each of the steps after processing is first
+ * attempted inline, and the next step follows directly if it succeeded. Only if a step does not
+ * succeed on its first attempt, it is retried asynchronously and the next step waits for it, as
+ * when the inline first attempt is disabled. The steps still run one after another on the actor;
+ * only the scheduling of a separate actor job per step is skipped. Responses and post-commit tasks
+ * are still only executed after the state was committed.
+ *
+ * <p>When the batch size is adaptive, the number of commands processed in one batch is tuned by
+ * {@link AdaptiveBatchLimit}, instead of always processing up to {@code maxCommandsInBatch}
+ * commands.
  */
 public final class ProcessingStateMachine {
 
@@ -158,6 +172,8 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final boolean inlineFirstAttempt;
+  private final AdaptiveBatchLimit adaptiveBatchLimit;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -180,6 +196,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    inlineFirstAttempt = context.isInlineFirstAttemptEnabled();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -191,6 +208,10 @@ public final class ProcessingStateMachine {
 
     streamProcessorListener = context.getStreamProcessorListener();
     processingMetrics = new ProcessingMetrics(context.getMeterRegistry());
+    adaptiveBatchLimit =
+        context.isAdaptiveBatchSizeEnabled()
+            ? new AdaptiveBatchLimit(maxCommandsInBatch, processingMetrics)
+            : null;
     processingFilter =
         new MetadataEventFilter(
                 recordMetadata -> recordMetadata.getRecordType() == RecordType.COMMAND)
@@ -302,6 +323,9 @@ public final class ProcessingStateMachine {
             maxCommandsInBatch,
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        if (adaptiveBatchLimit != null) {
+          adaptiveBatchLimit.onBatchSizeExceeded(processedCommandsCount);
+        }
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
       } else {
         onError(
@@ -344,13 +368,14 @@ public final class ProcessingStateMachine {
         new BufferedProcessingResultBuilder(
             logStreamWriter::canWriteEvents, initialCommand.getOperationReference());
     var lastProcessingResultSize = 0;
+    final var startTime = System.nanoTime();
 
     // It might be that we reached the batch size limit during processing a command.
     // We rolled back the transaction and processing result and retried the processing.
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : currentBatchLimit();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -375,7 +400,8 @@ public final class ProcessingStateMachine {
               lastProcessingResultSize,
               // +1 since we already need include the current command in the calculation
               pendingCommands.size() + processedCommandsCount + 1,
-              currentProcessingBatchLimit);
+              currentProcessingBatchLimit,
+              processingResultBuilder.getBatchSize());
 
       pendingCommands.addAll(batchProcessingStepResult.toProcess());
       pendingWrites.addAll(batchProcessingStepResult.toWrite());
@@ -385,6 +411,19 @@ public final class ProcessingStateMachine {
       processedCommandsCount++;
       processingMetrics.commandsProcessed();
     }
+
+    if (adaptiveBatchLimit != null) {
+      adaptiveBatchLimit.onBatchProcessed(
+          processedCommandsCount,
+          lastProcessingResultSize,
+          processingResultBuilder.getBatchSize(),
+          System.nanoTime() - startTime,
+          logStreamReader.hasNext());
+    }
+  }
+
+  private int currentBatchLimit() {
+    return adaptiveBatchLimit != null ? adaptiveBatchLimit.limit() : maxCommandsInBatch;
   }
 
   /**
@@ -396,6 +435,8 @@ public final class ProcessingStateMachine {
    *     command
    * @param currentBatchSize the current batch size (only commands counted), includes already
    *     processed and pending commands
+   * @param currentProcessingBatchLimit the maximum number of commands to process in this batch
+   * @param resultBatchSize the size of the records in the processing result so far, in bytes
    * @return the result of the current batch processing step, which contains the next to processed
    *     commands and the records which should be written to the log
    */
@@ -403,7 +444,8 @@ public final class ProcessingStateMachine {
       final ProcessingResult processingResult,
       final int lastProcessingResultSize,
       final int currentBatchSize,
-      final int currentProcessingBatchLimit) {
+      final int currentProcessingBatchLimit,
+      final int resultBatchSize) {
 
     final var commandsToProcess = new ArrayList<TypedRecord<?>>();
     final var toWriteEntries = new ArrayList<LogAppendEntry>();
@@ -415,7 +457,12 @@ public final class ProcessingStateMachine {
               var toWriteEntry = entry;
               final int potentialBatchSize = currentBatchSize + commandsToProcess.size();
               if (entry.recordMetadata().getRecordType() == RecordType.COMMAND
-                  && potentialBatchSize < currentProcessingBatchLimit) {
+                  && potentialBatchSize < currentProcessingBatchLimit
+                  && canFitIntoBatch(
+                      // the unprocessed commands, including this one
+                      potentialBatchSize - processedCommandsCount,
+                      processingResult.getRecordBatch().entries().size(),
+                      resultBatchSize)) {
                 commandsToProcess.add(
                     new UnwrittenRecord(
                         entry.key(),
@@ -430,6 +477,18 @@ public final class ProcessingStateMachine {
     return new BatchProcessingStepResult(commandsToProcess, toWriteEntries);
   }
 
+  /**
+   * With an adaptive batch size, predicts whether the follow-up records of the given number of
+   * commands still fit into the batch. Commands which are not expected to fit are written to the
+   * log and processed in the next batch, instead of processing the whole batch again once it
+   * exceeds its maximum size.
+   */
+  private boolean canFitIntoBatch(
+      final int unprocessedCommands, final int eventCount, final int batchSize) {
+    return adaptiveBatchLimit == null
+        || adaptiveBatchLimit.canFit(unprocessedCommands, eventCount, batchSize, logStreamWriter);
+  }
+
   private void onError(final Throwable error, final NextProcessingStep nextStep) {
     onErrorRetries++;
     switchErrorPhase();
@@ -595,7 +654,8 @@ public final class ProcessingStateMachine {
       writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
-          writeRetryStrategy.runWithRetry(
+          runWithRetry(
+              writeRetryStrategy,
               () -> {
                 final var writeResult =
                     logStreamWriter.tryWrite(
@@ -604,17 +664,19 @@ public final class ProcessingStateMachine {
                   writtenPosition = writeResult.get();
                   return true;
                 } else {
+                  if (adaptiveBatchLimit != null && writeResult.getLeft() != WriteFailure.CLOSED) {
+                    adaptiveBatchLimit.onWriteRejected();
+                  }
                   return false;
                 }
-              },
-              abortCondition);
+              });
     }
     return writeFuture;
   }
 
   private void writeRecords() {
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
-    actor.runOnCompletion(
+    runOnCompletion(
         writeFuture,
         (bool, t) -> {
           if (t != null) {
@@ -638,17 +700,17 @@ public final class ProcessingStateMachine {
 
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
+        runWithRetry(
+            updateStateRetryStrategy,
             () -> {
               zeebeDbTransaction.commit();
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -668,7 +730,8 @@ public final class ProcessingStateMachine {
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(
+        runWithRetry(
+            sideEffectsRetryStrategy,
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
@@ -690,10 +753,9 @@ public final class ProcessingStateMachine {
                         processingResponse.requestStreamId(), processingResponse.requestId());
               }
               return executePostCommitTasks();
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -712,6 +774,48 @@ public final class ProcessingStateMachine {
         });
   }
 
+  /**
+   * Runs the given operation with the given retry strategy. With the inline first attempt, the
+   * operation is first attempted right away, and only handed over to the retry strategy if it
+   * should be retried. Failures are handled the same way the retry strategy would handle them.
+   */
+  private ActorFuture<Boolean> runWithRetry(
+      final RetryStrategy retryStrategy, final OperationToRetry operation) {
+    if (inlineFirstAttempt) {
+      try {
+        if (operation.run()) {
+          return CompletableActorFuture.completed(true);
+        }
+      } catch (final RecoverableException e) {
+        if (!(retryStrategy instanceof RecoverableRetryStrategy)) {
+          return CompletableActorFuture.completedExceptionally(e);
+        }
+      } catch (final Exception e) {
+        return CompletableActorFuture.completedExceptionally(e);
+      }
+    }
+
+    return retryStrategy.runWithRetry(operation, abortCondition);
+  }
+
+  /**
+   * Invokes the callback once the given future is completed. With the inline first attempt, the
+   * callback is invoked right away if the future is already completed, instead of scheduling it as
+   * a separate job on the actor.
+   */
+  private <T> void runOnCompletion(
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> callback) {
+    if (inlineFirstAttempt && future.isDone()) {
+      if (future.isCompletedExceptionally()) {
+        callback.accept(null, future.getException());
+      } else {
+        callback.accept(future.join(), null);
+      }
+    } else {
+      actor.runOnCompletion(future, callback);
+    }
+  }
+
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
       return currentProcessingResult.executePostCommitTasks();
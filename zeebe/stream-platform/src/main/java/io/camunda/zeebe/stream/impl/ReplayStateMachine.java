@@ -21,6 +21,7 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
@@ -31,14 +32,24 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.PrefetchingReplayReader.ReplayBatch;
+import io.camunda.zeebe.stream.impl.PrefetchingReplayReader.ReplayEvent;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>When prefetching is enabled, the batches are read and decoded ahead by a {@link
+ * PrefetchingReplayReader} on a separate thread, while the actor applies the batches which were
+ * read already. All batches which are available are applied in one transaction, up to {@link
+ * #MAX_PREFETCHED_EVENTS_PER_TRANSACTION} events, instead of committing a transaction per batch.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -51,6 +62,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final MetadataFilter REPLAY_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
+  private static final int MAX_PREFETCHED_EVENTS_PER_TRANSACTION = 1_000;
 
   private final RecordMetadata metadata = new RecordMetadata();
   private final KeyGeneratorControls keyGeneratorControls;
@@ -86,11 +98,16 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final ActorSchedulingService schedulingService;
+  private final boolean prefetching;
+  private PrefetchingReplayReader prefetchingReader;
+  private boolean awaitingPrefetchedBatch;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
       final StreamProcessorContext context,
-      final BooleanSupplier shouldReplayNext) {
+      final BooleanSupplier shouldReplayNext,
+      final ActorSchedulingService schedulingService) {
     partitionId = context.getPartitionId();
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
@@ -107,6 +124,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
+    this.schedulingService = schedulingService;
+    prefetching = context.isPrefetchingReplayEnabled();
   }
 
   /**
@@ -122,13 +141,27 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastSourceEventPosition =
         snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION;
 
-    // start after snapshot
-    logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    if (prefetching) {
+      // the reader starts after the snapshot on its own
+      final var filter = new MetadataEventFilter(REPLAY_FILTER);
+      prefetchingReader =
+          new PrefetchingReplayReader(
+              logStream.newLogStreamReader(),
+              context.getPrefetchingReplayMaxBytes(),
+              event -> filter.applies(event) && isAfterSnapshot(event),
+              streamProcessorMode == StreamProcessorMode.REPLAY,
+              () -> actor.call(this::onPrefetchedBatchAvailable));
+      prefetchingReader.start(schedulingService, snapshotPosition);
+    } else {
+      // start after snapshot
+      logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    }
 
     LOG.info(
-        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
+        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}, prefetching: {}]",
         snapshotPosition,
-        streamProcessorMode);
+        streamProcessorMode,
+        prefetching);
 
     if (streamProcessorMode == StreamProcessorMode.REPLAY) {
       logStream.registerRecordAvailableListener(this);
@@ -141,6 +174,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   @Override
   public void onRecordAvailable() {
+    if (prefetchingReader != null) {
+      // the reader notifies the actor once it read the new records
+      prefetchingReader.onRecordAvailable();
+      return;
+    }
+
     actor.call(
         () -> {
           if (currentState == State.AWAIT_RECORD) {
@@ -155,7 +194,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      if (prefetchingReader != null) {
+        replayPrefetchedBatches();
+      } else if (logStreamBatchReader.hasNext()) {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
@@ -196,6 +237,110 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  private void onPrefetchedBatchAvailable() {
+    // replay might have been resumed in between, which continues without waiting
+    if (awaitingPrefetchedBatch) {
+      replayNextEvent();
+    }
+  }
+
+  private void replayPrefetchedBatches() {
+    awaitingPrefetchedBatch = false;
+    // read before polling, such that no batch is missed which was read in between
+    final var caughtUp = prefetchingReader.isCaughtUp();
+    final var firstBatch = prefetchingReader.poll();
+    if (firstBatch == null) {
+      final var failure = prefetchingReader.getFailure();
+      if (failure != null) {
+        throw new RuntimeException("Failed to read the records to replay", failure);
+      } else if (caughtUp && streamProcessorMode == StreamProcessorMode.PROCESSING) {
+        onRecordsReplayed();
+      } else {
+        currentState = caughtUp ? State.AWAIT_RECORD : State.REPLAY_EVENT;
+        awaitingPrefetchedBatch = true;
+        prefetchingReader.awaitBatch();
+      }
+      return;
+    }
+
+    currentState = State.REPLAY_EVENT;
+    final var batches = new ArrayList<ReplayBatch>();
+    var eventCount = 0;
+    var batch = firstBatch;
+    do {
+      batches.add(batch);
+      eventCount += batch.events().size();
+    } while (eventCount < MAX_PREFETCHED_EVENTS_PER_TRANSACTION
+        && (batch = prefetchingReader.poll()) != null);
+    replayMetrics.setPrefetchedBatches(prefetchingReader.size());
+
+    final var replayedEvents = eventCount;
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    final var lastReadPositionBefore = lastReadRecordPosition;
+    replayStrategy
+        .runWithRetry(
+            () -> tryToReplayPrefetchedBatches(batches, lastReadPositionBefore), abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(
+                    "Failed to replay batches at '%s %s'"
+                        .formatted(
+                            batches.getFirst().events().getFirst().event(),
+                            typedEvent.getMetadata()),
+                    failure);
+              } else {
+                replayDurationTimer.close();
+                replayMetrics.observeTransactionEvents(replayedEvents);
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  private boolean tryToReplayPrefetchedBatches(
+      final List<ReplayBatch> batches, final long lastReadPositionBefore) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+      // the positions are checked again when replaying the batches from the beginning
+      lastReadRecordPosition = lastReadPositionBefore;
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          var highestSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          for (final var batch : batches) {
+            batch.events().forEach(this::replayPrefetchedEvent);
+            highestSourceEventPosition =
+                Math.max(highestSourceEventPosition, batchSourceEventPosition);
+          }
+          batchSourceEventPosition = highestSourceEventPosition;
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+
+    return true;
+  }
+
+  private void replayPrefetchedEvent(final ReplayEvent replayEvent) {
+    final var currentEvent = replayEvent.event();
+    if (replayEvent.shouldReplay()) {
+      typedEvent.wrap(currentEvent, replayEvent.metadata(), replayEvent.value());
+      replay(typedEvent);
+    }
+
+    onRecordReplayed(currentEvent);
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
@@ -221,26 +366,30 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   private void replayEvent(final LoggedEvent currentEvent) {
-    if (eventFilter.applies(currentEvent)
-        && (currentEvent.getSourceEventPosition() > snapshotPosition
-            || currentEvent.getSourceEventPosition()
-                < 0)) { // some events might not have a source pointer
+    if (eventFilter.applies(currentEvent) && isAfterSnapshot(currentEvent)) {
       readMetadata(currentEvent);
-      final var currentTypedEvent = readRecordValue(currentEvent);
-
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
-      processor.replay(currentTypedEvent);
-      lastReplayedEventPosition = currentTypedEvent.getPosition();
+      replay(readRecordValue(currentEvent));
     }
 
     onRecordReplayed(currentEvent);
   }
 
+  private boolean isAfterSnapshot(final LoggedEvent event) {
+    // some events might not have a source pointer
+    return event.getSourceEventPosition() > snapshotPosition || event.getSourceEventPosition() < 0;
+  }
+
+  private void replay(final TypedRecord<?> currentTypedEvent) {
+    final var processor =
+        recordProcessors.stream()
+            .filter(p -> p.accepts(currentTypedEvent.getValueType()))
+            .findFirst()
+            .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+
+    processor.replay(currentTypedEvent);
+    lastReplayedEventPosition = currentTypedEvent.getPosition();
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -324,6 +473,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    if (prefetchingReader != null) {
+      prefetchingReader.close();
+    }
   }
 
   private enum State {
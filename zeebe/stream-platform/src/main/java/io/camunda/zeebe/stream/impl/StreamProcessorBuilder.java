@@ -159,6 +159,26 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder setInlineFirstAttemptEnabled(final boolean enabled) {
+    streamProcessorContext.setInlineFirstAttemptEnabled(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setAdaptiveBatchSizeEnabled(final boolean enabled) {
+    streamProcessorContext.setAdaptiveBatchSizeEnabled(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setPrefetchingReplayEnabled(final boolean enabled) {
+    streamProcessorContext.setPrefetchingReplayEnabled(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setPrefetchingReplayMaxBytes(final long maxBytes) {
+    streamProcessorContext.setPrefetchingReplayMaxBytes(maxBytes);
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
@@ -30,6 +30,7 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final long DEFAULT_PREFETCHING_REPLAY_MAX_BYTES = 32 * 1024 * 1024;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -53,6 +54,10 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean inlineFirstAttemptEnabled = false;
+  private boolean adaptiveBatchSizeEnabled = false;
+  private boolean prefetchingReplayEnabled = false;
+  private long prefetchingReplayMaxBytes = DEFAULT_PREFETCHING_REPLAY_MAX_BYTES;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
@@ -228,6 +233,42 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return this;
   }
 
+  public boolean isInlineFirstAttemptEnabled() {
+    return inlineFirstAttemptEnabled;
+  }
+
+  public StreamProcessorContext setInlineFirstAttemptEnabled(final boolean enabled) {
+    inlineFirstAttemptEnabled = enabled;
+    return this;
+  }
+
+  public boolean isAdaptiveBatchSizeEnabled() {
+    return adaptiveBatchSizeEnabled;
+  }
+
+  public StreamProcessorContext setAdaptiveBatchSizeEnabled(final boolean enabled) {
+    adaptiveBatchSizeEnabled = enabled;
+    return this;
+  }
+
+  public boolean isPrefetchingReplayEnabled() {
+    return prefetchingReplayEnabled;
+  }
+
+  public StreamProcessorContext setPrefetchingReplayEnabled(final boolean enabled) {
+    prefetchingReplayEnabled = enabled;
+    return this;
+  }
+
+  public long getPrefetchingReplayMaxBytes() {
+    return prefetchingReplayMaxBytes;
+  }
+
+  public StreamProcessorContext setPrefetchingReplayMaxBytes(final long maxBytes) {
+    prefetchingReplayMaxBytes = maxBytes;
+    return this;
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
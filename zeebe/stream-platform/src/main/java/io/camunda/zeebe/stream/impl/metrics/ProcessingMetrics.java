@@ -9,7 +9,9 @@ package io.camunda.zeebe.stream.impl.metrics;
 
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.impl.AdaptiveBatchLimit.Adjustment;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
+import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc.BatchProcessingLimitKeys;
 import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc.ErrorHandlingPhaseKeys;
 import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc.ProcessingDurationKeys;
 import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc.StreamProcessorActionKeys;
@@ -22,9 +24,11 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class ProcessingMetrics {
@@ -35,6 +39,9 @@ public class ProcessingMetrics {
   private final AtomicLong lastProcessedPosition = new AtomicLong();
   private final Table<ValueType, Intent, Timer> processingDuration = Table.simple();
   private final Map<String, Counter> streamProcessorEvents = new HashMap<>();
+  private final AtomicInteger batchProcessingLimit = new AtomicInteger();
+  private final Map<Adjustment, Counter> batchProcessingLimitAdjustments =
+      new EnumMap<>(Adjustment.class);
 
   private final MeterRegistry registry;
   private final Timer batchProcessingDuration;
@@ -53,6 +60,7 @@ public class ProcessingMetrics {
         registerTimer(StreamMetricsDoc.BATCH_PROCESSING_POST_COMMIT_TASKS);
     batchProcessingCommands = registerBatchProcessingCommands();
     batchProcessingRetries = registerBatchProcessingRetries();
+    registerBatchProcessingLimit();
     errorHandlingPhase =
         EnumMeter.register(
             ErrorHandlingPhase.class,
@@ -77,6 +85,17 @@ public class ProcessingMetrics {
     batchProcessingRetries.increment();
   }
 
+  public void setBatchProcessingLimit(final int limit) {
+    batchProcessingLimit.set(limit);
+  }
+
+  public void batchProcessingLimitAdjusted(final Adjustment adjustment, final int limit) {
+    batchProcessingLimitAdjustments
+        .computeIfAbsent(adjustment, this::registerBatchProcessingLimitAdjustmentCounter)
+        .increment();
+    batchProcessingLimit.set(limit);
+  }
+
   public CloseableSilently startBatchProcessingPostCommitTasksTimer() {
     return MicrometerUtil.timer(
         batchProcessingPostCommitTasks, Timer.start(registry.config().clock()));
@@ -145,6 +164,21 @@ public class ProcessingMetrics {
     return batchProcessingRetries;
   }
 
+  private void registerBatchProcessingLimit() {
+    final var meterDoc = StreamMetricsDoc.BATCH_PROCESSING_LIMIT;
+    Gauge.builder(meterDoc.getName(), batchProcessingLimit, AtomicInteger::intValue)
+        .description(meterDoc.getDescription())
+        .register(registry);
+  }
+
+  private Counter registerBatchProcessingLimitAdjustmentCounter(final Adjustment adjustment) {
+    final var meterDoc = StreamMetricsDoc.BATCH_PROCESSING_LIMIT_ADJUSTMENTS;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(BatchProcessingLimitKeys.REASON.asString(), adjustment.name())
+        .register(registry);
+  }
+
   private Timer registerTimer(final StreamMetricsDoc meterDoc) {
     return Timer.builder(meterDoc.getName())
         .description(meterDoc.getDescription())
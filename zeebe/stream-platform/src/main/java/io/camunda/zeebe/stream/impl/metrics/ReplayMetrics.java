@@ -11,18 +11,22 @@ import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class ReplayMetrics {
 
   private final AtomicLong lastSourcePosition = new AtomicLong();
+  private final AtomicInteger prefetchedBatches = new AtomicInteger();
 
   private final Clock clock;
   private final Counter replayEventsCount;
   private final Timer replayDurationTimer;
+  private final DistributionSummary transactionEvents;
 
   public ReplayMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
@@ -30,6 +34,8 @@ public final class ReplayMetrics {
     replayEventsCount = registerReplayEventsCount(registry);
     replayDurationTimer = registerReplayDuration(registry);
     registerLastSourcePosition(registry);
+    transactionEvents = registerTransactionEvents(registry);
+    registerPrefetchedBatches(registry);
   }
 
   private Timer registerReplayDuration(final MeterRegistry registry) {
@@ -54,6 +60,21 @@ public final class ReplayMetrics {
         .register(registry);
   }
 
+  private DistributionSummary registerTransactionEvents(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_TRANSACTION_EVENTS;
+    return DistributionSummary.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .serviceLevelObjectives(meterDoc.getDistributionSLOs())
+        .register(registry);
+  }
+
+  private void registerPrefetchedBatches(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_PREFETCHED_BATCHES;
+    Gauge.builder(meterDoc.getName(), prefetchedBatches, AtomicInteger::intValue)
+        .description(meterDoc.getDescription())
+        .register(registry);
+  }
+
   public void event() {
     replayEventsCount.increment();
   }
@@ -65,4 +86,12 @@ public final class ReplayMetrics {
   public void setLastSourcePosition(final long position) {
     lastSourcePosition.set(position);
   }
+
+  public void observeTransactionEvents(final int eventCount) {
+    transactionEvents.record(eventCount);
+  }
+
+  public void setPrefetchedBatches(final int batches) {
+    prefetchedBatches.set(batches);
+  }
 }
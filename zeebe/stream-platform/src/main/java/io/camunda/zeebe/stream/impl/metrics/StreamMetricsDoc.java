@@ -126,6 +126,50 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** The current limit of commands processed in a batch, if the batch size is adaptive */
+  BATCH_PROCESSING_LIMIT {
+    @Override
+    public String getDescription() {
+      return "The current limit of commands processed in a batch, if the batch size is adaptive";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.batch.processing.limit";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+  },
+
+  /**
+   * Number of times the adaptive batch limit was adjusted, by reason; see {@link
+   * io.camunda.zeebe.stream.impl.AdaptiveBatchLimit.Adjustment} for possible values.
+   */
+  BATCH_PROCESSING_LIMIT_ADJUSTMENTS {
+    @Override
+    public String getDescription() {
+      return "Number of times the adaptive batch limit was adjusted, by reason";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.batch.processing.limit.adjustments";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return BatchProcessingLimitKeys.values();
+    }
+  },
+
   /**
    * The current phase of error handling the processor is in; see {@link
    * io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase} for possible values.
@@ -206,6 +250,49 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Records the distribution of events replayed in one transaction, when prefetching */
+  REPLAY_TRANSACTION_EVENTS {
+    private static final double[] BUCKETS = {1, 4, 16, 64, 128, 256, 512, 1024};
+
+    @Override
+    public String getDescription() {
+      return "Records the distribution of events replayed in one transaction, when prefetching";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.transaction.events";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Number of batches which were read ahead and are waiting to be replayed */
+  REPLAY_PREFETCHED_BATCHES {
+    @Override
+    public String getDescription() {
+      return "Number of batches which were read ahead and are waiting to be replayed";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.prefetched.batches";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+  },
+
   /** Number of records processed by stream processor */
   STREAM_PROCESSOR_EVENTS {
     @Override
@@ -335,6 +422,20 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  /** The reason counted by the given {@link #BATCH_PROCESSING_LIMIT_ADJUSTMENTS} series */
+  public enum BatchProcessingLimitKeys implements KeyName {
+    /**
+     * The reason the limit was adjusted; one of the names (as is) of the enum {@link
+     * io.camunda.zeebe.stream.impl.AdaptiveBatchLimit.Adjustment}.
+     */
+    REASON {
+      @Override
+      public String asString() {
+        return "reason";
+      }
+    }
+  }
+
   /** The action counted by the given {@link #STREAM_PROCESSOR_EVENTS} series */
   public enum StreamProcessorActionKeys implements KeyName {
     /** Denotes the actual action applied to the event: one of written, skipped, or processed. */
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.stream.impl.AdaptiveBatchLimit.Adjustment;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc;
+import io.camunda.zeebe.util.Either;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveBatchLimitTest {
+  private static final int MAX_LIMIT = 100;
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AdaptiveBatchLimit batchLimit =
+      new AdaptiveBatchLimit(MAX_LIMIT, Duration.ofMillis(50), new ProcessingMetrics(registry));
+
+  @Test
+  void shouldStartWithMaxLimit() {
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT);
+    assertThat(limitGauge()).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  void shouldReduceLimitWhenBatchSizeIsExceeded() {
+    // when
+    batchLimit.onBatchSizeExceeded(10);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(10);
+    assertThat(limitGauge()).isEqualTo(10);
+    assertThat(adjustments(Adjustment.SIZE_EXCEEDED)).isOne();
+  }
+
+  @Test
+  void shouldReduceLimitWhenBatchIsSlow() {
+    // when
+    batchLimit.onBatchProcessed(MAX_LIMIT, MAX_LIMIT, 1024, SLOW, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(75);
+    assertThat(adjustments(Adjustment.LATENCY)).isOne();
+  }
+
+  @Test
+  void shouldReduceLimitOnlyOncePerBatchWhenWriteIsRejected() {
+    // when
+    batchLimit.onWriteRejected();
+    batchLimit.onWriteRejected();
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(50);
+
+    // when - the next batch is rejected as well
+    batchLimit.onBatchProcessed(10, 10, 1024, FAST, true);
+    batchLimit.onWriteRejected();
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(25);
+    assertThat(adjustments(Adjustment.BACKPRESSURE)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotReduceLimitBelowOne() {
+    // when
+    batchLimit.onBatchSizeExceeded(0);
+    batchLimit.onWriteRejected();
+
+    // then
+    assertThat(batchLimit.limit()).isOne();
+  }
+
+  @Test
+  void shouldDoubleLimitWhenLogIsIdle() {
+    // given
+    batchLimit.onBatchSizeExceeded(10);
+
+    // when
+    batchLimit.onBatchProcessed(1, 1, 128, FAST, false);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(20);
+    assertThat(adjustments(Adjustment.IDLE)).isOne();
+  }
+
+  @Test
+  void shouldNotIncreaseLimitAboveMax() {
+    // given
+    batchLimit.onBatchSizeExceeded(80);
+
+    // when
+    batchLimit.onBatchProcessed(1, 1, 128, FAST, false);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  void shouldIncreaseLimitWhenFullBatchIsFastWithBacklog() {
+    // given
+    batchLimit.onBatchSizeExceeded(10);
+
+    // when
+    batchLimit.onBatchProcessed(10, 20, 1024, FAST, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(11);
+    assertThat(adjustments(Adjustment.BACKLOG)).isOne();
+  }
+
+  @Test
+  void shouldKeepLimitWhenBatchIsNotFullWithBacklog() {
+    // given
+    batchLimit.onBatchSizeExceeded(10);
+
+    // when
+    batchLimit.onBatchProcessed(5, 10, 1024, FAST, true);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldPredictWhetherCommandsFitIntoBatch() {
+    // given - each command results in two records of 100 bytes each
+    final var writer = new SizeLimitedWriter(1_000);
+    batchLimit.onBatchProcessed(2, 4, 400, FAST, true);
+
+    // then
+    assertThat(batchLimit.canFit(1, 4, 400, writer)).isTrue();
+    assertThat(batchLimit.canFit(4, 4, 200, writer)).isTrue();
+    assertThat(batchLimit.canFit(5, 4, 200, writer)).isFalse();
+  }
+
+  @Test
+  void shouldNotPredictWithoutObservedBatch() {
+    // given
+    final var writer = new SizeLimitedWriter(1_000);
+
+    // then
+    assertThat(batchLimit.canFit(MAX_LIMIT, 0, 0, writer)).isTrue();
+  }
+
+  private double limitGauge() {
+    return registry.get(StreamMetricsDoc.BATCH_PROCESSING_LIMIT.getName()).gauge().value();
+  }
+
+  private double adjustments(final Adjustment adjustment) {
+    return registry
+        .get(StreamMetricsDoc.BATCH_PROCESSING_LIMIT_ADJUSTMENTS.getName())
+        .tag("reason", adjustment.name())
+        .counter()
+        .count();
+  }
+
+  private record SizeLimitedWriter(int maxBatchSize) implements LogStreamWriter {
+
+    @Override
+    public boolean canWriteEvents(final int eventCount, final int batchSize) {
+      return batchSize <= maxBatchSize;
+    }
+
+    @Override
+    public Either<WriteFailure, Long> tryWrite(
+        final WriteContext context,
+        final List<LogAppendEntry> appendEntries,
+        final long sourcePosition) {
+      return Either.left(WriteFailure.CLOSED);
+    }
+  }
+}
@@ -66,6 +66,42 @@ public final class StreamProcessorContinouslyReplayModeTest {
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
   }
 
+  @Test
+  public void shouldReplayContinuouslyWithPrefetching() {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            false,
+            cfg ->
+                cfg.streamProcessorMode(StreamProcessorMode.REPLAY)
+                    .setPrefetchingReplayEnabled(true));
+
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final InOrder inOrder = inOrder(recordProcessor);
+    inOrder.verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    inOrder.verifyNoMoreInteractions();
+
+    await("replayed all events")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(3L));
+    Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
+  }
+
   @Test
   @RegressionTest("https://github.com/camunda/camunda/issues/7662")
   public void shouldReplayIfNoEventsAfterSnapshot() throws Exception {
@@ -30,6 +30,7 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -164,6 +165,89 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldReplayBatchesLargerThanPrefetchingBuffer() {
+    // given
+    final var firstEventKey = Protocol.encodePartitionId(1, 19);
+    final var secondEventKey = Protocol.encodePartitionId(1, 21);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(firstEventKey)
+            .causedBy(0));
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(secondEventKey)
+            .causedBy(0));
+
+    final var replayedKeys = new CopyOnWriteArrayList<Long>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(invocation -> replayedKeys.add(invocation.<TypedRecord<?>>getArgument(0).getKey()))
+        .when(recordProcessor)
+        .replay(any());
+
+    // when -- each batch exceeds the buffer on its own
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.setPrefetchingReplayEnabled(true).setPrefetchingReplayMaxBytes(1));
+
+    // then
+    verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    assertThat(replayedKeys).containsExactly(firstEventKey, secondEventKey);
+  }
+
+  @Test
+  void shouldRestoreFromLogWithPrefetching() {
+    // given
+    final var firstEventKey = Protocol.encodePartitionId(1, 19);
+    final var secondEventKey = Protocol.encodePartitionId(1, 21);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(firstEventKey)
+            .causedBy(0));
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(secondEventKey)
+            .causedBy(0));
+
+    // the replayed record is reused, so its key has to be read when it is replayed
+    final var replayedKeys = new CopyOnWriteArrayList<Long>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(invocation -> replayedKeys.add(invocation.<TypedRecord<?>>getArgument(0).getKey()))
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.setPrefetchingReplayEnabled(true));
+
+    // then
+    final InOrder inOrder = inOrder(recordProcessor);
+    inOrder.verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    inOrder.verifyNoMoreInteractions();
+    assertThat(replayedKeys).containsExactly(firstEventKey, secondEventKey);
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(3L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(4L));
+
+    // state has to be updated
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(3);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(21L);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
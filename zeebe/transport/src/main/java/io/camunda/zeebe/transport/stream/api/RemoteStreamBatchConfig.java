@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures how payloads pushed to the same remote stream are batched into a single request.
+ * Payloads are collected until either the maximum count or size is reached, or the window after the
+ * first payload of a batch elapsed, whichever comes first. Each payload is still handed to the
+ * {@link RemoteStreamErrorHandler} on its own if it cannot be pushed.
+ *
+ * <p>Receivers must support batched push requests, so batching should only be enabled once all of
+ * them do.
+ *
+ * @param maxCount the maximum number of payloads per request; a value of 1 disables batching
+ * @param maxSize the maximum accumulated size of the payloads per request, in bytes; a payload
+ *     which is larger than this on its own is sent without batching
+ * @param window how long to wait for more payloads before sending a batch which is not full
+ */
+public record RemoteStreamBatchConfig(int maxCount, int maxSize, Duration window) {
+  public static final RemoteStreamBatchConfig DISABLED =
+      new RemoteStreamBatchConfig(1, 0, Duration.ZERO);
+
+  public RemoteStreamBatchConfig {
+    Objects.requireNonNull(window, "must specify a batch window");
+    if (maxCount < 1) {
+      throw new IllegalArgumentException(
+          "Expected max count of a batch to be at least 1, but was %d".formatted(maxCount));
+    }
+
+    if (maxCount > 1 && (maxSize <= 0 || !window.isPositive())) {
+      throw new IllegalArgumentException(
+          "Expected max size and window of a batch to be positive, but were %d and %s"
+              .formatted(maxSize, window));
+    }
+  }
+
+  public boolean isEnabled() {
+    return maxCount > 1;
+  }
+}
@@ -17,6 +17,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,9 +89,11 @@ final class ClientStreamManager<M extends BufferWriter> {
 
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
-    final var streamId = pushStreamRequest.streamId();
-    final var payload = pushStreamRequest.payload();
+    onPayloadReceived(pushStreamRequest.streamId(), pushStreamRequest.payload(), responseFuture);
+  }
 
+  public void onPayloadReceived(
+      final UUID streamId, final DirectBuffer payload, final ActorFuture<Void> responseFuture) {
     responseFuture.onComplete(
         (ok, error) -> {
           if (error != null) {
@@ -8,17 +8,24 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -29,6 +36,11 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>If batching is enabled, payloads pushed to the same stream are collected and sent in a single
+ * {@link PushStreamBatchRequest}, as configured by the {@link RemoteStreamBatchConfig}. Errors are
+ * still reported per payload. A batch with a single payload is sent as a plain {@link
+ * PushStreamRequest}.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
@@ -38,15 +50,35 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
   private final ThrottledLogger pushWarnLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
+  private final Map<StreamId, Batch<P>> batches = new HashMap<>();
+
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final Scheduler scheduler;
+  private final RemoteStreamBatchConfig batchConfig;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(
+        transport,
+        executor,
+        (delay, task) -> executor.execute(task),
+        metrics,
+        RemoteStreamBatchConfig.DISABLED);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Scheduler scheduler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchConfig batchConfig) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.scheduler = Objects.requireNonNull(scheduler, "must provide a scheduler");
+    this.batchConfig = Objects.requireNonNull(batchConfig, "must specify a batch config");
   }
 
   public void pushAsync(
@@ -55,13 +87,35 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
-      executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+      final var instrumentingErrorHandler = instrumentingErrorHandler(errorHandler, streamId);
+      if (batchConfig.isEnabled()) {
+        executor.execute(() -> batch(payload, instrumentingErrorHandler, streamId));
+      } else {
+        executor.execute(() -> push(payload, instrumentingErrorHandler, streamId));
+      }
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
     }
   }
 
+  /**
+   * Fails all batches which were not sent yet, such that their payloads are handed back to the
+   * error handlers instead of waiting for a flush which will not happen anymore. Must be called on
+   * the pusher's executor, e.g. when its actor is closing.
+   */
+  void close() {
+    final var pendingBatches = new ArrayList<>(batches.entrySet());
+    batches.clear();
+    for (final var pending : pendingBatches) {
+      pending
+          .getValue()
+          .fail(
+              new IllegalStateException(
+                  "Expected to push %d payloads to stream %s, but the pusher was closed"
+                      .formatted(pending.getValue().payloads.size(), pending.getKey())));
+    }
+  }
+
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
       final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     return (error, payload) -> {
@@ -117,6 +171,88 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     }
   }
 
+  private void batch(
+      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    final int length;
+    try {
+      length = payload.getLength();
+    } catch (final Exception e) {
+      errorHandler.handleError(e, payload);
+      return;
+    }
+
+    if (length >= batchConfig.maxSize()) {
+      push(payload, errorHandler, streamId);
+      return;
+    }
+
+    var batch = batches.get(streamId);
+    if (batch != null && batch.size + length > batchConfig.maxSize()) {
+      flush(streamId, batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      final var newBatch = new Batch<P>();
+      batches.put(streamId, newBatch);
+      scheduler.schedule(batchConfig.window(), () -> flush(streamId, newBatch));
+      batch = newBatch;
+    }
+
+    batch.add(payload, errorHandler, length);
+    if (batch.payloads.size() >= batchConfig.maxCount()) {
+      flush(streamId, batch);
+    }
+  }
+
+  private void flush(final StreamId streamId, final Batch<P> batch) {
+    // the batch may have been sent already, e.g. because it was full before the window elapsed
+    if (!batches.remove(streamId, batch)) {
+      return;
+    }
+
+    if (batch.payloads.size() == 1) {
+      push(batch.payloads.getFirst(), batch.errorHandlers.getFirst(), streamId);
+      return;
+    }
+
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    batch.payloads.forEach(request::addPayload);
+    try {
+      transport
+          .send(request, streamId.receiver())
+          .whenCompleteAsync((response, error) -> onBatchPush(batch, response, error), executor);
+      LOG.trace("Pushed {} payloads to stream {}", batch.payloads.size(), streamId);
+    } catch (final Exception e) {
+      batch.fail(e);
+    }
+  }
+
+  private void onBatchPush(
+      final Batch<P> batch, final byte[] responseBuffer, final Throwable error) {
+    if (error != null) {
+      batch.fail(error);
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
+        .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(
+            response -> {
+              for (int i = 0; i < batch.payloads.size(); i++) {
+                final var payloadError = response.error(i);
+                if (payloadError == null) {
+                  metrics.pushSucceeded();
+                } else {
+                  final var errorHandler = batch.errorHandlers.get(i);
+                  errorHandler.handleError(payloadError.asException(), batch.payloads.get(i));
+                }
+              }
+            },
+            batch::fail);
+  }
+
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
@@ -153,5 +289,43 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch request out to the given receiver. May throw errors, e.g. serialization
+     * errors.
+     *
+     * @param request the batch request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> send(final PushStreamBatchRequest request, final MemberId receiver)
+        throws Exception;
+  }
+
+  /** Schedules tasks to be run on the pusher's executor after a delay, e.g. to flush a batch. */
+  @FunctionalInterface
+  interface Scheduler {
+    void schedule(final Duration delay, final Runnable task);
+  }
+
+  private static final class Batch<P> {
+    private final List<P> payloads = new ArrayList<>();
+    private final List<RemoteStreamErrorHandler<P>> errorHandlers = new ArrayList<>();
+    private int size;
+
+    private void add(
+        final P payload, final RemoteStreamErrorHandler<P> errorHandler, final int length) {
+      payloads.add(payload);
+      errorHandlers.add(errorHandler);
+      size += length;
+    }
+
+    private void fail(final Throwable error) {
+      for (int i = 0; i < payloads.size(); i++) {
+        errorHandlers.get(i).handleError(error, payloads.get(i));
+      }
+    }
   }
 }
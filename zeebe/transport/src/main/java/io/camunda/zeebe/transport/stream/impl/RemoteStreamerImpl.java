@@ -11,9 +11,11 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -52,11 +54,31 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(transport, registry, errorHandler, metrics, RemoteStreamBatchConfig.DISABLED);
+  }
+
+  public RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchConfig batchConfig) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(
+            new PushTransport(),
+            actor::run,
+            (delay, task) -> actor.schedule(delay, task),
+            metrics,
+            batchConfig);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    remoteStreamPusher.close();
   }
 
   @Override
@@ -89,13 +111,30 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     return Optional.empty();
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+  private final class PushTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH_BATCH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
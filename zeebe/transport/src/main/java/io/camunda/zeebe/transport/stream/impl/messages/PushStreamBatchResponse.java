@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseDecoder.ErrorsDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.ErrorsEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Result of a {@link PushStreamBatchRequest}. Lists the error of each payload which could not be
+ * pushed, by the payload's index in the request; all other payloads were pushed successfully.
+ */
+public final class PushStreamBatchResponse implements StreamResponse {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final Map<Integer, ErrorResponse> errors = new TreeMap<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    errors.clear();
+    for (final ErrorsDecoder decoder : messageDecoder.errors()) {
+      final var index = Math.toIntExact(decoder.index());
+      final var errorBuffer = new UnsafeBuffer();
+      decoder.wrapError(errorBuffer);
+
+      final var error = new ErrorResponse();
+      error.wrap(errorBuffer, 0, errorBuffer.capacity());
+      errors.put(index, error);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var errorsLength =
+        errors.values().stream()
+            .mapToInt(
+                error ->
+                    ErrorsEncoder.sbeBlockLength()
+                        + ErrorsEncoder.errorHeaderLength()
+                        + error.getLength())
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + ErrorsEncoder.sbeHeaderSize()
+        + errorsLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var errorsEncoder = messageEncoder.errorsCount(errors.size());
+    errors.forEach(
+        (index, error) -> {
+          errorsEncoder.next().index(index);
+          SbeUtil.writeNested(
+              error,
+              ErrorsEncoder.errorHeaderLength(),
+              messageEncoder,
+              PushStreamBatchResponseEncoder.BYTE_ORDER);
+        });
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  /**
+   * Returns the error of the payload at the given index of the request, or null if it was pushed
+   * successfully.
+   */
+  public ErrorResponse error(final int index) {
+    return errors.get(index);
+  }
+
+  public PushStreamBatchResponse error(final int index, final ErrorResponse error) {
+    errors.put(index, Objects.requireNonNull(error, "must specify an error"));
+    return this;
+  }
+
+  /** Returns the errors of all payloads which could not be pushed, by index in the request. */
+  public Map<Integer, ErrorResponse> errors() {
+    return errors;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(errors);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return Objects.equals(errors, that.errors);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "errors=" + errors + '}';
+  }
+}
@@ -19,11 +19,17 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
@@ -77,6 +83,47 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldPushEachPayloadOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(BufferUtil.wrapString("foo"))
+            .addPayload(BufferUtil.wrapString("bar"))
+            .addPayload(BufferUtil.wrapString("baz"));
+    final var payloads = ArgumentCaptor.forClass(DirectBuffer.class);
+    final var payloadsPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadReceived(eq(streamId), payloads.capture(), payloadsPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadsPushed.getAllValues().get(2).complete(null);
+    payloadsPushed.getAllValues().get(1).completeExceptionally(new NoSuchStreamException("none"));
+    assertThat(response).isNotDone();
+    payloadsPushed.getAllValues().get(0).complete(null);
+
+    // then
+    assertThat(payloads.getAllValues())
+        .containsExactly(
+            BufferUtil.wrapString("foo"),
+            BufferUtil.wrapString("bar"),
+            BufferUtil.wrapString("baz"));
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.class))
+        .extracting(PushStreamBatchResponse::errors, InstanceOfAssertFactories.MAP)
+        .containsOnlyKeys(1)
+        .extractingByKey(1)
+        .asInstanceOf(InstanceOfAssertFactories.type(ErrorResponse.class))
+        .returns(ErrorCode.NOT_FOUND, ErrorResponse::code);
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
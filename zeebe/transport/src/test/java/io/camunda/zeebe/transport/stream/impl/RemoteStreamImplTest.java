@@ -16,6 +16,8 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -119,5 +121,17 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
     }
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      attemptedStreams.add(request.streamId());
+      attempt++;
+      if (attempt <= succeedAfterAttempt) {
+        return CompletableFuture.failedFuture(new RuntimeException("force fail"));
+      }
+      return CompletableFuture.completedFuture(
+          BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+    }
   }
 }
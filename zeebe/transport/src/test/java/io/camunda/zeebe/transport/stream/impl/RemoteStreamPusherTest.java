@@ -11,23 +11,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -40,6 +46,7 @@ final class RemoteStreamPusherTest {
   private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
   private final RemoteStreamPusher<Payload> pusher =
       new RemoteStreamPusher<>(transport, executor, metrics);
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
 
   @Test
   void shouldPushPayload() {
@@ -149,6 +156,159 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldBatchPayloadsUpToMaxCount() {
+    // given
+    final var pusher = batchingPusher(3, 1024);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3), new Payload(4));
+
+    // when
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(transport.batchMessage).isNotNull();
+    assertThat(transport.batchMessage.request.streamId()).isEqualTo(streamId.streamId());
+    assertThat(transport.batchMessage.request.payloadWriters())
+        .containsExactlyElementsOf(payloads.subList(0, 3));
+    assertThat(transport.batchMessage.receiver).isEqualTo(streamId.receiver());
+    assertThat(transport.message).isNull();
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldBatchPayloadsUpToMaxSize() {
+    // given
+    final var pusher = batchingPusher(10, 3 * Integer.BYTES);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3), new Payload(4));
+
+    // when
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(transport.batchMessage.request.payloadWriters())
+        .containsExactlyElementsOf(payloads.subList(0, 3));
+  }
+
+  @Test
+  void shouldSendBatchAfterWindow() {
+    // given
+    final var pusher = batchingPusher(10, 1024);
+    final var errorHandler = new TestErrorHandler();
+    final var otherStreamId = new StreamId(UUID.randomUUID(), MemberId.from("1"));
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, otherStreamId);
+    pusher.pushAsync(new Payload(3), errorHandler, streamId);
+
+    // when
+    assertThat(transport.batchMessage).isNull();
+    scheduledTasks.forEach(Runnable::run);
+
+    // then
+    assertThat(transport.batchMessage.request.streamId()).isEqualTo(streamId.streamId());
+    assertThat(transport.batchMessage.request.payloadWriters())
+        .containsExactly(new Payload(1), new Payload(3));
+    assertThat(transport.message.request.streamId()).isEqualTo(otherStreamId.streamId());
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(2));
+    assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotBatchPayloadLargerThanMaxSize() {
+    // given
+    final var pusher = batchingPusher(10, Integer.BYTES);
+    final var errorHandler = new TestErrorHandler();
+    final var payload = new Payload(1);
+
+    // when
+    pusher.pushAsync(payload, errorHandler, streamId);
+
+    // then
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(payload);
+    assertThat(transport.batchMessage).isNull();
+    assertThat(scheduledTasks).isEmpty();
+  }
+
+  @Test
+  void shouldReportErrorsPerPayloadOfBatch() {
+    // given
+    final var pusher = batchingPusher(3, 1024);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse()
+                    .error(1, new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"))));
+
+    // when
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(errorHandler.errors)
+        .singleElement()
+        .returns(payloads.get(1), TestErrorHandler.Error::payload)
+        .extracting(TestErrorHandler.Error::error)
+        .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+        .returns(ErrorCode.BLOCKED, StreamResponseException::code);
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+    assertThat(metrics.getPushFailed()).isOne();
+  }
+
+  @Test
+  void shouldReportBatchTransportErrorForEachPayload() {
+    // given
+    final var pusher = batchingPusher(2, 1024);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2));
+    final var failure = new RuntimeException("Async failure");
+    transport.batchResponse = CompletableFuture.failedFuture(failure);
+
+    // when
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload, TestErrorHandler.Error::error)
+        .containsExactly(
+            Tuple.tuple(payloads.get(0), failure), Tuple.tuple(payloads.get(1), failure));
+    assertThat(metrics.getPushFailed()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldFailPendingBatchesOnClose() {
+    // given
+    final var pusher = batchingPusher(10, 1024);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2));
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+
+    // when
+    pusher.close();
+    scheduledTasks.forEach(Runnable::run);
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload)
+        .containsExactlyElementsOf(payloads);
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::error)
+        .allSatisfy(error -> assertThat(error).isInstanceOf(IllegalStateException.class));
+    assertThat(transport.batchMessage).isNull();
+    assertThat(transport.message).isNull();
+  }
+
+  private RemoteStreamPusher<Payload> batchingPusher(final int maxCount, final int maxSize) {
+    return new RemoteStreamPusher<>(
+        transport,
+        executor,
+        (delay, task) -> scheduledTasks.add(task),
+        metrics,
+        new RemoteStreamBatchConfig(maxCount, maxSize, Duration.ofMillis(5)));
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -179,7 +339,10 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
     private Message message;
+    private BatchMessage batchMessage;
     private Exception synchronousException;
 
     @Override
@@ -193,6 +356,19 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batchMessage = new BatchMessage(request, receiver);
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
@@ -17,6 +17,7 @@ import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 
@@ -178,4 +179,57 @@ final class SerializationTest {
             Tuple.tuple(ErrorCode.BLOCKED, "Stream is blocked"),
             Tuple.tuple(ErrorCode.INVALID, "Message is invalid"));
   }
+
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(BufferUtil.wrapString("foo"))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    assertThat(deserialized.getLength()).isEqualTo(request.getLength());
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .error(1, new ErrorResponse().code(ErrorCode.BLOCKED).message("Stream is blocked"))
+            .error(
+                3,
+                new ErrorResponse()
+                    .code(ErrorCode.EXHAUSTED)
+                    .message("Stream is exhausted")
+                    .addDetail(ErrorCode.BLOCKED, "Stream is blocked"));
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.error(0)).isNull();
+    assertThat(deserialized.error(1))
+        .returns(ErrorCode.BLOCKED, ErrorResponse::code)
+        .returns("Stream is blocked", ErrorResponse::message);
+    assertThat(deserialized.error(3))
+        .returns(ErrorCode.EXHAUSTED, ErrorResponse::code)
+        .returns("Stream is exhausted", ErrorResponse::message)
+        .extracting(ErrorResponse::details, InstanceOfAssertFactories.list(ErrorDetail.class))
+        .extracting(ErrorDetail::code, ErrorDetail::message)
+        .containsExactly(Tuple.tuple(ErrorCode.BLOCKED, "Stream is blocked"));
+  }
 }
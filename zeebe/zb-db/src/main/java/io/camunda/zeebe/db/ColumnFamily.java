@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once. Compared to calling {@link #get(DbKey)} for each
+   * key, this requires only a single round-trip to the database.
+   *
+   * <p>The given consumer is called, in the order of the given keys, for each key which exists in
+   * the column family; keys which do not exist are skipped. Be aware that the given DbValue is
+   * reused between calls, and should not be stored.
+   *
+   * @param keys the keys to look up; as they are serialized before the lookup, each key must be a
+   *     separate instance
+   * @param consumer the consumer which accepts the found key-value pairs
+   */
+  void getAll(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> consumer);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
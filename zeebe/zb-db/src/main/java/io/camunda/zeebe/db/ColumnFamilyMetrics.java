@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Records a read which was served by the column family cache, without accessing RocksDB. */
+  void recordCacheHit();
+
+  /** Records a read on a cached column family which had to be served by RocksDB. */
+  void recordCacheMiss();
 }
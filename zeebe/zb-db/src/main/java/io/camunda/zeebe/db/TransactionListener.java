@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when a transaction of a {@link TransactionContext} completes. This allows keeping
+ * in-memory state which mirrors the database consistent with it, e.g. by dropping changes which
+ * were made as part of a transaction that was rolled back.
+ *
+ * <p>Listeners are called on the thread which completes the transaction, and must not access the
+ * database themselves.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was committed successfully. */
+  default void onCommit() {}
+
+  /** Called after the current transaction was rolled back, i.e. all its changes were discarded. */
+  default void onRollback() {}
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +44,9 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final int DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 10_000;
+  public static final boolean DEFAULT_ZERO_COPY_READS_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +76,24 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Names of the column families whose committed values are cached in memory, in addition to the
+   * RocksDB block cache. Reads of cached keys skip the native call to RocksDB entirely. Empty (the
+   * default) disables the cache.
+   */
+  private Set<String> cachedColumnFamilies = Set.of();
+
+  /** The maximum number of entries kept in the cache of each cached column family. */
+  private int columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
+  /**
+   * When enabled, point reads copy values from RocksDB straight into a reusable off-heap buffer
+   * instead of allocating a new byte array per read. Values returned by a column family are then
+   * only valid until the next read on the same column family, which is why this is disabled by
+   * default.
+   */
+  private boolean zeroCopyReadsEnabled = DEFAULT_ZERO_COPY_READS_ENABLED;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +177,31 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public int getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final int columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
+
+  public boolean isZeroCopyReadsEnabled() {
+    return zeroCopyReadsEnabled;
+  }
+
+  public RocksDbConfiguration setZeroCopyReadsEnabled(final boolean zeroCopyReadsEnabled) {
+    this.zeroCopyReadsEnabled = zeroCopyReadsEnabled;
+    return this;
+  }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A size-bounded, write-through cache of committed values for a single column family. It is shared
+ * by all {@link TransactionalColumnFamily} instances of the same column family, regardless of the
+ * transaction context they were created with.
+ *
+ * <p>Uncommitted writes are never added to the shared cache directly. Instead, they are tracked per
+ * transaction (see {@link ZeebeTransaction#pendingCacheWrites(ColumnFamilyCache)}) and only applied
+ * once the transaction was committed successfully. On rollback they are simply dropped. This means
+ * reads within a transaction always see its own uncommitted writes first, and other transactions
+ * only ever see committed values, exactly like when reading from RocksDB directly.
+ *
+ * <p>Keys are the raw key bytes including the column family prefix, and values are immutable copies
+ * of the serialized values. Cached values must never be modified.
+ */
+final class ColumnFamilyCache {
+
+  /** Marks a key as deleted within a transaction, to shadow any value in the committed cache. */
+  static final byte[] DELETED = new byte[0];
+
+  private final Map<DirectBuffer, byte[]> committed;
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+
+  /**
+   * Incremented every time committed values are applied, and used to detect that a value loaded
+   * from RocksDB might have been concurrently replaced by a committing transaction.
+   */
+  private long generation;
+
+  ColumnFamilyCache(final int maxEntries) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException(
+          "Expected cache size to be greater than 0, but was " + maxEntries);
+    }
+
+    committed =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Entry<DirectBuffer, byte[]> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  /**
+   * Looks up the value for the given key, first in the pending writes of the transaction, and then
+   * in the committed values.
+   *
+   * @return the cached value, {@link #DELETED} if the key was deleted in the given transaction, or
+   *     null if the key is not cached
+   */
+  synchronized byte[] get(
+      final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+
+    final var pending = transaction.pendingCacheWrites(this).get(lookupKey);
+    if (pending != null) {
+      return pending;
+    }
+
+    return committed.get(lookupKey);
+  }
+
+  synchronized long generation() {
+    return generation;
+  }
+
+  /**
+   * Adds a value which was read from RocksDB to the cache, unless it may have been changed by a
+   * commit since it was read, i.e. if the generation changed.
+   */
+  void populate(
+      final byte[] key, final int keyLength, final byte[] value, final long loadedAtGeneration) {
+    if (value == null) {
+      return;
+    }
+
+    final var cachedKey = copyOf(key, keyLength);
+    synchronized (this) {
+      if (generation == loadedAtGeneration) {
+        committed.put(cachedKey, value);
+      }
+    }
+  }
+
+  /**
+   * Records a write of the given transaction; it will only be visible to other transactions after
+   * being applied via {@link #apply(Map)}.
+   */
+  void put(
+      final ZeebeTransaction transaction,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    final var cachedValue = new byte[valueLength];
+    System.arraycopy(value, 0, cachedValue, 0, valueLength);
+    transaction.pendingCacheWrites(this).put(copyOf(key, keyLength), cachedValue);
+  }
+
+  /** Records a delete of the given transaction, see {@link #put}. */
+  void delete(final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    transaction.pendingCacheWrites(this).put(copyOf(key, keyLength), DELETED);
+  }
+
+  /** Applies the writes of a committed transaction to the shared cache. */
+  synchronized void apply(final Map<DirectBuffer, byte[]> pendingWrites) {
+    if (pendingWrites.isEmpty()) {
+      return;
+    }
+
+    generation++;
+    pendingWrites.forEach(
+        (key, value) -> {
+          if (value == DELETED) {
+            committed.remove(key);
+          } else {
+            committed.put(key, value);
+          }
+        });
+  }
+
+  synchronized int size() {
+    return committed.size();
+  }
+
+  private static DirectBuffer copyOf(final byte[] key, final int keyLength) {
+    final var copy = new byte[keyLength];
+    System.arraycopy(key, 0, copy, 0, keyLength);
+    return new UnsafeBuffer(copy);
+  }
+}
@@ -16,11 +16,13 @@ import java.util.Queue;
 import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class ColumnFamilyContext {
 
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_DIRECT_VALUE_CAPACITY = 4 * 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -29,6 +31,11 @@ public class ColumnFamilyContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // off-heap copies of the key and value, only used for zero-copy reads
+  private final ExpandableDirectByteBuffer directKeyBuffer = new ExpandableDirectByteBuffer();
+  private final ExpandableDirectByteBuffer directValueBuffer =
+      new ExpandableDirectByteBuffer(INITIAL_DIRECT_VALUE_CAPACITY);
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -89,6 +96,31 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Wraps the value view around the first {@code length} bytes of the direct value buffer, which
+   * were previously filled by a zero-copy read.
+   *
+   * @param length the length of the value, or a negative number if the key does not exist
+   */
+  public void wrapDirectValueView(final int length) {
+    if (length >= 0) {
+      valueViewBuffer.wrap(directValueBuffer, 0, length);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
+  /** Returns a heap copy of the current value view, or null if it is empty. */
+  public byte[] copyValueView() {
+    if (isValueViewEmpty()) {
+      return null;
+    }
+
+    final var copy = new byte[valueViewBuffer.capacity()];
+    valueViewBuffer.getBytes(0, copy);
+    return copy;
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -97,6 +129,21 @@ public class ColumnFamilyContext {
     return valueViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
+  /** Returns an off-heap copy of the key written via {@link #writeKey(DbKey)}. */
+  ByteBuffer getDirectKeyBuffer() {
+    directKeyBuffer.putBytes(0, keyBuffer, 0, keyLength);
+    return directKeyBuffer.byteBuffer();
+  }
+
+  ByteBuffer getDirectValueBuffer() {
+    return directValueBuffer.byteBuffer();
+  }
+
+  /** Grows the direct value buffer such that it can hold at least {@code capacity} bytes. */
+  void ensureDirectValueCapacity(final int capacity) {
+    directValueBuffer.checkLimit(capacity);
+  }
+
   public void withPrefixKey(final DbKey key, final ObjIntConsumer<byte[]> prefixKeyConsumer) {
     if (prefixKeyBuffers.peek() == null) {
       throw new IllegalStateException(
@@ -19,6 +19,7 @@ import static org.rocksdb.Status.Code.TryAgain;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -36,6 +37,7 @@ public final class RocksDbInternal {
 
   static MethodHandle putWithHandle;
   static MethodHandle getWithHandle;
+  static MethodHandle getDirectWithHandle;
   static MethodHandle removeWithHandle;
 
   static {
@@ -53,6 +55,7 @@ public final class RocksDbInternal {
 
     putWithHandle();
     getWithHandle();
+    getDirectWithHandle();
     removeWithHandle();
   }
 
@@ -104,6 +107,33 @@ public final class RocksDbInternal {
     }
   }
 
+  /*
+   private static native int getDirect(final long handle, final long readOptionsHandle,
+      final ByteBuffer key, final int keyOffset, final int keyLength, final ByteBuffer value,
+      final int valueOffset, final int valueLength, final long columnFamilyHandle)
+      throws RocksDBException;
+  */
+  private static void getDirectWithHandle() throws NoSuchMethodException {
+    final var method =
+        Transaction.class.getDeclaredMethod(
+            "getDirect",
+            Long.TYPE,
+            Long.TYPE,
+            ByteBuffer.class,
+            Integer.TYPE,
+            Integer.TYPE,
+            ByteBuffer.class,
+            Integer.TYPE,
+            Integer.TYPE,
+            Long.TYPE);
+    method.setAccessible(true);
+    try {
+      getDirectWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static void removeWithHandle() throws NoSuchMethodException {
     final var method =
         Transaction.class.getDeclaredMethod(
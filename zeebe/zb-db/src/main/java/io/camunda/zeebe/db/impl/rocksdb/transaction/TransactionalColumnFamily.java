@@ -19,12 +19,18 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,7 +62,13 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyCache cache;
+  private final boolean zeroCopyReads;
 
+  /**
+   * @param cache an optional cache of committed values for this column family; may be null, in
+   *     which case all reads go to RocksDB directly
+   */
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
       final ConsistencyChecksSettings consistencyChecksSettings,
@@ -64,7 +76,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +85,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.cache = cache;
+    zeroCopyReads = transactionDb.isZeroCopyReadsEnabled();
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -86,12 +101,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +115,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +128,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +139,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            readValue(transaction);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +150,18 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void getAll(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> consumer) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(transaction -> getAll(transaction, keys, consumer));
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +231,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -239,10 +242,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -253,13 +253,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            readValue(transaction);
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -306,13 +300,8 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value != null) {
+    readValue(transaction);
+    if (!columnFamilyContext.isValueViewEmpty()) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
     }
@@ -322,18 +311,177 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value == null) {
+    readValue(transaction);
+    if (columnFamilyContext.isValueViewEmpty()) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Resolves the values of all given keys, going through the cache if this column family is cached.
+   * All keys which are not cached are read from RocksDB with a single multi-get.
+   */
+  private void getAll(
+      final ZeebeTransaction transaction,
+      final Collection<KeyType> keys,
+      final BiConsumer<KeyType, ValueType> consumer)
+      throws Exception {
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    final List<byte[]> uncachedKeys = new ArrayList<>(keys.size());
+    final IntArrayList uncachedIndexes = new IntArrayList(keys.size(), -1);
+
+    for (final var key : keys) {
+      columnFamilyContext.writeKey(key);
+      final byte[] serializedKey =
+          Arrays.copyOf(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+      final byte[] cachedValue =
+          cache == null ? null : cache.get(transaction, serializedKey, serializedKey.length);
+
+      if (cachedValue != null) {
+        metrics.recordCacheHit();
+        values.add(cachedValue == ColumnFamilyCache.DELETED ? null : cachedValue);
+      } else {
+        if (cache != null) {
+          metrics.recordCacheMiss();
+        }
+        uncachedIndexes.addInt(values.size());
+        uncachedKeys.add(serializedKey);
+        values.add(null);
+      }
+    }
+
+    if (!uncachedKeys.isEmpty()) {
+      final long generation = cache == null ? 0 : cache.generation();
+      final List<byte[]> uncachedValues =
+          transaction.multiGet(
+              transactionDb.getDefaultReadOptions(),
+              transactionDb.getDefaultHandle(),
+              uncachedKeys);
+
+      for (int i = 0; i < uncachedKeys.size(); i++) {
+        final byte[] value = uncachedValues.get(i);
+        values.set(uncachedIndexes.getInt(i), value);
+
+        if (cache != null) {
+          final byte[] key = uncachedKeys.get(i);
+          cache.populate(key, key.length, value, generation);
+        }
+      }
+    }
+
+    int index = 0;
+    for (final var key : keys) {
+      final byte[] value = values.get(index++);
+      // like for single gets, empty values are treated as missing
+      if (value != null && value.length > 0) {
+        columnFamilyContext.wrapValueView(value);
+        final var valueBuffer = columnFamilyContext.getValueView();
+        valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+        consumer.accept(key, valueInstance);
+      }
+    }
+  }
+
+  /**
+   * Reads the value of the key currently written in the {@link #columnFamilyContext} into its value
+   * view, going through the cache if this column family is cached. The view is empty if there is no
+   * value for the key.
+   */
+  private void readValue(final ZeebeTransaction transaction) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    if (cache == null) {
+      readValueFromDb(transaction);
+      return;
+    }
+
+    final byte[] cachedValue = cache.get(transaction, key, keyLength);
+    if (cachedValue != null) {
+      metrics.recordCacheHit();
+      columnFamilyContext.wrapValueView(
+          cachedValue == ColumnFamilyCache.DELETED ? null : cachedValue);
+      return;
+    }
+
+    metrics.recordCacheMiss();
+    final long generation = cache.generation();
+    readValueFromDb(transaction);
+    // with zero-copy reads, the view points to a reused buffer, so the cache needs its own copy
+    final byte[] value;
+    if (columnFamilyContext.isValueViewEmpty()) {
+      value = null;
+    } else {
+      value =
+          zeroCopyReads
+              ? columnFamilyContext.copyValueView()
+              : columnFamilyContext.getValueView().byteArray();
+    }
+    cache.populate(key, keyLength, value, generation);
+  }
+
+  private void readValueFromDb(final ZeebeTransaction transaction) throws Exception {
+    if (!zeroCopyReads) {
+      columnFamilyContext.wrapValueView(
+          transaction.get(
+              transactionDb.getDefaultNativeHandle(),
+              transactionDb.getReadOptionsNativeHandle(),
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength()));
+      return;
+    }
+
+    final var key = columnFamilyContext.getDirectKeyBuffer();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    int valueLength;
+    ByteBuffer valueBuffer = columnFamilyContext.getDirectValueBuffer();
+    while ((valueLength =
+            transaction.getDirect(
+                transactionDb.getDefaultNativeHandle(),
+                transactionDb.getReadOptionsNativeHandle(),
+                key,
+                keyLength,
+                valueBuffer))
+        > valueBuffer.capacity()) {
+      // the value was truncated; grow the buffer and read it again
+      columnFamilyContext.ensureDirectValueCapacity(valueLength);
+      valueBuffer = columnFamilyContext.getDirectValueBuffer();
+    }
+
+    columnFamilyContext.wrapDirectValueView(valueLength);
+  }
+
+  /**
+   * Writes the key and value currently written in the {@link #columnFamilyContext}, and records the
+   * write in the cache if this column family is cached.
+   */
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    final byte[] value = columnFamilyContext.getValueBufferArray();
+    transaction.put(transactionDb.getDefaultNativeHandle(), key, keyLength, value, valueLength);
+
+    if (cache != null) {
+      cache.put(transaction, key, keyLength, value, valueLength);
+    }
+  }
+
+  /**
+   * Deletes the key currently written in the {@link #columnFamilyContext}, and records the delete
+   * in the cache if this column family is cached.
+   */
+  private void deleteKey(final ZeebeTransaction transaction) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    transaction.delete(transactionDb.getDefaultNativeHandle(), key, keyLength);
+
+    if (cache != null) {
+      cache.delete(transaction, key, keyLength);
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
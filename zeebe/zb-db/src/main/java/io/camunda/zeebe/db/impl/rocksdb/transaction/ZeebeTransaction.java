@@ -9,9 +9,17 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,7 +32,20 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  /**
+   * Writes to cached column families which are not yet committed; the inner maps are reused across
+   * transactions, and only cleared on commit or rollback.
+   */
+  private final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> pendingCacheWrites =
+      new HashMap<>();
+
+  private final List<TransactionListener> listeners = new ArrayList<>();
+
   private boolean inCurrentTransaction;
+
+  /** Set once the current transaction was committed, so a later rollback is not reported. */
+  private boolean committed;
+
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -80,6 +101,40 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the value for the given key straight into the given direct buffer, without allocating an
+   * intermediate array on the heap. If the value is larger than the buffer's capacity, only the
+   * first bytes are copied; callers should then grow the buffer and read again.
+   *
+   * @return the full length of the value, or -1 if the key does not exist
+   */
+  public int getDirect(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final ByteBuffer key,
+      final int keyLength,
+      final ByteBuffer value)
+      throws Exception {
+    try {
+      final int keyOffset = 0;
+      final int valueOffset = 0;
+      return (int)
+          RocksDbInternal.getDirectWithHandle.invokeExact(
+              nativeHandle,
+              readOptionsHandle,
+              key,
+              keyOffset,
+              keyLength,
+              value,
+              valueOffset,
+              value.capacity(),
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return -1; // unreachable
+    }
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -90,6 +145,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up the values of all given keys with a single call, all within the same column family.
+   *
+   * @return the values in the same order as the given keys, with null for keys which do not exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
@@ -97,6 +163,16 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    committed = false;
+    clearPendingCacheWrites();
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  Map<DirectBuffer, byte[]> pendingCacheWrites(final ColumnFamilyCache cache) {
+    return pendingCacheWrites.computeIfAbsent(cache, ignored -> new HashMap<>());
   }
 
   boolean isInCurrentTransaction() {
@@ -145,11 +221,27 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    // only publish cached writes once we know they are durable in the DB
+    pendingCacheWrites.forEach(ColumnFamilyCache::apply);
+    clearPendingCacheWrites();
+    committed = true;
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    clearPendingCacheWrites();
+    try {
+      transaction.rollback();
+    } finally {
+      if (!committed) {
+        listeners.forEach(TransactionListener::onRollback);
+      }
+    }
+  }
+
+  private void clearPendingCacheWrites() {
+    pendingCacheWrites.values().forEach(Map::clear);
   }
 
   @Override
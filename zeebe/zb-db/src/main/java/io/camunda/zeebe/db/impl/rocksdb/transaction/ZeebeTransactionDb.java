@@ -26,7 +26,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -49,11 +52,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final long defaultReadOptionsNativeHandle;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final Set<String> cachedColumnFamilies;
+  private final int columnFamilyCacheSize;
+  private final boolean zeroCopyReadsEnabled;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> columnFamilyCaches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -68,6 +77,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
+    zeroCopyReadsEnabled = rocksDbConfiguration.isZeroCopyReadsEnabled();
 
     prefixReadOptions =
         new ReadOptions()
@@ -79,6 +91,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
             .setReadaheadSize(0);
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
+    defaultReadOptionsNativeHandle = getNativeHandle(defaultReadOptions);
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
@@ -132,12 +145,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected ColumnFamilyHandle getDefaultHandle() {
     return defaultHandle;
   }
 
   protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+    return defaultReadOptionsNativeHandle;
+  }
+
+  protected boolean isZeroCopyReadsEnabled() {
+    return zeroCopyReadsEnabled;
   }
 
   protected long getDefaultNativeHandle() {
@@ -165,7 +186,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        getColumnFamilyCache(columnFamily));
+  }
+
+  /**
+   * Returns the cache shared by all instances of the given column family, or null if the column
+   * family is not configured to be cached.
+   */
+  private ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    if (!cachedColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return columnFamilyCaches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamilyCacheSize));
   }
 
   @Override
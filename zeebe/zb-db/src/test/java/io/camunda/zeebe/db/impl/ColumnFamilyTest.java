@@ -124,6 +124,70 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldGetAllValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(longKey(3), longKey(1), longKey(2));
+
+    // when
+    final List<Long> keyValues = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.getAll(
+        keys,
+        (key, value) -> {
+          keyValues.add(key.getValue());
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(keyValues).containsExactly(3L, 1L, 2L);
+    assertThat(values).containsExactly(30L, 10L, 20L);
+  }
+
+  @Test
+  public void shouldSkipMissingKeysOnGetAll() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(longKey(1), longKey(2), longKey(3));
+
+    // when
+    final List<Long> keyValues = new ArrayList<>();
+    columnFamily.getAll(keys, (key, value) -> keyValues.add(key.getValue()));
+
+    // then
+    assertThat(keyValues).containsExactly(1L, 3L);
+  }
+
+  @Test
+  public void shouldGetAllUncommittedValuesWithinTransaction() throws Exception {
+    // given
+    final var context = zeebeDb.createContext();
+    final ColumnFamily<DbLong, DbLong> transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    final var transaction = context.getCurrentTransaction();
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(10);
+          transactionalColumnFamily.insert(key, value);
+          transactionalColumnFamily.getAll(
+              List.of(longKey(1)), (key, value) -> values.add(value.getValue()));
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(10L);
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -466,6 +530,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private static DbLong longKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File pathName) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name()))
+                .setColumnFamilyCacheSize(2),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    db = factory.createDb(pathName);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadUncommittedWritesWithinTransaction() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 10));
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(10));
+    transaction.commit();
+  }
+
+  @Test
+  void shouldNotSeeUncommittedWritesFromOtherTransaction() throws Exception {
+    // given
+    final var otherContext = db.createContext();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, key, value);
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 20));
+
+    // then
+    key.wrapLong(1);
+    assertThat(otherColumnFamily.get(key).getValue()).isEqualTo(10);
+    transaction.commit();
+    assertThat(otherColumnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDropWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(() -> upsert(1, 20));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldDropDeletesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          assertThat(columnFamily.exists(key)).isFalse();
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldSeeCommittedDelete() {
+    // given
+    upsert(1, 10);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(columnFamily.exists(key)).isFalse();
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  void shouldEvictEntriesBeyondSize() {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+
+    // when
+    upsert(3, 30);
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isEqualTo(20);
+    assertThat(get(3)).isEqualTo(30);
+  }
+
+  @Test
+  void shouldGetAllThroughCache() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+    final var transaction = context.getCurrentTransaction();
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(3, 30);
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          columnFamily.getAll(
+              List.of(longKey(1), longKey(2), longKey(3)),
+              (key, value) -> values.add(value.getValue()));
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(20L, 30L);
+  }
+
+  private void upsert(final long keyValue, final long valueValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(valueValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private long get(final long keyValue) {
+    key.wrapLong(keyValue);
+    return columnFamily.get(key).getValue();
+  }
+
+  private static DbLong longKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+}
@@ -9,9 +9,12 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -214,4 +217,53 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyListenerOnCommit() {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addListener(listener);
+
+    // when
+    transactionContext.runInTransaction(() -> {});
+
+    // then
+    verify(listener).onCommit();
+    verify(listener, never()).onRollback();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addListener(listener);
+
+    // when
+    try {
+      transactionContext.runInTransaction(
+          () -> {
+            throw new IllegalStateException("expected");
+          });
+    } catch (final IllegalStateException ignored) {
+      // expected
+    }
+
+    // then
+    verify(listener).onRollback();
+    verify(listener, never()).onCommit();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnExplicitRollback() throws Exception {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addListener(listener);
+    final ZeebeDbTransaction currentTransaction = transactionContext.getCurrentTransaction();
+
+    // when
+    currentTransaction.rollback();
+
+    // then
+    verify(listener).onRollback();
+  }
 }
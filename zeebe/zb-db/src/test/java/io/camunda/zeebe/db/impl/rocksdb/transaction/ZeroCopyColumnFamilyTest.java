@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ZeroCopyColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbBytes value = new DbBytes();
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbBytes> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File pathName) {
+    db = createDb(pathName, new RocksDbConfiguration().setZeroCopyReadsEnabled(true));
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadValue() {
+    // given
+    final var expected = randomBytes(16);
+    upsert(1, expected);
+
+    // when
+    final var actual = get(1);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldReadValueLargerThanInitialBuffer() {
+    // given
+    final var expected = randomBytes(64 * 1024);
+    upsert(1, expected);
+
+    // when
+    final var actual = get(1);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldReadSmallerValueAfterLargerValue() {
+    // given
+    final var large = randomBytes(64 * 1024);
+    final var small = randomBytes(8);
+    upsert(1, large);
+    upsert(2, small);
+
+    // when
+    get(1);
+    final var actual = get(2);
+
+    // then
+    assertThat(actual).isEqualTo(small);
+  }
+
+  @Test
+  void shouldNotFindMissingKey() {
+    // given
+    upsert(1, randomBytes(16));
+    key.wrapLong(2);
+
+    // when - then
+    assertThat(columnFamily.get(key)).isNull();
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldReadUncommittedWritesWithinTransaction() throws Exception {
+    // given
+    final var expected = randomBytes(16);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, expected));
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(expected));
+    transaction.rollback();
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldPopulateCacheWithCopyOfValue(final @TempDir File pathName) throws Exception {
+    // given
+    final var first = randomBytes(16);
+    final var second = randomBytes(16);
+    final var dbPath = new File(pathName, "cached");
+    try (final var uncachedDb = createDb(dbPath, new RocksDbConfiguration())) {
+      final var uncachedColumnFamily =
+          uncachedDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, uncachedDb.createContext(), key, value);
+      key.wrapLong(1);
+      value.wrapBytes(first);
+      uncachedColumnFamily.upsert(key, value);
+      key.wrapLong(2);
+      value.wrapBytes(second);
+      uncachedColumnFamily.upsert(key, value);
+    }
+
+    try (final var cachedDb =
+        createDb(
+            dbPath,
+            new RocksDbConfiguration()
+                .setZeroCopyReadsEnabled(true)
+                .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name())))) {
+      final var cachedColumnFamily =
+          cachedDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, cachedDb.createContext(), key, value);
+
+      // when - both reads miss the cache and reuse the same direct buffer
+      key.wrapLong(1);
+      cachedColumnFamily.get(key);
+      key.wrapLong(2);
+      cachedColumnFamily.get(key);
+
+      // then
+      key.wrapLong(1);
+      assertThat(cachedColumnFamily.get(key).getBytes()).isEqualTo(first);
+    }
+  }
+
+  private ZeebeDb<DefaultColumnFamily> createDb(
+      final File pathName, final RocksDbConfiguration configuration) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            configuration,
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    return factory.createDb(pathName);
+  }
+
+  private void upsert(final long keyValue, final byte[] bytes) {
+    key.wrapLong(keyValue);
+    value.wrapBytes(bytes);
+    columnFamily.upsert(key, value);
+  }
+
+  private byte[] get(final long keyValue) {
+    key.wrapLong(keyValue);
+    return columnFamily.get(key).getBytes();
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final var bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return bytes;
+  }
+}
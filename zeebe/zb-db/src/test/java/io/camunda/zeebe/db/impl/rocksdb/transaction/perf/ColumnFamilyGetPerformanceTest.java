@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Compares point reads going through the heap allocating read path with the zero-copy read path.
+ * The heap path is measured first and serves as the reference: the zero-copy path must allocate
+ * less per operation ({@code gc.alloc.rate.norm}, reported by the GC profiler), without losing
+ * throughput.
+ *
+ * <p>Values are only wrapped, not copied, on read, such that the benchmark measures the allocations
+ * of the read path itself and not of the value deserialization.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyGetPerformanceTest {
+  private static final int KEY_COUNT = 10_000;
+  private static final int VALUE_SIZE = 1024;
+  // both paths copy each value out of RocksDB once; the zero-copy path only saves allocating it, so
+  // its throughput is expected to be about the same
+  private static final double MAX_DEVIATION = 0.1;
+
+  @Param({"false", "true"})
+  public boolean zeroCopyReads;
+
+  private final DbLong key = new DbLong();
+  private final BufferValue value = new BufferValue();
+
+  private Path dbPath;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbLong, BufferValue> columnFamily;
+
+  @Setup
+  public void setup() throws Exception {
+    dbPath = Files.createTempDirectory("zb-db-perf");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setZeroCopyReadsEnabled(zeroCopyReads),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(dbPath.toFile());
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+    value.wrap(new UnsafeBuffer(new byte[VALUE_SIZE]), 0, VALUE_SIZE);
+    for (long i = 0; i < KEY_COUNT; i++) {
+      key.wrapLong(i);
+      columnFamily.insert(key, value);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(dbPath.toFile(), true);
+  }
+
+  @JMHTest("measureGet")
+  void shouldReadWithLessAllocationsOnZeroCopyPath(final JMHTestCase testCase) {
+    // given
+    final var heapResult = run(testCase, false).actual();
+    final double heapScore = heapResult.getPrimaryResult().getScore();
+
+    // when
+    final var assertResult =
+        run(JMHTestCase.of(ColumnFamilyGetPerformanceTest.class, "measureGet"), true);
+
+    // then
+    assertResult.isAtLeast(heapScore, MAX_DEVIATION);
+    assertThat(allocationPerOperation(assertResult.actual()))
+        .isLessThan(allocationPerOperation(heapResult));
+  }
+
+  @Benchmark
+  public int measureGet() {
+    key.wrapLong(ThreadLocalRandom.current().nextLong(KEY_COUNT));
+    return columnFamily.get(key).getLength();
+  }
+
+  private static JMHAssert run(final JMHTestCase testCase, final boolean zeroCopyReads) {
+    return testCase
+        .withOptions(
+            options ->
+                options
+                    .param("zeroCopyReads", String.valueOf(zeroCopyReads))
+                    .addProfiler(GCProfiler.class))
+        .run();
+  }
+
+  private static double allocationPerOperation(final RunResult result) {
+    return result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+  }
+
+  /** A value which only wraps the serialized bytes, without copying them. */
+  private static final class BufferValue implements DbValue {
+    private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+
+    @Override
+    public void wrap(final DirectBuffer directBuffer, final int offset, final int length) {
+      buffer.wrap(directBuffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return buffer.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer mutableDirectBuffer, final int offset) {
+      mutableDirectBuffer.putBytes(offset, buffer, 0, buffer.capacity());
+    }
+  }
+}